@@ -0,0 +1,191 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractTicketPool holds the state shared by every ticket pool engine and builds the
+ * domain events that report pool operations, so that each engine only has to implement
+ * its own inventory and locking strategy. Ticket counters are kept in {@link PoolStatistics},
+ * so reading them never takes an engine's lock.
+ *
+ * Engines publish an event while they still hold their lock, which appends it to the event
+ * stream in mutation order without waiting for its consumers, and wait for a full backlog only
+ * after releasing the lock. Persisting and broadcasting the event happen asynchronously in the
+ * {@link PoolEventPipeline}.
+ */
+public abstract class AbstractTicketPool implements TicketPool {
+    protected final ConfigurationData configurationData;
+    protected final PoolEventStream eventStream;
+    protected final SimulationClock clock;
+    protected final PoolStatistics statistics = new PoolStatistics();
+    protected final int maxCapacity;
+
+    /**
+     * Constructs a new pool sized from the configured maximum ticket capacity.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times and deadlines are measured with.
+     */
+    protected AbstractTicketPool(ConfigurationData configurationData, PoolEventStream eventStream,
+                                 SimulationClock clock) {
+        this.configurationData = configurationData;
+        this.eventStream = eventStream;
+        this.clock = clock;
+        this.maxCapacity = configurationData.getMaxTicketCapacity();
+    }
+
+    /**
+     * Retrieves tickets from the pool based on the given request, waiting until
+     * enough tickets are available.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    @Override
+    public void retrieveTickets(TicketRetrievalRequest request) throws InterruptedException {
+        retrieveTickets(request, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Arranges for an asynchronous retrieval to be withdrawn from the pool when its future is
+     * cancelled or times out before the pool completes it. The withdrawal runs on the thread that
+     * abandons the future, which for a timeout is the timer thread shared by every deadline, so it
+     * must never wait for the event backlog.
+     *
+     * @param future The future of the retrieval.
+     * @param withdraw Withdraws the retrieval from the pool.
+     */
+    protected static void withdrawWhenAbandoned(RetrievalFuture future, Runnable withdraw) {
+        future.whenComplete((tickets, failure) -> {
+            if (future.isAbandoned()) {
+                withdraw.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the time an asynchronous retrieval started waiting from: the time it was due to be made
+     * if its customer arrives open loop, or now otherwise. Measuring from the due time means a request
+     * made late because the customer fell behind still counts the delay in its wait time.
+     *
+     * @param request The retrieval request.
+     * @return The start time, from the pool clock.
+     */
+    protected long startNanos(TicketRetrievalRequest request) {
+        return request.hasIntendedStart() ? request.getIntendedStartNanos() : clock.nanoTime();
+    }
+
+    /**
+     * Retrieves the number of retrieval requests that gave up because their deadline passed.
+     *
+     * @return Total number of retrieval timeouts.
+     */
+    @Override
+    public long getRetrievalTimeoutCount() {
+        return statistics.getRetrievalTimeouts();
+    }
+
+    /**
+     * Returns the maximum number of tickets the pool can hold.
+     *
+     * @return The maximum ticket capacity.
+     */
+    @Override
+    public int getCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * Returns the ticket counters of the pool as they were at a single moment.
+     * The snapshot is taken without blocking vendors or customers; if updates never pause long
+     * enough for a consistent read, the counters are sampled one after another instead.
+     *
+     * @return An internally consistent snapshot of the pool counters.
+     */
+    @Override
+    public PoolCounters snapshot() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Summarises how long served retrieval requests of one priority class waited.
+     *
+     * @param priorityClass The priority class to summarise.
+     * @return The wait time statistics.
+     */
+    @Override
+    public WaitTimeStats getWaitTimeStats(PriorityClass priorityClass) {
+        return statistics.waitTimeStats(priorityClass);
+    }
+
+    /**
+     * Takes a copy of the wait times of served requests of one priority class recorded so far.
+     *
+     * @param priorityClass The priority class.
+     * @return A copy of the wait time histogram.
+     */
+    @Override
+    public WaitTimeHistogram getWaitTimeHistogram(PriorityClass priorityClass) {
+        return statistics.waitTimeHistogram(priorityClass);
+    }
+
+    /**
+     * Publishes the event for a successful ticket addition.
+     *
+     * @param ticketsAdded The number of tickets added.
+     * @param counters The pool counters after the addition.
+     */
+    protected void publishTicketsAdded(int ticketsAdded, PoolCounters counters) {
+        eventStream.append(sequence -> new PoolEvent.TicketsAdded(eventStream.getKey(), sequence, ticketsAdded, counters));
+    }
+
+    /**
+     * Publishes the event for a successful ticket retrieval.
+     *
+     * @param request The retrieval request that was served.
+     * @param counters The pool counters after the retrieval.
+     */
+    protected void publishTicketsRetrieved(TicketRetrievalRequest request, PoolCounters counters) {
+        eventStream.append(sequence -> new PoolEvent.TicketsRetrieved(eventStream.getKey(), sequence,
+                request.getCustomerId(), request.getPriorityClass(), request.getTicketsPerRetrieval(), counters));
+    }
+
+    /**
+     * Publishes the event for a retrieval that could not be served because the pool ran short of tickets.
+     *
+     * @param request The retrieval request that failed.
+     */
+    protected void publishRetrievalFailed(TicketRetrievalRequest request) {
+        eventStream.append(sequence -> new PoolEvent.RetrievalFailed(eventStream.getKey(), sequence,
+                request.getCustomerId(), request.getPriorityClass(), "Insufficient tickets"));
+    }
+
+    /**
+     * Publishes the event for a retrieval whose deadline passed and counts the timeout.
+     *
+     * @param request The retrieval request that timed out.
+     * @param waitedNanos How long the request waited, in nanoseconds.
+     */
+    protected void publishRetrievalTimedOut(TicketRetrievalRequest request, long waitedNanos) {
+        statistics.recordTimeout();
+        eventStream.append(sequence -> new PoolEvent.RetrievalTimedOut(eventStream.getKey(), sequence,
+                request.getCustomerId(), request.getPriorityClass(), TimeUnit.NANOSECONDS.toMillis(waitedNanos)));
+    }
+
+    /**
+     * Publishes the event for a cleared pool.
+     *
+     * @param counters The pool counters after the pool was cleared.
+     */
+    protected void publishPoolCleared(PoolCounters counters) {
+        eventStream.append(sequence -> new PoolEvent.PoolCleared(eventStream.getKey(), sequence, counters));
+    }
+}
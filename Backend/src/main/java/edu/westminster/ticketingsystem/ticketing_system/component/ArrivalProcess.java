@@ -0,0 +1,105 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ArrivalModel;
+
+import java.util.SplittableRandom;
+
+/**
+ * The ArrivalProcess class generates the times an open-loop customer's requests are due, following
+ * an {@link ArrivalModel}. The times depend only on the model, the mean gap and the seed, never on how
+ * quickly earlier requests were served, so a customer that falls behind catches up by making every
+ * request that has come due, each still carrying the time it was due at.
+ *
+ * An arrival process belongs to one customer and is not thread-safe.
+ */
+public class ArrivalProcess {
+    private final ArrivalModel model;
+    private final long meanGapNanos;
+    private final int burstSize;
+    private final SplittableRandom random;
+    private long nextArrivalNanos;
+    private int remainingInBurst;
+
+    /**
+     * Constructs a new ArrivalProcess.
+     *
+     * @param model The arrival model; must not be the closed loop.
+     * @param meanGapNanos The mean time between arrivals in nanoseconds.
+     * @param burstSize The number of arrivals in a burst, in the bursty model.
+     * @param seed The seed of the random number generator.
+     * @throws IllegalArgumentException if the model is the closed loop, or the gap or burst size is not positive.
+     */
+    public ArrivalProcess(ArrivalModel model, long meanGapNanos, int burstSize, long seed) {
+        if (model == ArrivalModel.CLOSED_LOOP) {
+            throw new IllegalArgumentException("Closed-loop customers have no arrival process");
+        }
+        if (meanGapNanos <= 0 || burstSize <= 0) {
+            throw new IllegalArgumentException("Mean gap and burst size must be greater than 0");
+        }
+        this.model = model;
+        this.meanGapNanos = meanGapNanos;
+        this.burstSize = burstSize;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Starts the process. At a constant rate the first arrival is at a random point within the first
+     * gap, so that customers started together do not all arrive at once; otherwise it is one random gap away.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     */
+    public void start(long nowNanos) {
+        remainingInBurst = burstSize;
+        nextArrivalNanos = nowNanos + (model == ArrivalModel.CONSTANT_RATE
+                ? random.nextLong(meanGapNanos)
+                : nextGap());
+    }
+
+    /**
+     * Returns the time the next arrival is due.
+     *
+     * @return The due time in nanoseconds.
+     */
+    public long peek() {
+        return nextArrivalNanos;
+    }
+
+    /**
+     * Takes the next arrival and moves on to the one after it.
+     *
+     * @return The time the arrival was due in nanoseconds.
+     */
+    public long take() {
+        long dueNanos = nextArrivalNanos;
+        if (model == ArrivalModel.BURSTY && --remainingInBurst > 0) {
+            return dueNanos; // The rest of the burst arrives at the same time
+        }
+        remainingInBurst = burstSize;
+        nextArrivalNanos += nextGap();
+        return dueNanos;
+    }
+
+    /**
+     * Draws the gap to the next arrival, or to the next burst in the bursty model.
+     *
+     * @return The gap in nanoseconds.
+     */
+    private long nextGap() {
+        return switch (model) {
+            case CONSTANT_RATE -> meanGapNanos;
+            case POISSON -> exponential(meanGapNanos);
+            case BURSTY -> exponential(meanGapNanos * burstSize);
+            case CLOSED_LOOP -> throw new IllegalStateException("Closed-loop customers have no arrival process");
+        };
+    }
+
+    /**
+     * Draws an exponentially distributed gap, the gap between the arrivals of a Poisson process.
+     *
+     * @param meanNanos The mean of the distribution in nanoseconds.
+     * @return The gap in nanoseconds.
+     */
+    private long exponential(long meanNanos) {
+        return (long) (-Math.log(1.0 - random.nextDouble()) * meanNanos);
+    }
+}
@@ -0,0 +1,532 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The CombiningTicketPool class serves ticket retrievals through a flat-combining front end.
+ * Instead of every customer thread taking the pool lock for its own request, a request is
+ * published to a slot array and the thread that wins the lock becomes the combiner: it moves
+ * every published request into the {@link RetrievalQueue}, in the order the requests were published,
+ * and serves as many requests from the head of the queue as the inventory allows, all under a single
+ * lock acquisition. The owners of served requests are unparked and return without touching the lock again.
+ *
+ * Requests that cannot be served yet stay queued; the next vendor that adds tickets, or the
+ * next combiner, serves them in order; a request whose deadline passes withdraws itself. Asynchronous
+ * requests have no thread behind them: they join the queue under the lock and their futures are
+ * completed by whichever combiner serves them. Serving order follows the configured scheduling policy,
+ * as in the {@link FairTicketPool}. Vendors that wait for capacity park on a not-full condition of
+ * the lock and are woken one at a time by the combiners that free space.
+ */
+public class CombiningTicketPool extends AbstractTicketPool {
+    private static final int PENDING = 0;   // Published to a slot, not yet seen by a combiner
+    private static final int QUEUED = 1;    // In the request queue, waiting for tickets
+    private static final int SERVED = 2;
+    private static final int FAILED = 3;    // The pool was cleared while the request waited
+    private static final int CANCELLED = 4; // Withdrawn after a timeout or interrupt before it was served
+
+    /**
+     * How long the owner of a published request parks before trying to combine again.
+     * This covers the case where the combiner scanned the slots just before the request was published.
+     */
+    private static final long PENDING_PARK_NANOS = 50_000;
+
+    private final TicketRingBuffer tickets;
+    private final ReentrantLock lock = new ReentrantLock(); // Fairness comes from the request queue
+    private final AtomicReferenceArray<Node> slots;
+    private final int slotMask;
+    private final AtomicLong nextPublication = new AtomicLong(); // Orders requests published in the same pass
+    private final List<Node> drained = new ArrayList<>(); // Guarded by the lock
+    private final RetrievalQueue<Node> requestQueue;
+    private final Condition notFull = lock.newCondition();
+    private int waitingVendors = 0; // Guarded by the lock
+    private final LongAdder wakeUps = new LongAdder();
+    private final LongAdder spuriousWakeUps = new LongAdder();
+
+    /**
+     * Constructs a new CombiningTicketPool with twice as many publication slots as processors,
+     * rounded up to a power of two.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     */
+    public CombiningTicketPool(ConfigurationData configurationData, PoolEventStream eventStream) {
+        this(configurationData, eventStream, SimulationClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a new CombiningTicketPool that measures time with the given clock.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times are measured with.
+     */
+    public CombiningTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock) {
+        super(configurationData, eventStream, clock);
+        this.tickets = new TicketRingBuffer(maxCapacity);
+        int slotCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.slotMask = slotCount - 1;
+        this.requestQueue = new RetrievalQueue<>(configurationData, Node::request);
+    }
+
+    /**
+     * Adds tickets to the pool if there is sufficient capacity, then serves every queued
+     * request the new tickets allow while still holding the lock.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @return true if tickets were added successfully, false if there was insufficient capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds) {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            if (!tickets.addAll(ticketIds)) {
+                return false;
+            }
+            ticketsAdded(ticketIds.length, update);
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        return true;
+    }
+
+    /**
+     * Adds tickets to the pool, waiting at most the given time for enough capacity, then serves every
+     * queued request the new tickets allow while still holding the lock.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if tickets were added successfully, false if the deadline passed without enough capacity.
+     * @throws InterruptedException If the thread is interrupted while waiting for capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds, long timeout, TimeUnit unit) throws InterruptedException {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        boolean added;
+        lock.lock();
+        try {
+            long remainingNanos = unit.toNanos(timeout);
+            waitingVendors++;
+            try {
+                while (!(added = tickets.addAll(ticketIds)) && remainingNanos > 0) {
+                    remainingNanos = notFull.awaitNanos(remainingNanos);
+                }
+            } finally {
+                waitingVendors--;
+                // This vendor may have taken a wake-up meant for the vendors behind it
+                signalVendor();
+            }
+            if (added) {
+                ticketsAdded(ticketIds.length, update);
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        return added;
+    }
+
+    /**
+     * Publishes the request and waits until a combiner has served it, combining itself
+     * whenever the lock is free. If the deadline passes or the thread is interrupted before the
+     * request is served, the request is withdrawn and the next request in line gets a chance to be served.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if the tickets were retrieved, false if the deadline passed or the pool was cleared.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    @Override
+    public boolean retrieveTickets(TicketRetrievalRequest request, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long timeoutNanos = unit.toNanos(timeout);
+        Node node = new Node(request, Thread.currentThread(), null, clock.nanoTime());
+        if (!publish(node)) {
+            // Every slot is taken, so join the queue directly
+            enqueue(node);
+        }
+
+        while (node.state < SERVED) {
+            if (lock.tryLock()) {
+                PoolUpdate update = new PoolUpdate(eventStream);
+                try {
+                    combine(update);
+                } finally {
+                    lock.unlock();
+                }
+                update.deliver();
+                if (node.state >= SERVED) {
+                    break;
+                }
+            }
+
+            long remainingNanos = timeoutNanos - (clock.nanoTime() - node.publishedNanos);
+            if (remainingNanos <= 0) {
+                if (withdraw(node, true, true)) {
+                    return false;
+                }
+                break; // Served or failed just before the deadline
+            }
+
+            if (node.state == PENDING) {
+                LockSupport.parkNanos(this, Math.min(PENDING_PARK_NANOS, remainingNanos));
+            } else {
+                LockSupport.parkNanos(this, remainingNanos);
+                boolean expired = clock.nanoTime() - node.publishedNanos >= timeoutNanos;
+                if (node.state >= SERVED || !expired) {
+                    // Unparked before the deadline; an expired deadline is counted as a timeout instead
+                    wakeUps.increment();
+                    if (node.state < SERVED) {
+                        spuriousWakeUps.increment();
+                    }
+                }
+            }
+
+            if (Thread.interrupted()) {
+                if (withdraw(node, false, true)) {
+                    throw new InterruptedException();
+                }
+                // The request was served before it could be withdrawn; keep the interrupt for the caller
+                Thread.currentThread().interrupt();
+            }
+        }
+        return node.state == SERVED;
+    }
+
+    /**
+     * Leaves a retrieval request in the queue without blocking the calling thread. The request
+     * joins the queue under the lock and is served by the same combining pass if there are
+     * enough tickets for it.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @return A future completed with the retrieved tickets.
+     */
+    @Override
+    public CompletableFuture<List<Ticket>> retrieveTicketsAsync(TicketRetrievalRequest request) {
+        RetrievalFuture future = new RetrievalFuture();
+        Node node = new Node(request, null, future, startNanos(request));
+        enqueue(node);
+        withdrawWhenAbandoned(future, () -> withdraw(node, future.isTimedOut(), false));
+        return future;
+    }
+
+    /**
+     * Clears all tickets and resets the pool data. Requests that are still waiting fail.
+     */
+    @Override
+    public void clearPoolData() {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            drainSlots();
+            List<Node> failed = requestQueue.drain();
+            tickets.clear();
+            statistics.reset();
+
+            publishPoolCleared(counters());
+            signalVendor();
+            for (Node node : failed) {
+                if (node.state == CANCELLED) {
+                    continue;
+                }
+                if (node.isAsync() && !node.future.claim()) {
+                    abandon(node);
+                    continue;
+                }
+                publishRetrievalFailed(node.request());
+                node.state = FAILED;
+                if (node.isAsync()) {
+                    update.failCleared(node.future);
+                } else {
+                    LockSupport.unpark(node.owner);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+    }
+
+    /**
+     * Retrieves the number of times a queued request's thread was unparked.
+     *
+     * @return Total number of wake-ups.
+     */
+    @Override
+    public long getWakeUpCount() {
+        return wakeUps.sum();
+    }
+
+    /**
+     * Retrieves the number of wake-ups after which the request still had not been served.
+     *
+     * @return Total number of spurious wake-ups.
+     */
+    @Override
+    public long getSpuriousWakeUpCount() {
+        return spuriousWakeUps.sum();
+    }
+
+    /**
+     * Returns the engine mode implemented by this pool.
+     *
+     * @return {@link TicketPoolMode#FLAT_COMBINING}.
+     */
+    @Override
+    public TicketPoolMode getMode() {
+        return TicketPoolMode.FLAT_COMBINING;
+    }
+
+    /**
+     * Publishes a request to a free slot, starting from a slot derived from the calling thread
+     * so that concurrent callers rarely collide.
+     *
+     * @param node The request to publish.
+     * @return true if the request was published, false if every slot was taken.
+     */
+    private boolean publish(Node node) {
+        node.publication = nextPublication.getAndIncrement();
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i <= slotMask; i++) {
+            int index = (start + i) & slotMask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, node)) {
+                node.slot = index;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a request straight to the request queue, behind the requests already published to the
+     * slots, and runs a combining pass.
+     *
+     * @param node The request to enqueue.
+     */
+    private void enqueue(Node node) {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            drainSlots();
+            node.state = QUEUED;
+            requestQueue.add(node);
+            combine(update);
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+    }
+
+    /**
+     * Moves every published request into the request queue in the order the requests were published,
+     * not the order of their slots, so that requests of the same class keep their arrival order.
+     * Must be called while holding the lock.
+     */
+    private void drainSlots() {
+        for (int i = 0; i <= slotMask; i++) {
+            Node node = slots.get(i);
+            if (node != null) {
+                slots.set(i, null);
+                drained.add(node);
+            }
+        }
+        if (drained.size() > 1) {
+            drained.sort(Comparator.comparingLong(node -> node.publication));
+        }
+        for (Node node : drained) {
+            node.state = QUEUED;
+            requestQueue.add(node);
+        }
+        drained.clear();
+    }
+
+    /**
+     * Runs one combining pass: collects the published requests and serves requests from the
+     * head of the queue while there are enough tickets for them. Withdrawn requests, and
+     * asynchronous requests that were abandoned, are dropped once they reach the head.
+     * Must be called while holding the lock.
+     *
+     * @param update The update the completions of served asynchronous requests are added to.
+     */
+    private void combine(PoolUpdate update) {
+        drainSlots();
+        Node head;
+        while ((head = requestQueue.peek()) != null) {
+            if (head.state == CANCELLED || head.isAsync() && head.future.isAbandoned()) {
+                // Removing the head of the queue does not have to search it
+                requestQueue.remove(head);
+                if (head.state != CANCELLED) {
+                    abandon(head);
+                }
+                continue;
+            }
+            if (tickets.size() < head.request().getTicketsPerRetrieval()) {
+                break;
+            }
+            if (head.isAsync() && !head.future.claim()) {
+                continue; // Abandoned since the check above; dropped on the next pass
+            }
+            requestQueue.poll();
+            serve(head, update);
+            head.state = SERVED;
+            if (!head.isAsync()) {
+                LockSupport.unpark(head.owner);
+            }
+        }
+    }
+
+    /**
+     * Withdraws a request whose deadline passed, whose owner was interrupted or whose future was
+     * abandoned, unless it has already been served. A queued request is only marked as cancelled
+     * and stays in the queue until it reaches the head, so that withdrawing it does not have to search the queue.
+     *
+     * @param node The request to withdraw.
+     * @param timedOut Whether the request is withdrawn because its deadline passed.
+     * @param awaitBacklog Whether to wait for room in the event backlog; false for abandoned asynchronous requests.
+     * @return true if the request was withdrawn, false if it had already been served or failed.
+     */
+    private boolean withdraw(Node node, boolean timedOut, boolean awaitBacklog) {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        boolean withdrawn = false;
+        lock.lock();
+        try {
+            if (node.state == PENDING) {
+                slots.compareAndSet(node.slot, node, null);
+                withdrawn = true;
+            } else if (node.state == QUEUED) {
+                withdrawn = true;
+            }
+            if (withdrawn) {
+                node.state = CANCELLED;
+                if (timedOut) {
+                    publishRetrievalTimedOut(node.request(), clock.nanoTime() - node.publishedNanos);
+                }
+                // The withdrawn request may have been blocking smaller requests behind it
+                combine(update);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (awaitBacklog) {
+            update.deliver();
+        } else {
+            update.deliverWithoutWaiting();
+        }
+        return withdrawn;
+    }
+
+    /**
+     * Marks an asynchronous request whose future was cancelled or timed out as cancelled, reporting it
+     * if it timed out. Must be called while holding the lock.
+     *
+     * @param node The abandoned request.
+     */
+    private void abandon(Node node) {
+        node.state = CANCELLED;
+        if (node.future.isTimedOut()) {
+            publishRetrievalTimedOut(node.request(), clock.nanoTime() - node.publishedNanos);
+        }
+    }
+
+    /**
+     * Takes the tickets for a request and updates the counters. Must be called while holding the lock.
+     *
+     * @param node The request to serve.
+     * @param update The update the completion of an asynchronous request is added to.
+     */
+    private void serve(Node node, PoolUpdate update) {
+        TicketRetrievalRequest request = node.request();
+        List<Ticket> retrieved = tickets.take(request.getTicketsPerRetrieval());
+
+        statistics.recordRetrieved(request.getTicketsPerRetrieval(), request.getPriorityClass(),
+                clock.nanoTime() - node.publishedNanos);
+        publishTicketsRetrieved(request, counters());
+        if (node.isAsync()) {
+            update.complete(node.future, retrieved);
+        }
+        signalVendor();
+    }
+
+    /**
+     * Counts tickets that have been added to the inventory and serves the requests they make
+     * servable. Must be called while holding the lock.
+     *
+     * @param ticketsAdded The number of tickets added.
+     * @param update The update the completions of served asynchronous requests are added to.
+     */
+    private void ticketsAdded(int ticketsAdded, PoolUpdate update) {
+        statistics.recordAdded(ticketsAdded);
+
+        publishTicketsAdded(ticketsAdded, counters());
+        combine(update);
+    }
+
+    /**
+     * Wakes up the longest waiting vendor if the pool has free capacity. Must be called while holding the lock.
+     */
+    private void signalVendor() {
+        if (waitingVendors > 0 && tickets.size() < tickets.capacity()) {
+            notFull.signal();
+        }
+    }
+
+    /**
+     * Captures the current pool counters. Must be called while holding the lock, so no other
+     * update can be in progress and the snapshot is taken without retrying.
+     *
+     * @return The pool counters.
+     */
+    private PoolCounters counters() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * A published retrieval request together with the thread waiting for it, or the future that
+     * completes it if the request is asynchronous.
+     */
+    private static final class Node {
+        private final TicketRetrievalRequest request;
+        private final Thread owner;
+        private final RetrievalFuture future;
+        private final long publishedNanos;
+        private volatile int state = PENDING;
+        private int slot = -1;
+        private long publication; // Written before the node is published to a slot
+
+        Node(TicketRetrievalRequest request, Thread owner, RetrievalFuture future,
+             long publishedNanos) {
+            this.request = request;
+            this.owner = owner;
+            this.future = future;
+            this.publishedNanos = publishedNanos;
+        }
+
+        boolean isAsync() {
+            return future != null;
+        }
+
+        TicketRetrievalRequest request() {
+            return request;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The DiscreteEventScheduler class runs a simulation in virtual time. Actions are kept in a
+ * queue ordered by the virtual time they are due at, and running the scheduler repeatedly takes the
+ * earliest action, moves the clock forward to its time and runs it, so no time is spent waiting
+ * between actions. Actions due at the same time run in the order they were scheduled, which makes
+ * a run fully deterministic.
+ *
+ * The scheduler is also the {@link SimulationClock} of the pools it drives, so that their wait times
+ * and retrieval timeouts are measured in virtual time. It is not thread-safe: every action must be
+ * scheduled and run on the thread that runs the scheduler.
+ */
+public class DiscreteEventScheduler implements SimulationClock {
+    private final PriorityQueue<ScheduledAction> actions = new PriorityQueue<>();
+    private long nowNanos = 0;
+    private long nextSequence = 0;
+    private long processedActions = 0;
+
+    /**
+     * Schedules an action to run once after a delay.
+     *
+     * @param delayNanos The delay in virtual nanoseconds.
+     * @param action The action to run.
+     */
+    public void schedule(long delayNanos, Runnable action) {
+        actions.add(new ScheduledAction(nowNanos + Math.max(0, delayNanos), nextSequence++, action));
+    }
+
+    /**
+     * Schedules an action to run periodically. Each run is due exactly one period after the previous
+     * one was due, so the schedule never drifts.
+     *
+     * @param initialDelayNanos The delay before the first run, in virtual nanoseconds.
+     * @param periodNanos The period between runs, in virtual nanoseconds.
+     * @param action The action to run.
+     * @throws IllegalArgumentException if the period is not positive.
+     */
+    public void scheduleAtFixedRate(long initialDelayNanos, long periodNanos, Runnable action) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Period must be greater than 0");
+        }
+        schedule(initialDelayNanos, new Runnable() {
+            private long dueNanos = nowNanos + Math.max(0, initialDelayNanos);
+
+            @Override
+            public void run() {
+                action.run();
+                dueNanos += periodNanos;
+                schedule(dueNanos - nowNanos, this);
+            }
+        });
+    }
+
+    /**
+     * Schedules an action that runs now and then again whenever it says it is next due.
+     *
+     * @param action Takes the current virtual time and returns the virtual time of its next run.
+     */
+    public void scheduleWhenDue(LongUnaryOperator action) {
+        schedule(0, new Runnable() {
+            @Override
+            public void run() {
+                schedule(action.applyAsLong(nowNanos) - nowNanos, this);
+            }
+        });
+    }
+
+    /**
+     * Runs every action due up to the given virtual time, including those scheduled while running,
+     * and leaves the clock at that time.
+     *
+     * @param endNanos The virtual time to run until.
+     */
+    public void runUntil(long endNanos) {
+        runUntil(endNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs every action due up to the given virtual time, as {@link #runUntil(long)} does, but stops
+     * early once the scheduler has run the given number of actions in total. When it stops early,
+     * the clock is left at the time of the last action run. Expiries of futures that completed in the
+     * meantime are dropped without running, and do not count as actions.
+     *
+     * @param endNanos The virtual time to run until.
+     * @param maxProcessedActions The largest total number of actions to run.
+     * @return true if the scheduler reached the end time, false if it stopped at the action limit.
+     */
+    public boolean runUntil(long endNanos, long maxProcessedActions) {
+        while (!actions.isEmpty() && actions.peek().dueNanos() <= endNanos) {
+            if (actions.peek().action() instanceof Expiry expiry && expiry.future().isDone()) {
+                actions.poll();
+                continue;
+            }
+            if (processedActions >= maxProcessedActions) {
+                return false;
+            }
+            ScheduledAction next = actions.poll();
+            nowNanos = next.dueNanos();
+            next.action().run();
+            processedActions++;
+        }
+        nowNanos = Math.max(nowNanos, endNanos);
+        return true;
+    }
+
+    /**
+     * Returns the number of actions run so far.
+     *
+     * @return The processed action count.
+     */
+    public long getProcessedActions() {
+        return processedActions;
+    }
+
+    /**
+     * Returns the current virtual time.
+     *
+     * @return The virtual time in nanoseconds since the simulation started.
+     */
+    @Override
+    public long nanoTime() {
+        return nowNanos;
+    }
+
+    /**
+     * Returns the current virtual time in milliseconds.
+     *
+     * @return The virtual time in milliseconds since the simulation started.
+     */
+    @Override
+    public long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nowNanos);
+    }
+
+    /**
+     * Fails the future with a {@link TimeoutException} once the timeout passes in virtual time,
+     * unless it has been completed by then. An expiry whose future completes first is dropped when it
+     * comes due, without counting as a processed action.
+     *
+     * @param future The future to expire.
+     * @param timeout The time to wait before failing the future.
+     * @param unit The unit of the timeout.
+     */
+    @Override
+    public void expireAfter(CompletableFuture<?> future, long timeout, TimeUnit unit) {
+        schedule(unit.toNanos(timeout), new Expiry(future));
+    }
+
+    /**
+     * An action that fails a future with a {@link TimeoutException} once it comes due.
+     *
+     * @param future The future to expire.
+     */
+    private record Expiry(CompletableFuture<?> future) implements Runnable {
+
+        @Override
+        public void run() {
+            future.completeExceptionally(new TimeoutException());
+        }
+    }
+
+    /**
+     * An action waiting in the queue, ordered by due time and then by the order it was scheduled in.
+     *
+     * @param dueNanos The virtual time the action is due at.
+     * @param sequence The position of the action in the order actions were scheduled.
+     * @param action The action to run.
+     */
+    private record ScheduledAction(long dueNanos, long sequence, Runnable action)
+            implements Comparable<ScheduledAction> {
+
+        @Override
+        public int compareTo(ScheduledAction other) {
+            int byTime = Long.compare(dueNanos, other.dueNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The FairTicketPool class manages the pool of tickets in a thread-safe manner.
+ * It handles operations such as adding tickets, retrieving tickets, and clearing the pool.
+ * The class uses a single fair lock to ensure concurrent safety and a {@link RetrievalQueue}
+ * to handle ticket retrieval requests in the order of the configured scheduling policy.
+ * Tickets are held in a ring buffer sized from the configured maximum capacity, or in another
+ * {@link TicketInventory} supplied by a subclass.
+ *
+ * Each waiting request parks on its own condition, and only the request at the head of
+ * the queue is woken, and only once there are enough tickets for it. A request whose
+ * deadline passes leaves the queue instead of holding up the requests behind it. Asynchronous
+ * requests join the same queue without a thread behind them and are served directly by the call
+ * that makes them satisfiable. The lock only covers the inventory mutation; the resulting events
+ * are published, and futures completed, after it is released.
+ *
+ * Vendors that wait for capacity park on a shared not-full condition and are woken one at a
+ * time as retrievals free space; a vendor that leaves passes the wake-up on while space remains.
+ */
+public class FairTicketPool extends AbstractTicketPool {
+    private final TicketInventory tickets;
+    private final Lock lock = new ReentrantLock(true); // Ensures fair locking for threads
+    private final RetrievalQueue<Waiter> requestQueue;
+    private final Condition notFull = lock.newCondition();
+    private int waitingVendors = 0; // Guarded by the lock
+    private final LongAdder wakeUps = new LongAdder();
+    private final LongAdder spuriousWakeUps = new LongAdder();
+
+    /**
+     * Constructs a new FairTicketPool.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     */
+    public FairTicketPool(ConfigurationData configurationData, PoolEventStream eventStream) {
+        this(configurationData, eventStream, SimulationClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a new FairTicketPool that measures time with the given clock.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times are measured with.
+     */
+    public FairTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock) {
+        this(configurationData, eventStream, clock, new TicketRingBuffer(configurationData.getMaxTicketCapacity()));
+    }
+
+    /**
+     * Constructs a new FairTicketPool that keeps its tickets in the given inventory.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times are measured with.
+     * @param tickets The inventory holding the tickets of the pool.
+     */
+    protected FairTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock,
+                             TicketInventory tickets) {
+        super(configurationData, eventStream, clock);
+        this.tickets = tickets;
+        this.requestQueue = new RetrievalQueue<>(configurationData, Waiter::request);
+    }
+
+    /**
+     * Adds tickets to the pool if there is sufficient capacity.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @return true if tickets were added successfully, false if there was insufficient capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds) {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        int ticketsToAddSize = ticketIds.length;
+        try {
+            if (!tickets.addAll(ticketIds)) {
+                return false;
+            }
+            ticketsAdded(ticketsToAddSize, update);
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        return true;
+    }
+
+    /**
+     * Adds tickets to the pool, waiting at most the given time for enough capacity.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if tickets were added successfully, false if the deadline passed without enough capacity.
+     * @throws InterruptedException If the thread is interrupted while waiting for capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds, long timeout, TimeUnit unit) throws InterruptedException {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        boolean added;
+        lock.lock();
+        try {
+            long remainingNanos = unit.toNanos(timeout);
+            waitingVendors++;
+            try {
+                while (!(added = tickets.addAll(ticketIds)) && remainingNanos > 0) {
+                    remainingNanos = notFull.awaitNanos(remainingNanos);
+                }
+            } finally {
+                waitingVendors--;
+                // This vendor may have taken a wake-up meant for the vendors behind it
+                signalVendor();
+            }
+            if (added) {
+                ticketsAdded(ticketIds.length, update);
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        return added;
+    }
+
+    /**
+     * Retrieves tickets from the pool based on the given request, waiting at most the given time.
+     * If the deadline passes or the thread is interrupted while waiting, the request leaves the
+     * queue and the next request in line gets a chance to be served.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if the tickets were retrieved, false if the deadline passed or the pool was cleared.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    @Override
+    public boolean retrieveTickets(TicketRetrievalRequest request, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        boolean retrieved = false;
+        InterruptedException interrupted = null;
+        lock.lock();
+        try {
+            Waiter waiter = new Waiter(request, lock.newCondition(), null, clock.nanoTime());
+            requestQueue.add(waiter);
+            signalHead(update); // Drops abandoned requests that may be ahead of this one
+            long remainingNanos = unit.toNanos(timeout);
+            // Wait until the current request is the highest priority and there are enough tickets
+            try {
+                while (!waiter.cleared && !isServable(waiter) && remainingNanos > 0) {
+                    remainingNanos = waiter.slot().awaitNanos(remainingNanos);
+                    if (remainingNanos > 0) {
+                        // Signalled before the deadline; an expired deadline is counted as a timeout instead
+                        wakeUps.increment();
+                        if (!waiter.cleared && !isServable(waiter)) {
+                            spuriousWakeUps.increment();
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                requestQueue.remove(waiter);
+                signalHead(update);
+                interrupted = e;
+            }
+
+            if (interrupted != null) {
+                // The request has already left the queue
+            } else if (waiter.cleared) {
+                // The pool was cleared while the request was waiting; the clearing thread reported it
+            } else if (isServable(waiter)) {
+                requestQueue.poll();
+                serve(waiter, update);
+                signalHead(update);
+                retrieved = true;
+            } else {
+                // The deadline passed; leave the queue so the requests behind it are not held up
+                requestQueue.remove(waiter);
+                publishRetrievalTimedOut(request, clock.nanoTime() - waiter.enqueuedNanos);
+                signalHead(update);
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        if (interrupted != null) {
+            throw interrupted;
+        }
+        return retrieved;
+    }
+
+    /**
+     * Leaves a retrieval request in the queue without blocking the calling thread. The request is
+     * served straight away if it is at the head of the queue and there are enough tickets for it.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @return A future completed with the retrieved tickets.
+     */
+    @Override
+    public CompletableFuture<List<Ticket>> retrieveTicketsAsync(TicketRetrievalRequest request) {
+        RetrievalFuture future = new RetrievalFuture();
+        Waiter waiter = new Waiter(request, null, future, startNanos(request));
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            requestQueue.add(waiter);
+            signalHead(update);
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+        withdrawWhenAbandoned(future, () -> withdraw(waiter));
+        return future;
+    }
+
+    /**
+     * Clears all tickets and resets the pool data.
+     */
+    @Override
+    public void clearPoolData() {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            tickets.clear();
+            statistics.reset();
+            publishPoolCleared(counters());
+            signalVendor();
+            for (Waiter waiter : requestQueue.drain()) {
+                if (waiter.isAsync()) {
+                    if (!waiter.queued) {
+                        continue;
+                    }
+                    if (waiter.future().claim()) {
+                        waiter.queued = false;
+                        publishRetrievalFailed(waiter.request());
+                        update.failCleared(waiter.future());
+                    } else {
+                        abandon(waiter);
+                    }
+                } else {
+                    // Reported here rather than by the woken thread, so failing many waiters is one publish pass
+                    waiter.cleared = true;
+                    publishRetrievalFailed(waiter.request());
+                    waiter.slot().signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.deliver();
+    }
+
+    /**
+     * Retrieves the number of times a waiting request was woken up.
+     *
+     * @return Total number of wake-ups.
+     */
+    @Override
+    public long getWakeUpCount() {
+        return wakeUps.sum();
+    }
+
+    /**
+     * Retrieves the number of wake-ups after which the request still could not be served.
+     *
+     * @return Total number of spurious wake-ups.
+     */
+    @Override
+    public long getSpuriousWakeUpCount() {
+        return spuriousWakeUps.sum();
+    }
+
+    /**
+     * Returns the engine mode implemented by this pool.
+     *
+     * @return {@link TicketPoolMode#STRICT_FAIR}.
+     */
+    @Override
+    public TicketPoolMode getMode() {
+        return TicketPoolMode.STRICT_FAIR;
+    }
+
+    /**
+     * Withdraws an asynchronous request whose future was cancelled or timed out, unless it has
+     * already left the queue. The request stays in the queue until it reaches the head, so that
+     * withdrawing it does not have to search the queue.
+     *
+     * @param waiter The asynchronous request to withdraw.
+     */
+    private void withdraw(Waiter waiter) {
+        PoolUpdate update = new PoolUpdate(eventStream);
+        lock.lock();
+        try {
+            if (!waiter.queued) {
+                return;
+            }
+            abandon(waiter);
+            signalHead(update);
+        } finally {
+            lock.unlock();
+        }
+        update.deliverWithoutWaiting();
+    }
+
+    /**
+     * Marks an asynchronous request whose future was cancelled or timed out as no longer queued,
+     * reporting it if it timed out. Must be called while holding the lock.
+     *
+     * @param waiter The abandoned request.
+     */
+    private void abandon(Waiter waiter) {
+        waiter.queued = false;
+        if (waiter.future().isTimedOut()) {
+            publishRetrievalTimedOut(waiter.request(), clock.nanoTime() - waiter.enqueuedNanos);
+        }
+    }
+
+    /**
+     * Serves a request that has been taken off the head of the queue. Must be called while holding the lock.
+     *
+     * @param waiter The waiting request to serve.
+     * @param update The update the completion of an asynchronous request is added to.
+     */
+    private void serve(Waiter waiter, PoolUpdate update) {
+        TicketRetrievalRequest request = waiter.request();
+        // Remove tickets for the request
+        List<Ticket> retrieved = tickets.take(request.getTicketsPerRetrieval());
+
+        // Updating the counter variable states
+        statistics.recordRetrieved(request.getTicketsPerRetrieval(), request.getPriorityClass(),
+                clock.nanoTime() - waiter.enqueuedNanos);
+
+        publishTicketsRetrieved(request, counters());
+        if (waiter.isAsync()) {
+            update.complete(waiter.future(), retrieved);
+        }
+        signalVendor();
+    }
+
+    /**
+     * Counts tickets that have been added to the inventory and wakes up the requests they make
+     * servable. Must be called while holding the lock.
+     *
+     * @param ticketsAdded The number of tickets added.
+     * @param update The update completions of served asynchronous requests are added to.
+     */
+    private void ticketsAdded(int ticketsAdded, PoolUpdate update) {
+        statistics.recordAdded(ticketsAdded);
+
+        publishTicketsAdded(ticketsAdded, counters());
+        signalHead(update);
+    }
+
+    /**
+     * Wakes up the longest waiting vendor if the pool has free capacity. Must be called while holding the lock.
+     */
+    private void signalVendor() {
+        if (waitingVendors > 0 && tickets.size() < tickets.capacity()) {
+            notFull.signal();
+        }
+    }
+
+    /**
+     * Captures the current pool counters. Must be called while holding the lock, so no other
+     * update can be in progress and the snapshot is taken without retrying.
+     *
+     * @return The pool counters.
+     */
+    private PoolCounters counters() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Checks whether the waiting request is at the head of the queue and there are enough tickets for it.
+     * Must be called while holding the lock.
+     *
+     * @param waiter The waiting request.
+     * @return true if the request can be served now, false otherwise.
+     */
+    private boolean isServable(Waiter waiter) {
+        return requestQueue.peek() == waiter && tickets.canTake(waiter.request().getTicketsPerRetrieval());
+    }
+
+    /**
+     * Wakes up the request at the head of the queue if there are enough tickets for it.
+     * Asynchronous requests at the head are served directly, and those that were abandoned
+     * are dropped. Must be called while holding the lock.
+     *
+     * @param update The update completions of served asynchronous requests are added to.
+     */
+    private void signalHead(PoolUpdate update) {
+        Waiter head;
+        while ((head = requestQueue.peek()) != null) {
+            if (head.isAsync() && head.future().isAbandoned()) {
+                // Removing the head of the queue does not have to search it
+                requestQueue.remove(head);
+                if (head.queued) {
+                    abandon(head);
+                }
+                continue;
+            }
+            if (!tickets.canTake(head.request().getTicketsPerRetrieval())) {
+                return;
+            }
+            if (!head.isAsync()) {
+                head.slot().signal();
+                return;
+            }
+            if (!head.future().claim()) {
+                continue; // Abandoned since the check above; dropped on the next pass
+            }
+            requestQueue.poll();
+            head.queued = false;
+            serve(head, update);
+        }
+    }
+
+    /**
+     * A queued retrieval request together with the condition its thread parks on, or the future
+     * that completes it if the request is asynchronous.
+     */
+    private static final class Waiter {
+        private final TicketRetrievalRequest request;
+        private final Condition slot;
+        private final RetrievalFuture future;
+        private final long enqueuedNanos;
+        private boolean cleared = false; // Set when the pool is cleared while the request waits
+        private boolean queued = true; // Cleared once an asynchronous request has been served, failed or abandoned
+
+        Waiter(TicketRetrievalRequest request, Condition slot, RetrievalFuture future,
+               long enqueuedNanos) {
+            this.request = request;
+            this.slot = slot;
+            this.future = future;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        boolean isAsync() {
+            return future != null;
+        }
+
+        RetrievalFuture future() {
+            return future;
+        }
+
+        TicketRetrievalRequest request() {
+            return request;
+        }
+
+        Condition slot() {
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.SerializedLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LogBroadcaster class sends simulation logs to WebSocket subscribers in batches. Logs are handed
+ * to a bounded queue, and a single broadcaster thread drains it, coalescing the logs that arrive within
+ * a flush window into one STOMP frame holding an array of logs. A frame is sent once the window after
+ * its first log closes or once it holds the maximum batch size, whichever comes first. Logs arrive
+ * already serialized, so a frame is built by joining their JSON into an array without serializing again.
+ *
+ * Threads that log never wait for the broker: when the queue is full, the log is not broadcast and is
+ * counted as dropped. It is still kept in the log history.
+ */
+@Component
+public class LogBroadcaster {
+
+    /**
+     * The topic log batches are sent to.
+     */
+    public static final String DESTINATION = "/topic/realtime-logs";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BlockingQueue<SerializedLog> queue;
+    private final long flushIntervalNanos;
+    private final int maxBatchSize;
+    private final LongAdder droppedLogs = new LongAdder();
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder sentLogs = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private Thread thread;
+
+    /**
+     * Constructs a new LogBroadcaster.
+     *
+     * @param messagingTemplate The template batches are sent with.
+     * @param queueCapacity The number of logs that can wait to be broadcast.
+     * @param flushIntervalMillis How long logs are coalesced into a batch, in milliseconds.
+     * @param maxBatchSize The maximum number of logs in a batch.
+     * @throws IllegalArgumentException if a setting is not positive.
+     */
+    public LogBroadcaster(SimpMessagingTemplate messagingTemplate,
+                          @Value("${ticketing.logs.broadcast.queue-capacity:10000}") int queueCapacity,
+                          @Value("${ticketing.logs.broadcast.flush-interval-millis:50}") long flushIntervalMillis,
+                          @Value("${ticketing.logs.broadcast.max-batch-size:500}") int maxBatchSize) {
+        if (queueCapacity <= 0 || flushIntervalMillis <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Log broadcast settings must be greater than 0");
+        }
+        this.messagingTemplate = messagingTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Starts the broadcaster thread.
+     */
+    @PostConstruct
+    public void start() {
+        thread = new Thread(this::run, "log-broadcaster");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the broadcaster thread. Logs still queued are discarded.
+     */
+    @PreDestroy
+    public void stop() {
+        thread.interrupt();
+    }
+
+    /**
+     * Queues a log to be broadcast in the next batch, or drops it if the queue is full.
+     *
+     * @param log The serialized log.
+     */
+    public void broadcast(SerializedLog log) {
+        if (!queue.offer(log)) {
+            droppedLogs.increment();
+        }
+    }
+
+    /**
+     * Retrieves the broadcast counters.
+     *
+     * @return A map containing the numbers of batches and logs sent, logs dropped, batches that failed and logs queued.
+     */
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "sentBatches", sentBatches.sum(),
+                "sentLogs", sentLogs.sum(),
+                "droppedLogs", droppedLogs.sum(),
+                "failedBatches", failedBatches.sum(),
+                "queuedLogs", queue.size()
+        );
+    }
+
+    /**
+     * Collects and sends batches until the thread is interrupted.
+     */
+    private void run() {
+        List<SerializedLog> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take()); // The first log of a batch opens its flush window
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    SerializedLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Sends a batch as one frame holding a JSON array of the logs. A batch the broker rejects is
+     * counted and skipped, so that one failure does not stop the broadcaster.
+     *
+     * @param batch The logs to send.
+     */
+    private void send(List<SerializedLog> batch) {
+        try {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+            messagingTemplate.send(DESTINATION,
+                    MessageBuilder.createMessage(toJsonArray(batch), headers.getMessageHeaders()));
+            sentBatches.increment();
+            sentLogs.add(batch.size());
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+        }
+    }
+
+    /**
+     * Joins the JSON of the logs into a JSON array.
+     *
+     * @param batch The logs.
+     * @return The array as UTF-8 JSON.
+     */
+    private static byte[] toJsonArray(List<SerializedLog> batch) {
+        int length = batch.size() + 1; // Brackets and commas
+        for (SerializedLog log : batch) {
+            length += log.json().length;
+        }
+        byte[] array = new byte[length];
+        int position = 0;
+        array[position++] = '[';
+        for (SerializedLog log : batch) {
+            if (position > 1) {
+                array[position++] = ',';
+            }
+            System.arraycopy(log.json(), 0, array, position, log.json().length);
+            position += log.json().length;
+        }
+        array[position] = ']';
+        return array;
+    }
+}
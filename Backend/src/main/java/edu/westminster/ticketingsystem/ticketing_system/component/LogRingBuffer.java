@@ -0,0 +1,319 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * The LogRingBuffer class keeps the most recent entries of a log in a fixed number of slots, so that
+ * a long run never holds more than its capacity. Any number of threads may append at once without
+ * locking: each claims the next sequence number from an atomic counter and publishes its entry in the
+ * slot that sequence maps to, overwriting the entry one capacity older. A writer never replaces a newer
+ * entry: if it was delayed for so long that the entry one capacity newer is already in its slot, its own
+ * entry is dropped, as though it had been overwritten. Entries can also be retired once they are older
+ * than a maximum age.
+ *
+ * Readers never block writers. A read collects the entries whose sequence numbers fall in the retained
+ * range, skipping slots a concurrent writer has already overwritten, and stops at the first slot a writer
+ * has claimed but not yet published. A slot still waiting for an entry more than a capacity behind the
+ * newest one is skipped and counted as missed instead, since that entry can only be dropped or overwritten.
+ * A read therefore returns a consistent, ordered view of what was published while it ran, and a reader
+ * that continues from where the read stopped never misses an entry that is still retained.
+ *
+ * Every entry leaves the buffer exactly once: overwritten by a newer entry, retired by age, or cleared.
+ * The first two are counted as evictions.
+ *
+ * @param <T> The type of the log entries.
+ */
+public class LogRingBuffer<T> {
+    private final int capacity;
+    private final long maxAgeMillis;
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong firstRetained = new AtomicLong(); // Entries before it were retired or cleared
+    private final LongAdder overwrittenBeforeRetired = new LongAdder();
+    private final LongAdder evictedByAge = new LongAdder();
+
+    /**
+     * Constructs a new LogRingBuffer.
+     *
+     * @param capacity The maximum number of entries kept.
+     * @param maxAgeMillis How long an entry is kept, in milliseconds, or 0 to keep entries until overwritten.
+     * @throws IllegalArgumentException if the capacity is not positive or the maximum age is negative.
+     */
+    public LogRingBuffer(int capacity, long maxAgeMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log capacity must be greater than 0");
+        }
+        if (maxAgeMillis < 0) {
+            throw new IllegalArgumentException("Log maximum age cannot be negative");
+        }
+        this.capacity = capacity;
+        this.maxAgeMillis = maxAgeMillis;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Appends an entry, overwriting the oldest one if the buffer is full.
+     *
+     * @param value The entry.
+     * @return The sequence number of the entry.
+     */
+    public long add(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        publish(new Entry<>(sequence, System.currentTimeMillis(), value));
+        return sequence;
+    }
+
+    /**
+     * Appends an entry built from its sequence number, overwriting the oldest one if the buffer is full.
+     * The factory runs after the sequence number is claimed and before the entry is published, so it
+     * must be quick and must not throw.
+     *
+     * @param valueFactory Builds the entry from its sequence number.
+     * @return The entry.
+     */
+    public T append(LongFunction<T> valueFactory) {
+        long sequence = nextSequence.getAndIncrement();
+        T value = valueFactory.apply(sequence);
+        publish(new Entry<>(sequence, System.currentTimeMillis(), value));
+        return value;
+    }
+
+    /**
+     * Publishes an entry in its slot unless the slot already holds a newer entry. A dropped entry
+     * needs no separate count: it is more than a capacity behind the newest entry, so it is already
+     * counted as evicted by capacity.
+     *
+     * @param entry The entry to publish.
+     */
+    private void publish(Entry<T> entry) {
+        int slot = slotOf(entry.sequence());
+        Entry<T> current = slots.get(slot);
+        while (current == null || current.sequence() < entry.sequence()) {
+            if (slots.compareAndSet(slot, current, entry)) {
+                return;
+            }
+            current = slots.get(slot);
+        }
+    }
+
+    /**
+     * Returns every retained entry, oldest first.
+     *
+     * @return A snapshot of the retained entries.
+     */
+    public List<T> snapshot() {
+        List<T> values = new ArrayList<>();
+        for (Entry<T> entry : read(0, Integer.MAX_VALUE)) {
+            values.add(entry.value());
+        }
+        return values;
+    }
+
+    /**
+     * Returns retained entries from a sequence number onwards, oldest first. If entries from that
+     * sequence number on have already left the buffer, the read starts at the oldest retained entry.
+     *
+     * @param fromSequence The sequence number to start from.
+     * @param limit The maximum number of entries to return.
+     * @return The entries, with their sequence numbers and timestamps.
+     */
+    public List<Entry<T>> read(long fromSequence, int limit) {
+        return read(fromSequence, limit, value -> true).entries();
+    }
+
+    /**
+     * Returns the retained entries from a sequence number onwards that match a filter, oldest first.
+     * If entries from that sequence number on have already left the buffer, the read starts at the
+     * oldest retained entry. The page records where the read stopped, so the next read can continue
+     * from there without examining the same entries again.
+     *
+     * @param fromSequence The sequence number to start from.
+     * @param limit The maximum number of entries to return.
+     * @param filter Selects the entries to return.
+     * @return The matching entries and where the read started and stopped.
+     */
+    public Page<T> read(long fromSequence, int limit, Predicate<? super T> filter) {
+        retireExpired();
+        long end = nextSequence.get();
+        long firstRetained = firstRetainedSequence(end);
+        long start = Math.max(fromSequence, firstRetained);
+        List<Entry<T>> entries = new ArrayList<>((int) Math.min(limit, Math.max(0, end - start)));
+        long oldestAllowed = oldestAllowedMillis();
+        long missed = Math.max(0, start - Math.max(fromSequence, 0));
+        long sequence = start;
+        while (sequence < end && entries.size() < limit) {
+            Entry<T> entry = slots.get(slotOf(sequence));
+            if (entry == null || entry.sequence() < sequence) {
+                if (sequence >= nextSequence.get() - capacity) {
+                    break; // Not published yet, so a later read must still see it
+                }
+                missed++; // Its writer is so late that the entry can only be dropped or overwritten
+                sequence++;
+                continue;
+            }
+            if (entry.sequence() > sequence || entry.timestampMillis() < oldestAllowed) {
+                missed++; // Overwritten by a newer entry or past its maximum age while the read ran
+            } else if (filter.test(entry.value())) {
+                entries.add(entry);
+            }
+            sequence++;
+        }
+        return new Page<>(entries, firstRetained, sequence, sequence < end, missed);
+    }
+
+    /**
+     * Removes every entry without counting it as evicted.
+     */
+    public void clear() {
+        retireUpTo(nextSequence.get(), false);
+    }
+
+    /**
+     * Returns the number of retained entries.
+     *
+     * @return The retained entry count.
+     */
+    public int size() {
+        retireExpired();
+        long end = nextSequence.get();
+        return (int) (end - firstRetainedSequence(end));
+    }
+
+    /**
+     * Returns the maximum number of entries kept.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns how long an entry is kept.
+     *
+     * @return The maximum age in milliseconds, or 0 if entries are kept until overwritten.
+     */
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Returns the number of entries appended so far, which is also the sequence number of the next one.
+     *
+     * @return The appended entry count.
+     */
+    public long getAppendedCount() {
+        return nextSequence.get();
+    }
+
+    /**
+     * Returns the number of entries overwritten by newer entries because the buffer was full.
+     *
+     * @return The capacity eviction count.
+     */
+    public long getEvictedByCapacity() {
+        long end = nextSequence.get();
+        return overwrittenBeforeRetired.sum() + Math.max(0, end - capacity - firstRetained.get());
+    }
+
+    /**
+     * Returns the number of entries retired because they were older than the maximum age.
+     *
+     * @return The age eviction count.
+     */
+    public long getEvictedByAge() {
+        retireExpired();
+        return evictedByAge.sum();
+    }
+
+    /**
+     * Retires the entries at the start of the retained range that are older than the maximum age.
+     */
+    private void retireExpired() {
+        if (maxAgeMillis == 0) {
+            return;
+        }
+        long oldestAllowed = oldestAllowedMillis();
+        long end = nextSequence.get();
+        long sequence = firstRetainedSequence(end);
+        while (sequence < end) {
+            Entry<T> entry = slots.get(slotOf(sequence));
+            if (entry == null || entry.sequence() < sequence) {
+                break; // Not published yet
+            }
+            if (entry.sequence() == sequence && entry.timestampMillis() >= oldestAllowed) {
+                break;
+            }
+            sequence++;
+        }
+        retireUpTo(sequence, true);
+    }
+
+    /**
+     * Moves the start of the retained range forward. The thread that moves it counts the entries it
+     * passes over, as overwritten if they were already more than a capacity behind the newest entry
+     * and as retired by age or cleared otherwise.
+     *
+     * @param sequence The new start of the retained range.
+     * @param byAge Whether the entries are retired by age rather than cleared.
+     */
+    private void retireUpTo(long sequence, boolean byAge) {
+        long current = firstRetained.get();
+        while (current < sequence) {
+            if (firstRetained.compareAndSet(current, sequence)) {
+                long overwrittenEnd = Math.min(sequence, nextSequence.get() - capacity);
+                long overwritten = Math.max(0, overwrittenEnd - current);
+                overwrittenBeforeRetired.add(overwritten);
+                if (byAge) {
+                    evictedByAge.add(sequence - current - overwritten);
+                }
+                return;
+            }
+            current = firstRetained.get();
+        }
+    }
+
+    private long firstRetainedSequence(long end) {
+        return Math.max(firstRetained.get(), end - capacity);
+    }
+
+    private long oldestAllowedMillis() {
+        return maxAgeMillis == 0 ? Long.MIN_VALUE : System.currentTimeMillis() - maxAgeMillis;
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * An entry of the buffer.
+     *
+     * @param sequence The position of the entry in the order entries were appended, from 0.
+     * @param timestampMillis When the entry was appended, in milliseconds since the epoch.
+     * @param value The entry.
+     * @param <T> The type of the entry.
+     */
+    public record Entry<T>(long sequence, long timestampMillis, T value) {
+    }
+
+    /**
+     * The result of a filtered read.
+     *
+     * @param entries The matching entries, oldest first.
+     * @param firstRetained The sequence number of the oldest entry still retained when the read started.
+     * @param nextSequence The sequence number the next read should start from.
+     * @param hasMore Whether the read stopped before the newest entry, at its limit or at an entry not yet published.
+     * @param missed The number of entries from the starting sequence number on that had left the buffer
+     *               before the read could return them.
+     * @param <T> The type of the entries.
+     */
+    public record Page<T>(List<Entry<T>> entries, long firstRetained, long nextSequence, boolean hasMore,
+                          long missed) {
+    }
+}
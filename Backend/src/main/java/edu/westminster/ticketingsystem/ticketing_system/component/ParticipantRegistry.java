@@ -0,0 +1,140 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantHandle;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ParticipantRegistry class holds the running participants of one type, keyed by participant ID,
+ * so that participants can be added and removed concurrently without scanning. IDs are handed out
+ * by an atomic counter and are never reused while the registry is open, up to an optional maximum ID.
+ *
+ * A registry is open while its simulation runs. Closing it stops every registered participant,
+ * and a participant registered concurrently with or after the close is stopped instead of being
+ * left running.
+ */
+public class ParticipantRegistry {
+    private final ConcurrentHashMap<String, ParticipantHandle> participants = new ConcurrentHashMap<>();
+    private final AtomicInteger lastId = new AtomicInteger();
+    private final int maxId;
+    private volatile boolean open = false;
+
+    /**
+     * Constructs a new ParticipantRegistry with no limit on participant IDs.
+     */
+    public ParticipantRegistry() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new ParticipantRegistry that hands out IDs up to a maximum.
+     *
+     * @param maxId The largest ID the registry hands out in one simulation.
+     */
+    public ParticipantRegistry(int maxId) {
+        this.maxId = maxId;
+    }
+
+    /**
+     * Opens the registry for a new simulation. IDs start again from 1.
+     */
+    public void open() {
+        lastId.set(0);
+        open = true;
+    }
+
+    /**
+     * Allocates the next participant ID.
+     *
+     * @return The ID, unique within the current simulation.
+     * @throws IllegalStateException if every ID up to the maximum has been handed out.
+     */
+    public String nextId() {
+        int id = lastId.getAndUpdate(last -> last < maxId ? last + 1 : last);
+        if (id >= maxId) {
+            throw new IllegalStateException("No more than " + maxId + " participants can be added in one simulation.");
+        }
+        return String.valueOf(id + 1);
+    }
+
+    /**
+     * Returns the number of IDs that can still be handed out in the current simulation.
+     *
+     * @return The remaining ID count.
+     */
+    public int remainingIds() {
+        return maxId - lastId.get();
+    }
+
+    /**
+     * Registers a running participant.
+     *
+     * @param participant The participant to register.
+     * @throws IllegalStateException if the registry is closed; the participant is stopped.
+     */
+    public void add(ParticipantHandle participant) {
+        participants.put(participant.getId(), participant);
+        // Reading the flag after publishing the participant means either this add or close() sees the other
+        if (!open) {
+            participants.remove(participant.getId(), participant);
+            participant.stop();
+            throw new IllegalStateException("Simulation is not running.");
+        }
+    }
+
+    /**
+     * Stops and unregisters a participant by ID.
+     *
+     * @param id The ID of the participant.
+     * @return true if the participant was found, false otherwise.
+     */
+    public boolean stop(String id) {
+        ParticipantHandle participant = participants.remove(id);
+        if (participant == null) {
+            return false;
+        }
+        participant.stop();
+        return true;
+    }
+
+    /**
+     * Stops and unregisters up to the given number of participants, in no particular order.
+     *
+     * @param count The maximum number of participants to stop.
+     * @return The IDs of the stopped participants.
+     */
+    public List<String> stop(int count) {
+        List<String> stopped = new ArrayList<>(Math.min(count, participants.size()));
+        Iterator<String> ids = participants.keySet().iterator();
+        while (stopped.size() < count && ids.hasNext()) {
+            String id = ids.next();
+            if (stop(id)) {
+                stopped.add(id);
+            }
+        }
+        return stopped;
+    }
+
+    /**
+     * Closes the registry and stops every registered participant.
+     */
+    public void close() {
+        open = false;
+        for (String id : participants.keySet()) {
+            stop(id);
+        }
+    }
+
+    /**
+     * Returns the number of registered participants.
+     *
+     * @return The participant count.
+     */
+    public int size() {
+        return participants.size();
+    }
+}
@@ -0,0 +1,150 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.Participant;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantHandle;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ParticipantScheduler class runs simulation participants as periodic tasks on a small pool
+ * of worker threads instead of giving each participant a thread that sleeps between operations.
+ * Each participant performs an operation once per interval at a fixed rate, so a late operation
+ * does not push back the ones after it. The first operation of each participant happens at a random
+ * point within its first interval, so that participants started together do not all fire at once.
+ * Open-loop participants instead run whenever their next operation is due, as a one-shot task that
+ * schedules the next one.
+ */
+@Component
+public class ParticipantScheduler {
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Constructs a new ParticipantScheduler.
+     *
+     * @param threads The number of worker threads, or 0 for one per available processor.
+     */
+    public ParticipantScheduler(@Value("${ticketing.participants.scheduler-threads:0}") int threads) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(workers, runnable -> {
+            Thread thread = new Thread(runnable, "participant-scheduler-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Stopped participants must not stay in the timer queue until their next operation was due
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts performing the participant's operations at its interval.
+     *
+     * @param participant The participant to schedule.
+     * @param id The ID of the participant.
+     * @return The handle that stops the participant.
+     */
+    public ParticipantHandle schedule(Participant participant, String id) {
+        if (participant.isOpenLoop()) {
+            OpenLoopParticipant openLoopParticipant = new OpenLoopParticipant(id, participant);
+            openLoopParticipant.scheduleAt(System.nanoTime());
+            return openLoopParticipant;
+        }
+        long interval = Math.max(1, participant.getInterval());
+        long initialDelay = ThreadLocalRandom.current().nextLong(interval);
+        ScheduledFuture<?> task = executor.scheduleAtFixedRate(
+                participant::runScheduledOperation, initialDelay, interval, TimeUnit.MILLISECONDS);
+        return new ScheduledParticipant(id, participant, task);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return The worker thread count.
+     */
+    public int getThreadCount() {
+        return executor.getCorePoolSize();
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A participant running as a periodic task.
+     *
+     * @param id The ID of the participant.
+     * @param participant The participant.
+     * @param task The periodic task performing its operations.
+     */
+    private record ScheduledParticipant(String id, Participant participant, ScheduledFuture<?> task)
+            implements ParticipantHandle {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void stop() {
+            task.cancel(false);
+            participant.onStopped();
+        }
+    }
+
+    /**
+     * An open-loop participant running as a chain of one-shot tasks, each scheduled for when
+     * the participant's next operation is due.
+     */
+    private final class OpenLoopParticipant implements ParticipantHandle, Runnable {
+        private final String id;
+        private final Participant participant;
+        private volatile ScheduledFuture<?> nextRun;
+        private volatile boolean stopped = false;
+
+        OpenLoopParticipant(String id, Participant participant) {
+            this.id = id;
+            this.participant = participant;
+        }
+
+        void scheduleAt(long dueNanos) {
+            ScheduledFuture<?> run = executor.schedule(this, dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            nextRun = run;
+            if (stopped) {
+                // The participant was stopped while the run was being scheduled
+                run.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!stopped) {
+                scheduleAt(participant.runDueOperations(System.nanoTime()));
+            }
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+            ScheduledFuture<?> run = nextRun;
+            if (run != null) {
+                run.cancel(false);
+            }
+            participant.onStopped();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+
+/**
+ * The PoolEventConsumer interface is implemented by services that process ticket pool events.
+ * Each consumer is fed by its own queues and threads in the {@link PoolEventPipeline}, so a slow
+ * consumer does not hold up the others or the ticket pool.
+ */
+public interface PoolEventConsumer {
+
+    /**
+     * Returns a short name for the consumer, used to name its threads.
+     *
+     * @return The consumer name.
+     */
+    String getName();
+
+    /**
+     * Processes a single pool event.
+     *
+     * @param event The event to process.
+     */
+    void accept(PoolEvent event);
+}
@@ -0,0 +1,304 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PoolEventPipeline class delivers ticket pool events to their consumers asynchronously.
+ * Every stream appends its events to a backlog of its own that never makes the appending thread wait,
+ * and each backlog has its own dispatcher thread that hands it to the consumers in the order it was
+ * appended. The dispatcher is a virtual thread that is started with the first event and leaves again
+ * once the stream has been idle for a while. Every consumer gets a fixed number of lanes, each made of
+ * a bounded queue drained by a single thread. All events of a stream go to the same lane of each
+ * consumer, so each consumer sees the events of a stream in the order they were published.
+ *
+ * When a backlog or a lane is full, the configured {@link EventOverflowPolicy} decides whether an
+ * event is dropped or the publisher waits. Under the drop policies each backlog is a queue of the
+ * configured capacity. Under the blocking policy each backlog is bounded by permits instead: each
+ * appended event takes one, possibly leaving fewer than none, the dispatcher gives them back as it
+ * takes events, and publishers wait for a free permit after they have released their pool locks.
+ * A full lane only holds up the dispatchers of the streams that feed it, so a slow consumer throttles
+ * the publishers of those streams and never those of another event whose stream has room. Streams
+ * that share a lane share its capacity, taking turns when it is full.
+ */
+@Component
+public class PoolEventPipeline {
+    private static final long IDLE_TIMEOUT_MILLIS = 1000; // How long a dispatcher waits for events before leaving
+
+    private final List<PoolEventConsumer> consumers;
+    private final int queueCapacity;
+    private final int lanesPerConsumer;
+    private final EventOverflowPolicy overflowPolicy;
+    private final LongAdder droppedEvents = new LongAdder();
+    private final List<Lane[]> consumerLanes = new ArrayList<>();
+    private final Set<Thread> dispatchers = ConcurrentHashMap.newKeySet();
+    private volatile boolean running; // False until started and once stopped; events appended meanwhile are discarded
+
+    /**
+     * Constructs a new PoolEventPipeline.
+     *
+     * @param consumers The consumers that receive every pool event.
+     * @param queueCapacity The capacity of each stream backlog and of each lane queue.
+     * @param lanesPerConsumer The number of lanes, and therefore threads, per consumer.
+     * @param overflowPolicy The policy applied when a backlog or lane queue is full.
+     */
+    public PoolEventPipeline(List<PoolEventConsumer> consumers,
+                             @Value("${ticketing.events.queue-capacity:10000}") int queueCapacity,
+                             @Value("${ticketing.events.lanes-per-consumer:1}") int lanesPerConsumer,
+                             @Value("${ticketing.events.overflow-policy:BLOCK}") EventOverflowPolicy overflowPolicy) {
+        this.consumers = consumers;
+        this.queueCapacity = queueCapacity;
+        this.lanesPerConsumer = lanesPerConsumer;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Starts the lane threads of every consumer.
+     */
+    @PostConstruct
+    public void start() {
+        for (PoolEventConsumer consumer : consumers) {
+            Lane[] lanes = new Lane[lanesPerConsumer];
+            for (int i = 0; i < lanesPerConsumer; i++) {
+                lanes[i] = new Lane(consumer, "pool-events-" + consumer.getName() + "-" + i);
+            }
+            consumerLanes.add(lanes);
+        }
+        running = true;
+    }
+
+    /**
+     * Stops the dispatcher and lane threads. Events still queued are discarded, and publishers
+     * waiting for a backlog are let go.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatchers.forEach(Thread::interrupt);
+        consumerLanes.forEach(lanes -> {
+            for (Lane lane : lanes) {
+                lane.thread.interrupt();
+            }
+        });
+    }
+
+    /**
+     * Opens a new event stream that publishes to this pipeline.
+     *
+     * @param key The key of the stream.
+     * @return The new stream.
+     */
+    public PoolEventStream openStream(String key) {
+        return new PoolEventStream(key, new StreamBacklog(key));
+    }
+
+    /**
+     * Retrieves the number of events dropped because a backlog or consumer queue was full.
+     *
+     * @return Total number of dropped events.
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * The backlog of a single stream, with its own capacity and dispatcher thread.
+     */
+    final class StreamBacklog {
+        private final String key;
+        private final int laneIndex;
+        private final BlockingQueue<PoolEvent> queue;
+        private final BacklogPermits permits; // Bounds the queue under the blocking policy
+        private final AtomicReference<Thread> dispatcher = new AtomicReference<>(); // Null while the stream is idle
+        private final AtomicBoolean publishersReleased = new AtomicBoolean();
+
+        StreamBacklog(String key) {
+            this.key = key;
+            this.laneIndex = Math.floorMod(key.hashCode(), lanesPerConsumer);
+            this.queue = overflowPolicy == EventOverflowPolicy.BLOCK
+                    ? new LinkedBlockingQueue<>()
+                    : new ArrayBlockingQueue<>(queueCapacity);
+            this.permits = new BacklogPermits(queueCapacity);
+        }
+
+        /**
+         * Appends an event to the backlog without waiting, and starts the dispatcher if the stream was
+         * idle. When the backlog is full, a drop policy drops an event here; under the blocking policy
+         * the event is still appended and takes a permit even if none is free, and the publisher waits
+         * in {@link #awaitRoom()} once it has released its locks. Only called under the stream's append lock.
+         *
+         * @param event The event to dispatch.
+         */
+        void submit(PoolEvent event) {
+            if (!running) {
+                return; // Not started, so there are no consumers to deliver to
+            }
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    permits.reducePermits(1);
+                    queue.add(event);
+                }
+                case DROP_NEWEST -> {
+                    if (!queue.offer(event)) {
+                        droppedEvents.increment();
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(event)) {
+                        if (queue.poll() != null) {
+                            droppedEvents.increment();
+                        }
+                    }
+                }
+            }
+            if (dispatcher.get() == null) {
+                Thread thread = Thread.ofVirtual().name("pool-events-dispatcher-" + key).unstarted(this::dispatchBacklog);
+                if (dispatcher.compareAndSet(null, thread)) {
+                    thread.start();
+                }
+            }
+        }
+
+        /**
+         * Waits until the backlog has room, under the blocking overflow policy. The wait is not
+         * interruptible: an interrupt received while waiting is kept for the caller, so that a stopping
+         * simulation still sees it once the dispatcher has caught up.
+         */
+        void awaitRoom() {
+            if (overflowPolicy != EventOverflowPolicy.BLOCK || !running) {
+                return;
+            }
+            permits.acquireUninterruptibly();
+            permits.release();
+        }
+
+        /**
+         * Hands the backlog to the consumers, in the order it was appended, until the stream has been
+         * idle for {@link #IDLE_TIMEOUT_MILLIS} or the pipeline is stopped.
+         */
+        private void dispatchBacklog() {
+            dispatchers.add(Thread.currentThread());
+            List<PoolEvent> batch = new ArrayList<>();
+            try {
+                while (running) {
+                    PoolEvent event = queue.poll(IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        // Leave, unless an event was appended while this thread still looked like the dispatcher
+                        dispatcher.set(null);
+                        if (queue.isEmpty() || !dispatcher.compareAndSet(null, Thread.currentThread())) {
+                            return;
+                        }
+                        continue;
+                    }
+                    batch.add(event);
+                    queue.drainTo(batch);
+                    if (overflowPolicy == EventOverflowPolicy.BLOCK) {
+                        permits.release(batch.size());
+                    }
+                    for (PoolEvent queued : batch) {
+                        for (Lane[] lanes : consumerLanes) {
+                            lanes[laneIndex].enqueue(queued);
+                        }
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                dispatchers.remove(Thread.currentThread());
+                if (!running && publishersReleased.compareAndSet(false, true)) {
+                    permits.release(Integer.MAX_VALUE / 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * A bounded queue drained by a single thread that feeds one consumer.
+     */
+    private final class Lane {
+        // Fair under the blocking policy, so the dispatchers of streams sharing the lane take turns
+        private final BlockingQueue<PoolEvent> queue =
+                new ArrayBlockingQueue<>(queueCapacity, overflowPolicy == EventOverflowPolicy.BLOCK);
+        private final PoolEventConsumer consumer;
+        private final Thread thread;
+
+        Lane(PoolEventConsumer consumer, String name) {
+            this.consumer = consumer;
+            this.thread = new Thread(this::drain, name);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void enqueue(PoolEvent event) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    try {
+                        queue.put(event);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        droppedEvents.increment();
+                    }
+                }
+                case DROP_NEWEST -> {
+                    if (!queue.offer(event)) {
+                        droppedEvents.increment();
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(event)) {
+                        if (queue.poll() != null) {
+                            droppedEvents.increment();
+                        }
+                    }
+                }
+            }
+        }
+
+        private void drain() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    PoolEvent event = queue.take();
+                    consumer.accept(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    System.out.println("Failed to process pool event in " + consumer.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * The permits that bound a stream backlog under the blocking policy. Appending an event takes a permit
+     * without waiting, so the count can fall below zero while pools hold their locks.
+     */
+    private static final class BacklogPermits extends Semaphore {
+
+        BacklogPermits(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
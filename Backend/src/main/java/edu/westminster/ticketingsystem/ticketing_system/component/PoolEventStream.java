@@ -0,0 +1,65 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * The PoolEventStream class is the publishing side of a single ordered event stream.
+ * A pool appends an event while it still holds its lock: the stream numbers the event with its next
+ * sequence number and queues it in the stream's backlog in the same step, so events are queued in
+ * mutation order and no sequence number is ever claimed without its event. The backlog has its own
+ * dispatcher thread that hands it to the consumers, so a pool thread never waits for another thread's
+ * event, and a full backlog only holds back the publishers of this stream.
+ */
+public class PoolEventStream {
+    private final String key;
+    private final PoolEventPipeline.StreamBacklog backlog;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private long nextSequence; // Guarded by the append lock
+
+    /**
+     * Constructs a new PoolEventStream.
+     *
+     * @param key The key of the stream.
+     * @param backlog The backlog the stream publishes to.
+     */
+    PoolEventStream(String key, PoolEventPipeline.StreamBacklog backlog) {
+        this.key = key;
+        this.backlog = backlog;
+    }
+
+    /**
+     * Returns the key of the stream.
+     *
+     * @return The stream key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Appends an event to the stream, numbered with the next sequence number. The append never waits
+     * for the consumers, so it can be called while holding a pool lock.
+     *
+     * @param eventFactory Builds the event from its sequence number.
+     */
+    public void append(LongFunction<PoolEvent> eventFactory) {
+        appendLock.lock();
+        try {
+            backlog.submit(eventFactory.apply(nextSequence));
+            nextSequence++;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Waits while the stream's backlog is full, if the overflow policy makes publishers wait.
+     * Pools call this after releasing their locks, so that only the publishing thread is held back.
+     */
+    public void awaitBacklog() {
+        backlog.awaitRoom();
+    }
+}
@@ -0,0 +1,167 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PoolStatistics class keeps the ticket counters of a pool in LongAdders and hands out
+ * consistent snapshots of them without locking.
+ *
+ * Every update is bracketed by a pair of write counters, in the style of a sequence lock that
+ * allows several writers at once. A reader only accepts the values it collected if no update was
+ * in progress when it started and none began before it finished; otherwise it tries again. Under
+ * a steady stream of updates a reader could retry forever, so after a bounded number of attempts it
+ * settles for values read without the check. Writers never wait for readers, and readers never take
+ * a lock that writers need.
+ *
+ * The wait times of served requests are recorded per priority class in {@link WaitTimeHistogram}s,
+ * which sit outside the sequence lock because they are summarised on their own.
+ */
+public class PoolStatistics {
+    private static final int SPINS_BEFORE_YIELD = 64;
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 16 * SPINS_BEFORE_YIELD; // Before settling for a sample
+
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+    private final LongAdder ticketsAdded = new LongAdder();
+    private final LongAdder ticketsRetrieved = new LongAdder();
+    private final LongAdder vipRetrievals = new LongAdder();
+    private final LongAdder normalRetrievals = new LongAdder();
+    private final LongAdder retrievalTimeouts = new LongAdder();
+    private final WaitTimeHistogram[] waitTimes = new WaitTimeHistogram[PriorityClass.values().length];
+
+    /**
+     * Constructs a new PoolStatistics with every counter at zero.
+     */
+    public PoolStatistics() {
+        for (int i = 0; i < waitTimes.length; i++) {
+            waitTimes[i] = new WaitTimeHistogram();
+        }
+    }
+
+    /**
+     * Records tickets added to the pool.
+     *
+     * @param tickets The number of tickets added.
+     */
+    public void recordAdded(int tickets) {
+        writesStarted.incrementAndGet();
+        ticketsAdded.add(tickets);
+        writesFinished.incrementAndGet();
+    }
+
+    /**
+     * Records tickets retrieved from the pool.
+     *
+     * @param tickets The number of tickets retrieved.
+     * @param priorityClass The tier the tickets were retrieved in.
+     * @param waitNanos How long the request waited before it was served, in nanoseconds.
+     */
+    public void recordRetrieved(int tickets, PriorityClass priorityClass, long waitNanos) {
+        writesStarted.incrementAndGet();
+        ticketsRetrieved.add(tickets);
+        (priorityClass.isPriority() ? vipRetrievals : normalRetrievals).add(tickets);
+        writesFinished.incrementAndGet();
+        waitTimes[priorityClass.ordinal()].record(waitNanos);
+    }
+
+    /**
+     * Records a retrieval request that gave up because its deadline passed.
+     */
+    public void recordTimeout() {
+        retrievalTimeouts.increment();
+    }
+
+    /**
+     * Resets every counter to zero.
+     * The retrieval timeout count is kept, like the wake-up metrics of the engines.
+     */
+    public void reset() {
+        writesStarted.incrementAndGet();
+        ticketsAdded.reset();
+        ticketsRetrieved.reset();
+        vipRetrievals.reset();
+        normalRetrievals.reset();
+        writesFinished.incrementAndGet();
+        for (WaitTimeHistogram histogram : waitTimes) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Returns the counters as they were at a single moment, retrying while updates are in progress.
+     * If updates keep overlapping every attempt, it returns a {@link #sample()} after
+     * {@link #MAX_SNAPSHOT_ATTEMPTS} attempts instead of retrying without end.
+     * The number of available tickets is derived from the tickets added and retrieved.
+     *
+     * @return A snapshot of the counters, internally consistent unless updates never paused.
+     */
+    public PoolCounters snapshot() {
+        for (int attempt = 1; attempt <= MAX_SNAPSHOT_ATTEMPTS; attempt++) {
+            long finished = writesFinished.get();
+            long started = writesStarted.get();
+            if (started == finished) {
+                PoolCounters counters = read();
+                if (writesStarted.get() == started) {
+                    return counters;
+                }
+            }
+            if (attempt % SPINS_BEFORE_YIELD == 0) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return sample();
+    }
+
+    /**
+     * Returns the counters read one after another without the consistency check. The values
+     * may be slightly apart under concurrent updates, but the call never retries.
+     *
+     * @return The current counters.
+     */
+    public PoolCounters sample() {
+        return read();
+    }
+
+    /**
+     * Retrieves the number of retrieval requests that gave up because their deadline passed.
+     *
+     * @return Total number of retrieval timeouts.
+     */
+    public long getRetrievalTimeouts() {
+        return retrievalTimeouts.sum();
+    }
+
+    /**
+     * Summarises how long served requests of one priority class waited.
+     *
+     * @param priorityClass The priority class to summarise.
+     * @return The wait time statistics.
+     */
+    public WaitTimeStats waitTimeStats(PriorityClass priorityClass) {
+        return waitTimes[priorityClass.ordinal()].stats();
+    }
+
+    /**
+     * Takes a copy of the wait times of served requests of one priority class recorded so far.
+     *
+     * @param priorityClass The priority class.
+     * @return A copy of the wait time histogram.
+     */
+    public WaitTimeHistogram waitTimeHistogram(PriorityClass priorityClass) {
+        return waitTimes[priorityClass.ordinal()].copy();
+    }
+
+    private PoolCounters read() {
+        long added = ticketsAdded.sum();
+        long retrieved = ticketsRetrieved.sum();
+        return new PoolCounters((int) (added - retrieved), (int) added, (int) retrieved,
+                (int) vipRetrievals.sum(), (int) normalRetrievals.sum());
+    }
+}
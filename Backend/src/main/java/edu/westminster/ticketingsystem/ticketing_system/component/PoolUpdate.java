@@ -0,0 +1,70 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The PoolUpdate class collects the asynchronous retrieval results an engine produces while it
+ * holds its lock, and delivers them once the lock has been released.
+ *
+ * The events that report the results have already been appended to the event stream under the
+ * lock, and the futures claimed there, so they can no longer be cancelled or time out. Delivering
+ * first waits for room in the event backlog, if the overflow policy makes publishers wait, and then
+ * completes the futures. Code that depends on a future therefore never runs under the pool lock,
+ * and never sees its tickets before the events that report them.
+ */
+class PoolUpdate {
+    private final PoolEventStream eventStream;
+    private final List<Runnable> completions = new ArrayList<>(0);
+
+    /**
+     * Constructs a new, empty PoolUpdate.
+     *
+     * @param eventStream The stream the engine publishes its events to.
+     */
+    PoolUpdate(PoolEventStream eventStream) {
+        this.eventStream = eventStream;
+    }
+
+    /**
+     * Completes the future of a served asynchronous retrieval once the update is delivered.
+     * The future must have been claimed under the lock.
+     *
+     * @param future The future of the retrieval.
+     * @param tickets The tickets retrieved for it.
+     */
+    void complete(RetrievalFuture future, List<Ticket> tickets) {
+        completions.add(() -> future.completeClaimed(tickets));
+    }
+
+    /**
+     * Fails the future of an asynchronous retrieval that was waiting when the pool was cleared.
+     * The future must have been claimed under the lock.
+     *
+     * @param future The future of the retrieval.
+     */
+    void failCleared(RetrievalFuture future) {
+        completions.add(() -> future.failClaimed(
+                new IllegalStateException("The ticket pool was cleared")));
+    }
+
+    /**
+     * Waits for room in the event backlog and then completes the collected futures.
+     * Must be called after the engine has released its lock.
+     */
+    void deliver() {
+        eventStream.awaitBacklog();
+        deliverWithoutWaiting();
+    }
+
+    /**
+     * Completes the collected futures without waiting for room in the event backlog. Used when a
+     * retrieval is abandoned, which may happen on the timer thread every future deadline shares.
+     * Must be called after the engine has released its lock.
+     */
+    void deliverWithoutWaiting() {
+        completions.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,107 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The RetrievalFuture class is the future of an asynchronous ticket retrieval. Pools complete it
+ * only after releasing their lock, so the outcome is decided earlier: before taking the tickets, the
+ * pool claims the future under its lock. A claimed future can no longer be cancelled, time out or be
+ * completed by anyone but the pool, and a future that was cancelled or timed out first can no longer
+ * be claimed. A retrieval is therefore either served or abandoned, never both.
+ */
+class RetrievalFuture extends CompletableFuture<List<Ticket>> {
+    private static final int OPEN = 0;
+    private static final int CLAIMED = 1;      // The pool is serving or failing the retrieval
+    private static final int TIMED_OUT = 2;    // Abandoned because its deadline passed
+    private static final int ABANDONED = 3;    // Cancelled or completed from outside the pool
+
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+
+    /**
+     * Claims the future for the pool. Must be called while holding the pool lock, before the
+     * tickets are taken or the retrieval is failed.
+     *
+     * @return true if the pool now decides the outcome, false if the retrieval was abandoned.
+     */
+    boolean claim() {
+        return state.compareAndSet(OPEN, CLAIMED);
+    }
+
+    /**
+     * Checks whether the retrieval was cancelled or timed out. The answer is final as soon as the
+     * future was abandoned, even if the failure has not been stored in the future yet.
+     *
+     * @return true if the retrieval was abandoned, false otherwise.
+     */
+    boolean isAbandoned() {
+        return state.get() >= TIMED_OUT;
+    }
+
+    /**
+     * Checks whether the retrieval was abandoned because its deadline passed.
+     *
+     * @return true if the retrieval timed out, false otherwise.
+     */
+    boolean isTimedOut() {
+        return state.get() == TIMED_OUT;
+    }
+
+    /**
+     * Completes a claimed future with the retrieved tickets.
+     *
+     * @param tickets The retrieved tickets.
+     */
+    void completeClaimed(List<Ticket> tickets) {
+        super.complete(tickets);
+    }
+
+    /**
+     * Fails a claimed future.
+     *
+     * @param failure Why the retrieval failed.
+     */
+    void failClaimed(Throwable failure) {
+        super.completeExceptionally(failure);
+    }
+
+    /**
+     * Completes the future from outside the pool, which abandons the retrieval unless the pool has
+     * already claimed it.
+     *
+     * @param tickets The value to complete the future with.
+     * @return true if the future was completed, false if it was claimed or already completed.
+     */
+    @Override
+    public boolean complete(List<Ticket> tickets) {
+        return state.compareAndSet(OPEN, ABANDONED) && super.complete(tickets);
+    }
+
+    /**
+     * Fails the future, which abandons the retrieval unless the pool has already claimed it. A
+     * {@link TimeoutException}, as raised by {@link #orTimeout}, counts as the retrieval timing out.
+     *
+     * @param failure Why the future failed.
+     * @return true if the future was failed, false if it was claimed or already completed.
+     */
+    @Override
+    public boolean completeExceptionally(Throwable failure) {
+        int abandoned = failure instanceof TimeoutException ? TIMED_OUT : ABANDONED;
+        return state.compareAndSet(OPEN, abandoned) && super.completeExceptionally(failure);
+    }
+
+    /**
+     * Cancels the future, which abandons the retrieval unless the pool has already claimed it.
+     *
+     * @param mayInterruptIfRunning Has no effect, as for any {@link CompletableFuture}.
+     * @return true if the future was cancelled, false if it was claimed or already completed.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return state.compareAndSet(OPEN, ABANDONED) && super.cancel(mayInterruptIfRunning);
+    }
+}
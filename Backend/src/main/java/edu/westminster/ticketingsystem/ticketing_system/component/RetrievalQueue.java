@@ -0,0 +1,182 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.SchedulingPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The RetrievalQueue class orders waiting retrieval requests according to the configured
+ * {@link SchedulingPolicy}. Every {@link PriorityClass} has its own FIFO bucket, and the policy
+ * only decides which of the bucket heads is served next. There is a fixed number of buckets, so
+ * every operation apart from removing an arbitrary element is O(1) however many requests wait.
+ *
+ * The policy and the service order of the classes are read from the configuration on every
+ * decision, so a configuration update takes effect without rebuilding the pool. This class is
+ * not thread-safe; callers must hold the pool lock.
+ *
+ * @param <T> The type of the queued elements.
+ */
+public class RetrievalQueue<T> {
+    private static final PriorityClass[] CLASSES = PriorityClass.values();
+
+    private final ConfigurationData configurationData;
+    private final Function<T, TicketRetrievalRequest> requestOf;
+    private final List<ArrayDeque<T>> buckets = new ArrayList<>(CLASSES.length); // Indexed by class ordinal
+    private final int[] servedInRow = new int[CLASSES.length]; // Served since a lower class was last served
+
+    /**
+     * Constructs a new RetrievalQueue.
+     *
+     * @param configurationData The configuration holding the scheduling policy and its parameters.
+     * @param requestOf Extracts the retrieval request from a queued element.
+     */
+    public RetrievalQueue(ConfigurationData configurationData, Function<T, TicketRetrievalRequest> requestOf) {
+        this.configurationData = configurationData;
+        this.requestOf = requestOf;
+        for (int i = 0; i < CLASSES.length; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Adds an element to the end of the bucket of its priority class.
+     *
+     * @param element The element to add.
+     */
+    public void add(T element) {
+        bucketOf(element).addLast(element);
+    }
+
+    /**
+     * Returns the element the scheduling policy serves next, without removing it.
+     *
+     * @return The next element, or null if the queue is empty.
+     */
+    public T peek() {
+        List<PriorityClass> serviceOrder = configurationData.getPriorityClasses();
+        return switch (configurationData.getSchedulingPolicy()) {
+            case STRICT_PRIORITY -> headFrom(serviceOrder, 0);
+            case AGING -> agedHead(serviceOrder);
+            case WEIGHTED -> weightedHead(serviceOrder);
+        };
+    }
+
+    /**
+     * Removes and returns the element the scheduling policy serves next.
+     *
+     * @return The next element, or null if the queue is empty.
+     */
+    public T poll() {
+        T next = peek();
+        if (next != null) {
+            PriorityClass served = requestOf.apply(next).getPriorityClass();
+            buckets.get(served.ordinal()).pollFirst();
+            servedInRow[served.ordinal()]++;
+            // Serving a class ends the run of every class above it
+            for (PriorityClass higher : configurationData.getPriorityClasses()) {
+                if (higher == served) {
+                    break;
+                }
+                servedInRow[higher.ordinal()] = 0;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Removes an element from anywhere in the queue.
+     *
+     * @param element The element to remove.
+     * @return true if the element was queued, false otherwise.
+     */
+    public boolean remove(T element) {
+        return bucketOf(element).remove(element);
+    }
+
+    /**
+     * Removes and returns every queued element.
+     *
+     * @return The removed elements, in the service order of their classes.
+     */
+    public List<T> drain() {
+        List<T> drained = new ArrayList<>();
+        for (PriorityClass priorityClass : configurationData.getPriorityClasses()) {
+            ArrayDeque<T> bucket = buckets.get(priorityClass.ordinal());
+            drained.addAll(bucket);
+            bucket.clear();
+        }
+        Arrays.fill(servedInRow, 0);
+        return drained;
+    }
+
+    /**
+     * Returns the head of the first non-empty bucket at or after a position in the service order.
+     *
+     * @param serviceOrder The classes in the order they are served.
+     * @param from The position to start looking from.
+     * @return The head, or null if those buckets are all empty.
+     */
+    private T headFrom(List<PriorityClass> serviceOrder, int from) {
+        for (int rank = from; rank < serviceOrder.size(); rank++) {
+            T head = buckets.get(serviceOrder.get(rank).ordinal()).peekFirst();
+            if (head != null) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the bucket head with the earliest aged arrival time, which is its timestamp delayed
+     * by one aging interval per rank. On a tie the lower class goes first, as it has waited longer.
+     *
+     * @param serviceOrder The classes in the order they are served.
+     * @return The head, or null if the queue is empty.
+     */
+    private T agedHead(List<PriorityClass> serviceOrder) {
+        long agingInterval = configurationData.getPriorityAgingInterval();
+        T next = null;
+        long nextAgedTimestamp = Long.MAX_VALUE;
+        for (int rank = 0; rank < serviceOrder.size(); rank++) {
+            T head = buckets.get(serviceOrder.get(rank).ordinal()).peekFirst();
+            if (head != null) {
+                long agedTimestamp = requestOf.apply(head).getTimestamp() + rank * agingInterval;
+                if (agedTimestamp <= nextAgedTimestamp) {
+                    next = head;
+                    nextAgedTimestamp = agedTimestamp;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the head of the highest class that has not used up its run, passing over a class that
+     * has been served the configured number of times in a row while a lower class is waiting.
+     *
+     * @param serviceOrder The classes in the order they are served.
+     * @return The head, or null if the queue is empty.
+     */
+    private T weightedHead(List<PriorityClass> serviceOrder) {
+        int ratio = configurationData.getVipServiceRatio();
+        for (int rank = 0; rank < serviceOrder.size(); rank++) {
+            PriorityClass priorityClass = serviceOrder.get(rank);
+            T head = buckets.get(priorityClass.ordinal()).peekFirst();
+            if (head != null && (servedInRow[priorityClass.ordinal()] < ratio || headFrom(serviceOrder, rank + 1) == null)) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private ArrayDeque<T> bucketOf(T element) {
+        return buckets.get(requestOf.apply(element).getPriorityClass().ordinal());
+    }
+}
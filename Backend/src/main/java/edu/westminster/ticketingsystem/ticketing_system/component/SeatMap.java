@@ -0,0 +1,253 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.SeatLocation;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The SeatMap class is an assigned-seating ticket inventory. The venue holds as many seats as the
+ * pool capacity, divided evenly into sections that are filled row by row; the last row of a section
+ * may be shorter. Tickets added by vendors put the next seats of the venue on sale, in seat order,
+ * and each request is served a block of adjacent seats in a single row, so a seat is sold only once.
+ *
+ * Seats on sale are tracked in a single bitset next to an array of the ticket IDs assigned to
+ * them; a seat's location follows from its index, so it is only built into a ticket view.
+ * Each row also records its longest run of free seats, and a max-tree over the rows finds the
+ * first row that can hold a block of a given size in logarithmic time in the number of rows, so a
+ * request never scans rows that cannot serve it.
+ * Within that row the block is placed at the first run that fits.
+ *
+ * This class is not thread-safe; callers must guard it with their own lock.
+ */
+public class SeatMap implements TicketInventory {
+    private final int seatCount;
+    private final int seatsPerRow;
+    private final int seatsPerSection;
+    private final int rowsPerSection;
+    private final int rowCount;
+    private final BitSet freeSeats;     // Seats on sale and not yet sold
+    private final long[] seatTickets;   // The ID of the ticket assigned to each seat on sale
+    private final int[] longestRuns;    // Max-tree over the rows, with the rows as leaves
+    private final int firstLeaf;
+    private int releasedSeats = 0;      // Seats put on sale since the map was last cleared
+    private int size = 0;
+
+    /**
+     * Constructs a new SeatMap.
+     *
+     * @param capacity The number of seats in the venue.
+     * @param sections The number of sections the seats are divided into.
+     * @param seatsPerRow The number of seats in a full row.
+     */
+    public SeatMap(int capacity, int sections, int seatsPerRow) {
+        if (capacity < 0 || sections <= 0 || seatsPerRow <= 0) {
+            throw new IllegalArgumentException("Invalid seat map layout");
+        }
+        this.seatCount = capacity;
+        this.seatsPerRow = seatsPerRow;
+        this.seatsPerSection = Math.max(1, (capacity + sections - 1) / sections);
+        this.rowsPerSection = (seatsPerSection + seatsPerRow - 1) / seatsPerRow;
+        this.rowCount = rowsPerSection * sections;
+        this.freeSeats = new BitSet(capacity);
+        this.seatTickets = new long[capacity];
+        this.firstLeaf = Integer.highestOneBit(Math.max(1, rowCount - 1)) << 1;
+        this.longestRuns = new int[firstLeaf * 2];
+    }
+
+    /**
+     * Puts the next seats of the venue on sale, one for each ticket, if there are enough seats left.
+     *
+     * @param ticketIds The IDs of the tickets to assign to the seats.
+     * @return true if the seats were put on sale, false if too few seats are left.
+     */
+    @Override
+    public boolean addAll(long[] ticketIds) {
+        if (ticketIds.length > seatCount - releasedSeats) {
+            return false;
+        }
+        if (ticketIds.length == 0) {
+            return true;
+        }
+        int from = releasedSeats;
+        System.arraycopy(ticketIds, 0, seatTickets, from, ticketIds.length);
+        releasedSeats += ticketIds.length;
+        freeSeats.set(from, releasedSeats);
+        size += ticketIds.length;
+        for (int row = rowOf(from); row <= rowOf(releasedSeats - 1); row++) {
+            updateLongestRun(row);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether some row has a run of at least the given number of adjacent free seats.
+     *
+     * @param count The number of adjacent seats requested.
+     * @return true if a block of that size can be served, false otherwise.
+     */
+    @Override
+    public boolean canTake(int count) {
+        return longestRuns[1] >= count;
+    }
+
+    /**
+     * Takes a block of adjacent seats from the first row that can hold it.
+     *
+     * @param maxTickets The number of adjacent seats to take.
+     * @return Views of the tickets of the seats taken, in seat order, or an empty list if no row can hold the block.
+     */
+    @Override
+    public List<Ticket> take(int maxTickets) {
+        int row = firstRowWithRun(maxTickets);
+        if (row < 0 || maxTickets <= 0) {
+            return List.of();
+        }
+        int rowEnd = rowEnd(row);
+        int start = freeSeats.nextSetBit(rowStart(row));
+        while (Math.min(freeSeats.nextClearBit(start), rowEnd) - start < maxTickets) {
+            start = freeSeats.nextSetBit(freeSeats.nextClearBit(start));
+        }
+
+        long[] block = Arrays.copyOfRange(seatTickets, start, start + maxTickets);
+        freeSeats.clear(start, start + maxTickets);
+        size -= maxTickets;
+        updateLongestRun(row);
+        int firstSeat = start;
+        return new TicketIdList(block, maxTickets, index -> locate(firstSeat + index));
+    }
+
+    /**
+     * Takes every seat off sale, so the whole venue can be sold again.
+     */
+    @Override
+    public void clear() {
+        freeSeats.clear();
+        Arrays.fill(longestRuns, 0);
+        releasedSeats = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of seats on sale.
+     *
+     * @return The number of free seats.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of seats in the venue.
+     *
+     * @return The capacity.
+     */
+    @Override
+    public int capacity() {
+        return seatCount;
+    }
+
+    /**
+     * Returns the number of seats in a full row.
+     *
+     * @return The seats per row.
+     */
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    /**
+     * Returns the number of sections the venue is divided into.
+     *
+     * @return The number of sections.
+     */
+    public int getSections() {
+        return rowCount / rowsPerSection;
+    }
+
+    /**
+     * Finds the first row whose longest run of free seats holds at least the given number of seats.
+     *
+     * @param count The number of adjacent seats requested.
+     * @return The index of the row, or -1 if no row can hold the block.
+     */
+    private int firstRowWithRun(int count) {
+        if (longestRuns[1] < count) {
+            return -1;
+        }
+        int node = 1;
+        while (node < firstLeaf) {
+            node = longestRuns[2 * node] >= count ? 2 * node : 2 * node + 1;
+        }
+        return node - firstLeaf;
+    }
+
+    /**
+     * Recomputes the longest run of free seats in a row and propagates it up the max-tree.
+     *
+     * @param row The index of the row.
+     */
+    private void updateLongestRun(int row) {
+        int rowEnd = rowEnd(row);
+        int longest = 0;
+        int start = freeSeats.nextSetBit(rowStart(row));
+        while (start >= 0 && start < rowEnd) {
+            int end = Math.min(freeSeats.nextClearBit(start), rowEnd);
+            longest = Math.max(longest, end - start);
+            start = freeSeats.nextSetBit(end);
+        }
+
+        int node = firstLeaf + row;
+        longestRuns[node] = longest;
+        for (node >>= 1; node > 0; node >>= 1) {
+            longestRuns[node] = Math.max(longestRuns[2 * node], longestRuns[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the index of the row holding a seat.
+     *
+     * @param seatIndex The index of the seat in the venue.
+     * @return The index of the row.
+     */
+    private int rowOf(int seatIndex) {
+        int section = seatIndex / seatsPerSection;
+        return section * rowsPerSection + (seatIndex - section * seatsPerSection) / seatsPerRow;
+    }
+
+    /**
+     * Returns the index of the first seat in a row.
+     *
+     * @param row The index of the row.
+     * @return The index of the first seat.
+     */
+    private int rowStart(int row) {
+        return Math.min(seatCount, (row / rowsPerSection) * seatsPerSection + (row % rowsPerSection) * seatsPerRow);
+    }
+
+    /**
+     * Returns the index just past the last seat in a row.
+     *
+     * @param row The index of the row.
+     * @return The index just past the last seat.
+     */
+    private int rowEnd(int row) {
+        int sectionEnd = Math.min(seatCount, (row / rowsPerSection + 1) * seatsPerSection);
+        return Math.min(sectionEnd, rowStart(row) + seatsPerRow);
+    }
+
+    /**
+     * Converts the index of a seat into its location in the venue.
+     *
+     * @param seatIndex The index of the seat in the venue.
+     * @return The location of the seat.
+     */
+    private SeatLocation locate(int seatIndex) {
+        int section = seatIndex / seatsPerSection;
+        int offset = seatIndex - section * seatsPerSection;
+        return new SeatLocation(section + 1, offset / seatsPerRow + 1, offset % seatsPerRow + 1);
+    }
+}
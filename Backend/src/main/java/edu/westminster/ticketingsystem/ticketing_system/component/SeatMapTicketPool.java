@@ -0,0 +1,63 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+
+/**
+ * The SeatMapTicketPool class sells assigned seats. It is the {@link FairTicketPool} running on a
+ * {@link SeatMap}: requests are queued and woken in the same order, but a request is only served
+ * once some row has enough adjacent free seats for the whole block, and the tickets it receives
+ * carry their seat locations.
+ */
+public class SeatMapTicketPool extends FairTicketPool {
+    private final SeatMap seatMap;
+
+    /**
+     * Constructs a new SeatMapTicketPool with the seat layout of the given configuration.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     */
+    public SeatMapTicketPool(ConfigurationData configurationData, PoolEventStream eventStream) {
+        this(configurationData, eventStream, SimulationClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a new SeatMapTicketPool that measures time with the given clock.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times are measured with.
+     */
+    public SeatMapTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock) {
+        this(configurationData, eventStream, clock, new SeatMap(configurationData.getMaxTicketCapacity(),
+                configurationData.getSeatSections(), configurationData.getSeatsPerRow()));
+    }
+
+    private SeatMapTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock,
+                              SeatMap seatMap) {
+        super(configurationData, eventStream, clock, seatMap);
+        this.seatMap = seatMap;
+    }
+
+    /**
+     * Checks whether the seat layout of the pool matches the given configuration.
+     *
+     * @param configurationData The configuration to compare with.
+     * @return true if the number of sections and seats per row match, false otherwise.
+     */
+    public boolean hasLayoutOf(ConfigurationData configurationData) {
+        return seatMap.getSections() == configurationData.getSeatSections()
+                && seatMap.getSeatsPerRow() == configurationData.getSeatsPerRow();
+    }
+
+    /**
+     * Returns the engine mode implemented by this pool.
+     *
+     * @return {@link TicketPoolMode#SEAT_MAP}.
+     */
+    @Override
+    public TicketPoolMode getMode() {
+        return TicketPoolMode.SEAT_MAP;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SimulationClock interface is the source of time for ticket pools and the ticket service.
+ * Live simulations use the system clock; a discrete-event simulation supplies a virtual clock
+ * that only moves when the simulation advances it, so that pool wait times, retrieval timeouts and
+ * priority aging are measured in simulated time.
+ */
+public interface SimulationClock {
+
+    /**
+     * The system clock, whose timeouts are timed by the common timer of {@link CompletableFuture}.
+     */
+    SimulationClock SYSTEM = new SimulationClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public void expireAfter(CompletableFuture<?> future, long timeout, TimeUnit unit) {
+            future.orTimeout(timeout, unit);
+        }
+    };
+
+    /**
+     * Returns the current value of the clock's high-resolution time source, for measuring elapsed time.
+     *
+     * @return The current time in nanoseconds, from an arbitrary origin.
+     */
+    long nanoTime();
+
+    /**
+     * Returns the current time in milliseconds, for timestamping retrieval requests.
+     *
+     * @return The current time in milliseconds.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Fails the future with a {@link java.util.concurrent.TimeoutException} if it is not completed
+     * before the timeout passes on this clock.
+     *
+     * @param future The future to expire.
+     * @param timeout The time to wait before failing the future.
+     * @param unit The unit of the timeout.
+     */
+    void expireAfter(CompletableFuture<?> future, long timeout, TimeUnit unit);
+}
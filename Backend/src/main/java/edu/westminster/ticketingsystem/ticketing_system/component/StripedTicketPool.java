@@ -0,0 +1,1000 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.SchedulingPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The StripedTicketPool class is the high-throughput ticket pool engine.
+ * Tickets are spread over lock-striped ring buffer segments, and capacity and available
+ * tickets are tracked with CAS-based reservation counters, so vendors and customers
+ * only contend on the segment they touch. Customers whose request cannot be met park
+ * on a separate waiting lock that is only taken on the slow path. Waiters are woken one
+ * at a time: each woken request passes the wake-up on while tickets remain, instead of
+ * every waiter being woken on every change.
+ *
+ * Higher priority classes are still served before lower ones: while a request of a higher
+ * class is waiting, customers of a lower class cannot reserve tickets, unless the configured
+ * scheduling policy lets them through (after waiting the priority aging interval for every rank
+ * between them, or once the higher class has used up its service ratio). Waiting requests are
+ * counted per class, so the gate costs a few reads however many requests wait. Unlike
+ * {@link FairTicketPool}, requests of the same class are not guaranteed to be served in strict
+ * FIFO order.
+ *
+ * Asynchronous requests that cannot reserve their tickets straight away wait in a
+ * {@link RetrievalQueue} guarded by the waiting lock, and count as waiting requests so that
+ * they take part in the priority gate. They are served in queue order whenever tickets are added.
+ *
+ * Vendors that wait for capacity park on a not-full condition of the waiting lock. Retrievals only
+ * take that lock to wake a vendor when one is waiting, and a vendor that leaves passes the wake-up on
+ * while capacity remains.
+ *
+ * A reservation stays in flight from the moment capacity or tickets are reserved until the tickets
+ * have been placed in or taken from the segments and the counters updated. In-flight reservations
+ * never take the waiting lock, so clearing the pool can hold that lock while it waits for them to finish.
+ */
+public class StripedTicketPool extends AbstractTicketPool {
+    private static final int CLASS_COUNT = PriorityClass.values().length;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final AtomicInteger occupiedCapacity = new AtomicInteger(); // Capacity reserved by vendors
+    private final AtomicInteger availableTickets = new AtomicInteger(); // Tickets customers can reserve
+    private final AtomicInteger inFlightReservations = new AtomicInteger(); // Not yet placed or taken
+    private volatile Thread clearingThread; // Set while the pool is being cleared, under the waiting lock
+    private long clearGeneration; // Times the pool was cleared, guarded by the waiting lock
+
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition[] waiters = new Condition[CLASS_COUNT]; // Indexed by class ordinal
+    private final AtomicIntegerArray waitingRequests = new AtomicIntegerArray(CLASS_COUNT);
+    private final AtomicInteger totalWaitingRequests = new AtomicInteger();
+    private final AtomicIntegerArray reservationsInRow = new AtomicIntegerArray(CLASS_COUNT); // Since a lower class reserved
+    private final RetrievalQueue<PendingRetrieval> pendingRetrievals; // Guarded by the waiting lock
+    private final AtomicInteger pendingRetrievalCount = new AtomicInteger();
+    private final int[] pendingRetrievalsByClass = new int[CLASS_COUNT]; // Guarded by the waiting lock
+    private final Condition notFull = waitLock.newCondition();
+    private final AtomicInteger waitingVendors = new AtomicInteger();
+    private final LongAdder wakeUps = new LongAdder();
+    private final LongAdder spuriousWakeUps = new LongAdder();
+
+    /**
+     * Constructs a new StripedTicketPool with one inventory segment per available core,
+     * rounded up to a power of two. The configured capacity is divided evenly between the segments.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     */
+    public StripedTicketPool(ConfigurationData configurationData, PoolEventStream eventStream) {
+        this(configurationData, eventStream, SimulationClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a new StripedTicketPool that measures time with the given clock.
+     *
+     * @param configurationData The configuration of the event the pool sells tickets for.
+     * @param eventStream The stream the pool publishes its events to.
+     * @param clock The clock wait times and priority aging are measured with.
+     */
+    public StripedTicketPool(ConfigurationData configurationData, PoolEventStream eventStream, SimulationClock clock) {
+        super(configurationData, eventStream, clock);
+        int segmentCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+        int segmentCapacity = Math.max(1, (maxCapacity + segmentCount - 1) / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.pendingRetrievals = new RetrievalQueue<>(configurationData, PendingRetrieval::request);
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            waiters[i] = waitLock.newCondition();
+        }
+    }
+
+    /**
+     * Adds tickets to the pool if there is sufficient capacity.
+     * Capacity is reserved with a CAS loop before the tickets are placed in the segments,
+     * and they only become visible to customers once they are all in place.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @return true if tickets were added successfully, false if there was insufficient capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds) {
+        if (!tryReserveCapacity(ticketIds.length)) {
+            return false;
+        }
+        addReserved(ticketIds);
+        return true;
+    }
+
+    /**
+     * Adds tickets to the pool, waiting at most the given time for enough capacity.
+     * Capacity is first reserved without locking; if that fails the vendor waits on the
+     * slow path until retrievals free enough capacity or the deadline passes.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if tickets were added successfully, false if the deadline passed without enough capacity.
+     * @throws InterruptedException If the thread is interrupted while waiting for capacity.
+     */
+    @Override
+    public boolean addTickets(long[] ticketIds, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!tryReserveCapacity(ticketIds.length) && !awaitCapacity(ticketIds.length, unit.toNanos(timeout))) {
+            return false;
+        }
+        addReserved(ticketIds);
+        return true;
+    }
+
+    /**
+     * Retrieves tickets from the pool based on the given request, waiting at most the given time.
+     * The request first tries to reserve tickets without locking; if that fails it waits
+     * on the slow path until a vendor adds enough tickets or the deadline passes.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if the tickets were retrieved, false if the deadline passed or the pool was cleared.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    @Override
+    public boolean retrieveTickets(TicketRetrievalRequest request, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long startNanos = clock.nanoTime();
+        if (!tryReserve(request)) {
+            Reservation reservation = awaitReservation(request, unit.toNanos(timeout));
+            if (reservation != Reservation.RESERVED) {
+                if (reservation == Reservation.CLEARED) {
+                    publishRetrievalFailed(request);
+                } else {
+                    publishRetrievalTimedOut(request, clock.nanoTime() - startNanos);
+                }
+                eventStream.awaitBacklog();
+                return false;
+            }
+        }
+
+        PoolUpdate update = new PoolUpdate(eventStream);
+        takeRetrieval(request, null, startNanos, update);
+        signalVendors();
+        update.deliver();
+        return true;
+    }
+
+    /**
+     * Leaves a retrieval request with the pool without blocking the calling thread. The request
+     * is served straight away if it can reserve its tickets; otherwise it joins the pending
+     * asynchronous requests until a vendor adds enough tickets.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @return A future completed with the retrieved tickets.
+     */
+    @Override
+    public CompletableFuture<List<Ticket>> retrieveTicketsAsync(TicketRetrievalRequest request) {
+        long startNanos = startNanos(request);
+        RetrievalFuture future = new RetrievalFuture();
+        if (tryReserve(request)) {
+            future.claim(); // Not handed out yet, so it cannot have been abandoned
+            PoolUpdate update = new PoolUpdate(eventStream);
+            takeRetrieval(request, future, startNanos, update);
+            signalVendors();
+            update.deliver();
+            return future;
+        }
+
+        PendingRetrieval pending = new PendingRetrieval(request, future, startNanos);
+        waitLock.lock();
+        try {
+            pendingRetrievals.add(pending);
+            pendingRetrievalCount.incrementAndGet();
+            pendingRetrievalsByClass[request.getPriorityClass().ordinal()]++;
+            joinWaiting(request.getPriorityClass());
+        } finally {
+            waitLock.unlock();
+        }
+        // Tickets may have been added between the reservation attempt and joining the queue
+        servePendingRetrievals();
+        withdrawWhenAbandoned(future, () -> withdraw(pending));
+        return future;
+    }
+
+    /**
+     * Clears all tickets and resets the pool data. Vendors and customers that have already reserved
+     * capacity or tickets finish placing or taking them first, and reservations made meanwhile wait
+     * until the pool has been cleared, so the segments never hold tickets the counters do not account
+     * for. Pending asynchronous requests and waiting synchronous requests fail instead of waiting for
+     * tickets that no longer exist.
+     */
+    @Override
+    public void clearPoolData() {
+        List<PendingRetrieval> failed;
+        List<PendingRetrieval> abandoned;
+        waitLock.lock();
+        try {
+            clearingThread = Thread.currentThread();
+            try {
+                awaitReservationsInFlight();
+                for (Segment segment : segments) {
+                    segment.clear();
+                }
+                occupiedCapacity.set(0);
+                availableTickets.set(0);
+                statistics.reset();
+            } finally {
+                clearingThread = null;
+            }
+            clearGeneration++;
+            failed = new ArrayList<>();
+            abandoned = new ArrayList<>();
+            for (PendingRetrieval pending : pendingRetrievals.drain()) {
+                if (pending.queued) {
+                    leavePending(pending);
+                    (pending.future().claim() ? failed : abandoned).add(pending);
+                }
+            }
+            for (Condition classWaiters : waiters) {
+                classWaiters.signalAll();
+            }
+            signalNextVendor();
+        } finally {
+            waitLock.unlock();
+        }
+
+        PoolUpdate update = new PoolUpdate(eventStream);
+        publishPoolCleared(counters());
+        for (PendingRetrieval pending : failed) {
+            publishRetrievalFailed(pending.request());
+            update.failCleared(pending.future());
+        }
+        abandoned.forEach(this::reportAbandoned);
+        update.deliver();
+    }
+
+    /**
+     * Retrieves the number of times a waiting request was woken up.
+     *
+     * @return Total number of wake-ups.
+     */
+    @Override
+    public long getWakeUpCount() {
+        return wakeUps.sum();
+    }
+
+    /**
+     * Retrieves the number of wake-ups after which the request still could not reserve its tickets.
+     *
+     * @return Total number of spurious wake-ups.
+     */
+    @Override
+    public long getSpuriousWakeUpCount() {
+        return spuriousWakeUps.sum();
+    }
+
+    /**
+     * Returns the engine mode implemented by this pool.
+     *
+     * @return {@link TicketPoolMode#HIGH_THROUGHPUT}.
+     */
+    @Override
+    public TicketPoolMode getMode() {
+        return TicketPoolMode.HIGH_THROUGHPUT;
+    }
+
+    /**
+     * Captures the current pool counters for an event. Other threads may be updating the counters
+     * at the same time, so they are sampled without the consistency check rather than making the
+     * publishing thread wait for a quiet moment; {@link #snapshot()} remains consistent.
+     *
+     * @return The pool counters.
+     */
+    private PoolCounters counters() {
+        return statistics.sample();
+    }
+
+    /**
+     * Takes the tickets a request has reserved, updates the counters and ends the reservation. The
+     * caller wakes a waiting vendor afterwards, once none of its reservations are in flight.
+     *
+     * @param request The retrieval request that reserved the tickets.
+     * @param future The claimed future to complete if the request is asynchronous, or null.
+     * @param startNanos When the request started waiting, from the pool clock.
+     * @param update The update the completion of an asynchronous request is added to.
+     */
+    private void takeRetrieval(TicketRetrievalRequest request, RetrievalFuture future,
+                               long startNanos, PoolUpdate update) {
+        int ticketsRequested = request.getTicketsPerRetrieval();
+        long[] retrieved = new long[ticketsRequested];
+        takeReserved(retrieved);
+        occupiedCapacity.addAndGet(-ticketsRequested);
+
+        // Updating the counter variable states
+        statistics.recordRetrieved(ticketsRequested, request.getPriorityClass(), clock.nanoTime() - startNanos);
+        endReservation();
+
+        publishTicketsRetrieved(request, counters());
+        if (future != null) {
+            update.complete(future, new TicketIdList(retrieved, ticketsRequested));
+        }
+    }
+
+    /**
+     * Counts a reservation as in flight, first waiting for the pool to be cleared if it is being
+     * cleared. Callers that hold the waiting lock never see the pool being cleared, as clearing
+     * holds that lock throughout.
+     */
+    private void beginReservation() {
+        while (true) {
+            inFlightReservations.incrementAndGet();
+            if (clearingThread == null) {
+                return;
+            }
+            endReservation(); // The clear may be waiting for this count
+            // The clear holds the waiting lock until it is done
+            waitLock.lock();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Stops counting a reservation as in flight, once its tickets have been placed or taken, and wakes
+     * the thread clearing the pool if this was the last one it waits for.
+     */
+    private void endReservation() {
+        if (inFlightReservations.decrementAndGet() == 0) {
+            Thread clearer = clearingThread;
+            if (clearer != null) {
+                LockSupport.unpark(clearer);
+            }
+        }
+    }
+
+    /**
+     * Parks the clearing thread until no reservation is in flight. The reservation that brings the
+     * count to zero unparks it, as it reads the clearing thread after its decrement. An interrupt does
+     * not end the wait but is kept for the caller.
+     */
+    private void awaitReservationsInFlight() {
+        boolean interrupted = false;
+        while (inFlightReservations.get() > 0) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Attempts to reserve capacity for the given number of tickets with a CAS loop. A successful
+     * reservation stays in flight until the tickets have been placed.
+     *
+     * @param ticketCount The number of tickets to make room for.
+     * @return true if the capacity was reserved, false if the pool does not have enough free capacity.
+     */
+    private boolean tryReserveCapacity(int ticketCount) {
+        beginReservation();
+        int occupied;
+        do {
+            occupied = occupiedCapacity.get();
+            if (occupied + ticketCount > maxCapacity) {
+                endReservation();
+                return false;
+            }
+        } while (!occupiedCapacity.compareAndSet(occupied, occupied + ticketCount));
+        return true;
+    }
+
+    /**
+     * Places tickets whose capacity has been reserved into the segments and makes them available to customers.
+     *
+     * @param ticketIds The IDs of the tickets to add.
+     */
+    private void addReserved(long[] ticketIds) {
+        int ticketsToAddSize = ticketIds.length;
+        placeReserved(ticketIds);
+        statistics.recordAdded(ticketsToAddSize);
+        availableTickets.addAndGet(ticketsToAddSize);
+        endReservation();
+        signalWaiters();
+
+        publishTicketsAdded(ticketsToAddSize, counters());
+        servePendingRetrievals();
+        eventStream.awaitBacklog();
+    }
+
+    /**
+     * Waits on the slow path until capacity for the given number of tickets can be reserved or the
+     * deadline passes. The vendor is counted as waiting under the waiting lock before it tries again,
+     * so a retrieval that frees capacity after a failed attempt always sees it and signals it.
+     *
+     * @param ticketCount The number of tickets to make room for.
+     * @param timeoutNanos The maximum time to wait, in nanoseconds.
+     * @return true if the capacity was reserved, false if the deadline passed.
+     * @throws InterruptedException If the thread is interrupted while waiting for capacity.
+     */
+    private boolean awaitCapacity(int ticketCount, long timeoutNanos) throws InterruptedException {
+        waitLock.lock();
+        waitingVendors.incrementAndGet();
+        try {
+            long remainingNanos = timeoutNanos;
+            boolean reserved = tryReserveCapacity(ticketCount);
+            while (!reserved && remainingNanos > 0) {
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+                reserved = tryReserveCapacity(ticketCount);
+            }
+            return reserved;
+        } finally {
+            waitingVendors.decrementAndGet();
+            // This vendor may have taken a wake-up meant for the vendors behind it
+            signalNextVendor();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up a waiting vendor after capacity has been freed.
+     */
+    private void signalVendors() {
+        if (waitingVendors.get() == 0) {
+            return;
+        }
+        waitLock.lock();
+        try {
+            signalNextVendor();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the longest waiting vendor if the pool has free capacity. Must be called while holding the waiting lock.
+     */
+    private void signalNextVendor() {
+        if (waitingVendors.get() > 0 && occupiedCapacity.get() < maxCapacity) {
+            notFull.signal();
+        }
+    }
+
+    /**
+     * Serves pending asynchronous requests, waiting for room in the event backlog before completing them.
+     */
+    private void servePendingRetrievals() {
+        servePendingRetrievals(true);
+    }
+
+    /**
+     * Serves pending asynchronous requests in queue order for as long as they can reserve their tickets.
+     * Requests that were abandoned are dropped once they reach the head of the queue.
+     *
+     * @param awaitBacklog Whether to wait for room in the event backlog before completing the served requests.
+     */
+    private void servePendingRetrievals(boolean awaitBacklog) {
+        if (pendingRetrievalCount.get() == 0) {
+            return;
+        }
+        List<PendingRetrieval> reserved = new ArrayList<>();
+        List<PendingRetrieval> abandoned = new ArrayList<>();
+        boolean handedBack = false;
+        waitLock.lock();
+        try {
+            PendingRetrieval head;
+            while ((head = pendingRetrievals.peek()) != null) {
+                if (head.future().isAbandoned()) {
+                    // Removing the head of the queue does not have to search it
+                    pendingRetrievals.remove(head);
+                    if (head.queued) {
+                        leavePending(head);
+                        abandoned.add(head);
+                    }
+                    continue;
+                }
+                // The queue has already ordered the pending requests, so only blocked threads hold up a lower class
+                if (!reserveTickets(head.request(), this::blockedRequests)) {
+                    break;
+                }
+                if (!head.future().claim()) {
+                    // Abandoned since the check above; the request is dropped on the next pass
+                    cancelReservation(head.request());
+                    handedBack = true;
+                    continue;
+                }
+                recordReservation(head.request().getPriorityClass());
+                pendingRetrievals.poll();
+                leavePending(head);
+                reserved.add(head);
+            }
+            if (!reserved.isEmpty() || handedBack) {
+                // A request of a higher class leaving may have lifted the gate for lower classes
+                signalNextWaiter();
+            }
+        } finally {
+            waitLock.unlock();
+        }
+
+        PoolUpdate update = new PoolUpdate(eventStream);
+        abandoned.forEach(this::reportAbandoned);
+        for (PendingRetrieval pending : reserved) {
+            takeRetrieval(pending.request(), pending.future(), pending.enqueuedNanos(), update);
+        }
+        if (!reserved.isEmpty()) {
+            signalVendors();
+        }
+        if (awaitBacklog) {
+            update.deliver();
+        } else {
+            update.deliverWithoutWaiting();
+        }
+    }
+
+    /**
+     * Withdraws a pending asynchronous request whose future was cancelled or timed out, unless it
+     * has already left the queue. The request no longer counts as waiting, but stays in the queue
+     * until it reaches the head, so that withdrawing it does not have to search the queue.
+     *
+     * @param pending The pending request to withdraw.
+     */
+    private void withdraw(PendingRetrieval pending) {
+        waitLock.lock();
+        try {
+            if (!pending.queued) {
+                return;
+            }
+            leavePending(pending);
+            signalNextWaiter();
+        } finally {
+            waitLock.unlock();
+        }
+        reportAbandoned(pending);
+        // The withdrawn request may have been holding up the requests behind it
+        servePendingRetrievals(false);
+    }
+
+    /**
+     * Reports a pending asynchronous request that was abandoned, if it timed out.
+     *
+     * @param pending The abandoned request.
+     */
+    private void reportAbandoned(PendingRetrieval pending) {
+        if (pending.future().isTimedOut()) {
+            publishRetrievalTimedOut(pending.request(), clock.nanoTime() - pending.enqueuedNanos());
+        }
+    }
+
+    /**
+     * Updates the waiting counters for a request that has left the pending queue.
+     * Must be called while holding the waiting lock.
+     *
+     * @param pending The request that left the queue.
+     */
+    private void leavePending(PendingRetrieval pending) {
+        pending.queued = false;
+        pendingRetrievalCount.decrementAndGet();
+        pendingRetrievalsByClass[pending.request().getPriorityClass().ordinal()]--;
+        leaveWaiting(pending.request().getPriorityClass());
+    }
+
+    /**
+     * Counts a request of a priority class as waiting.
+     *
+     * @param priorityClass The class of the request.
+     */
+    private void joinWaiting(PriorityClass priorityClass) {
+        waitingRequests.incrementAndGet(priorityClass.ordinal());
+        totalWaitingRequests.incrementAndGet();
+    }
+
+    /**
+     * Stops counting a request of a priority class as waiting.
+     *
+     * @param priorityClass The class of the request.
+     */
+    private void leaveWaiting(PriorityClass priorityClass) {
+        waitingRequests.decrementAndGet(priorityClass.ordinal());
+        totalWaitingRequests.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of threads of a priority class blocked waiting for tickets, leaving out
+     * pending asynchronous requests. Must be called while holding the waiting lock.
+     *
+     * @param classOrdinal The ordinal of the priority class.
+     * @return The number of blocked requests.
+     */
+    private int blockedRequests(int classOrdinal) {
+        return waitingRequests.get(classOrdinal) - pendingRetrievalsByClass[classOrdinal];
+    }
+
+    /**
+     * Attempts to reserve the requested number of tickets with a CAS loop.
+     * Customers may not reserve tickets while a request of a higher priority class is waiting,
+     * unless the scheduling policy lets them overtake. A successful reservation stays in flight
+     * until the tickets have been taken.
+     *
+     * @param request The retrieval request to reserve tickets for.
+     * @return true if the tickets were reserved, false otherwise.
+     */
+    private boolean tryReserve(TicketRetrievalRequest request) {
+        return tryReserve(request, waitingRequests::get);
+    }
+
+    /**
+     * Attempts to reserve the requested number of tickets with a CAS loop, gating the request
+     * on the given numbers of waiting requests of the higher priority classes.
+     *
+     * @param request The retrieval request to reserve tickets for.
+     * @param waitingOf Returns the number of waiting requests of a class, by class ordinal, that the request has to respect.
+     * @return true if the tickets were reserved, false otherwise.
+     */
+    private boolean tryReserve(TicketRetrievalRequest request, IntUnaryOperator waitingOf) {
+        if (!reserveTickets(request, waitingOf)) {
+            return false;
+        }
+        recordReservation(request.getPriorityClass());
+        return true;
+    }
+
+    /**
+     * Reserves the requested number of tickets with a CAS loop, as {@link #tryReserve} does, but
+     * without counting the reservation towards the service ratio of its class.
+     *
+     * @param request The retrieval request to reserve tickets for.
+     * @param waitingOf Returns the number of waiting requests of a class, by class ordinal, that the request has to respect.
+     * @return true if the tickets were reserved, false otherwise.
+     */
+    private boolean reserveTickets(TicketRetrievalRequest request, IntUnaryOperator waitingOf) {
+        int ticketsRequested = request.getTicketsPerRetrieval();
+        if (totalWaitingRequests.get() > 0 && isHeldBack(request, waitingOf)) {
+            return false;
+        }
+        beginReservation();
+        int available;
+        do {
+            available = availableTickets.get();
+            if (available < ticketsRequested) {
+                endReservation();
+                return false;
+            }
+        } while (!availableTickets.compareAndSet(available, available - ticketsRequested));
+        return true;
+    }
+
+    /**
+     * Hands back tickets reserved for a request that will not take them, and ends the reservation.
+     *
+     * @param request The retrieval request the tickets were reserved for.
+     */
+    private void cancelReservation(TicketRetrievalRequest request) {
+        availableTickets.addAndGet(request.getTicketsPerRetrieval());
+        endReservation();
+    }
+
+    /**
+     * Counts a reservation towards the service ratio of its class.
+     *
+     * @param reserved The priority class of the request that reserved tickets.
+     */
+    private void recordReservation(PriorityClass reserved) {
+        reservationsInRow.incrementAndGet(reserved.ordinal());
+        // Reserving ends the run of every class above this one
+        for (PriorityClass higher : configurationData.getPriorityClasses()) {
+            if (higher == reserved) {
+                break;
+            }
+            if (reservationsInRow.get(higher.ordinal()) != 0) {
+                reservationsInRow.set(higher.ordinal(), 0);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a waiting request of a higher priority class holds the request back, that is
+     * whether some higher class has waiting requests the scheduling policy does not let it overtake.
+     *
+     * @param request The retrieval request.
+     * @param waitingOf Returns the number of waiting requests of a class, by class ordinal.
+     * @return true if the request has to wait, false otherwise.
+     */
+    private boolean isHeldBack(TicketRetrievalRequest request, IntUnaryOperator waitingOf) {
+        List<PriorityClass> serviceOrder = configurationData.getPriorityClasses();
+        int rank = request.getPriorityClass().rankIn(serviceOrder);
+        for (int higherRank = 0; higherRank < rank; higherRank++) {
+            PriorityClass higher = serviceOrder.get(higherRank);
+            if (waitingOf.applyAsInt(higher.ordinal()) > 0 && !mayOvertake(request, higher, rank - higherRank)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the scheduling policy lets a request reserve tickets while requests of a higher class are waiting.
+     *
+     * @param request The retrieval request.
+     * @param higher The higher priority class with waiting requests.
+     * @param rankGap The number of ranks the higher class is above the request.
+     * @return true if the request may overtake the waiting requests of the higher class, false otherwise.
+     */
+    private boolean mayOvertake(TicketRetrievalRequest request, PriorityClass higher, int rankGap) {
+        return switch (configurationData.getSchedulingPolicy()) {
+            case STRICT_PRIORITY -> false;
+            case AGING -> clock.currentTimeMillis() - request.getTimestamp()
+                    >= (long) rankGap * configurationData.getPriorityAgingInterval();
+            case WEIGHTED -> reservationsInRow.get(higher.ordinal()) >= configurationData.getVipServiceRatio();
+        };
+    }
+
+    /**
+     * Waits on the slow path until the request can reserve its tickets, the deadline passes or the
+     * pool is cleared. The waiting counters are updated under the waiting lock, so a vendor that adds
+     * tickets after a failed reservation attempt always sees the waiter and signals it. When the request
+     * leaves, it passes the wake-up on to the next waiter if tickets remain.
+     *
+     * @param request The retrieval request to reserve tickets for.
+     * @param timeoutNanos The maximum time to wait, in nanoseconds.
+     * @return How the wait ended.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    private Reservation awaitReservation(TicketRetrievalRequest request, long timeoutNanos)
+            throws InterruptedException {
+        Condition classWaiters = waiters[request.getPriorityClass().ordinal()];
+
+        waitLock.lock();
+        joinWaiting(request.getPriorityClass());
+        try {
+            long generation = clearGeneration;
+            long remainingNanos = timeoutNanos;
+            boolean reserved = tryReserve(request);
+            while (!reserved && remainingNanos > 0) {
+                long untilAgedNanos = TimeUnit.MILLISECONDS.toNanos(agingDeadlineMillis(request) - clock.currentTimeMillis());
+                // Wake up on our own once the request has aged enough to overtake the higher classes
+                long waitNanos = untilAgedNanos > 0 && untilAgedNanos < remainingNanos ? untilAgedNanos : remainingNanos;
+                long leftNanos = classWaiters.awaitNanos(waitNanos);
+                remainingNanos -= waitNanos - leftNanos;
+                if (clearGeneration != generation) {
+                    // The tickets the request waited for are gone; a wake-up by the clear is not spurious
+                    wakeUps.increment();
+                    return Reservation.CLEARED;
+                }
+                reserved = tryReserve(request);
+                if (leftNanos > 0) {
+                    // Signalled before the wait ran out; expired waits are not wake-ups
+                    wakeUps.increment();
+                    if (!reserved) {
+                        spuriousWakeUps.increment();
+                    }
+                }
+            }
+            return reserved ? Reservation.RESERVED : Reservation.TIMED_OUT;
+        } finally {
+            // Leaving also lifts the gate for lower classes once the last request of this class is gone
+            leaveWaiting(request.getPriorityClass());
+            signalNextWaiter();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the moment a request may overtake every waiting request of a higher class under the aging policy.
+     * Must be called while holding the waiting lock.
+     *
+     * @param request The retrieval request.
+     * @return The deadline in epoch milliseconds, or 0 if the aging policy is not in use or no higher class is waiting.
+     */
+    private long agingDeadlineMillis(TicketRetrievalRequest request) {
+        if (configurationData.getSchedulingPolicy() != SchedulingPolicy.AGING) {
+            return 0;
+        }
+        List<PriorityClass> serviceOrder = configurationData.getPriorityClasses();
+        int rank = request.getPriorityClass().rankIn(serviceOrder);
+        for (int higherRank = 0; higherRank < rank; higherRank++) {
+            if (waitingRequests.get(serviceOrder.get(higherRank).ordinal()) > 0) {
+                return request.getTimestamp() + (long) (rank - higherRank) * configurationData.getPriorityAgingInterval();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Wakes up a waiting request after tickets have been added.
+     */
+    private void signalWaiters() {
+        if (totalWaitingRequests.get() == 0) {
+            return;
+        }
+        waitLock.lock();
+        try {
+            signalNextWaiter();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the longest waiting request of the highest priority class with waiting requests, if
+     * tickets are available. Under the weighted policy a class that has used up its service ratio is
+     * passed over while a lower class is waiting, and under the aging policy a request of every lower
+     * class is woken as well so that an aged request can overtake. Must be called while holding the
+     * waiting lock.
+     */
+    private void signalNextWaiter() {
+        if (availableTickets.get() == 0) {
+            return;
+        }
+        SchedulingPolicy policy = configurationData.getSchedulingPolicy();
+        List<PriorityClass> serviceOrder = configurationData.getPriorityClasses();
+        for (int rank = 0; rank < serviceOrder.size(); rank++) {
+            int classOrdinal = serviceOrder.get(rank).ordinal();
+            if (waitingRequests.get(classOrdinal) == 0) {
+                continue;
+            }
+            if (policy == SchedulingPolicy.WEIGHTED
+                    && reservationsInRow.get(classOrdinal) >= configurationData.getVipServiceRatio()
+                    && isWaitingBelow(serviceOrder, rank)) {
+                continue;
+            }
+            waiters[classOrdinal].signal();
+            if (policy != SchedulingPolicy.AGING) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether any class ranked below the given rank has waiting requests.
+     *
+     * @param serviceOrder The classes in the order they are served.
+     * @param rank The rank to look below.
+     * @return true if a lower class has waiting requests, false otherwise.
+     */
+    private boolean isWaitingBelow(List<PriorityClass> serviceOrder, int rank) {
+        for (int lowerRank = rank + 1; lowerRank < serviceOrder.size(); lowerRank++) {
+            if (waitingRequests.get(serviceOrder.get(lowerRank).ordinal()) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places tickets whose capacity has been reserved into the segments, starting with the caller's
+     * own segment. Reserved capacity never exceeds the combined segment capacity, so the sweep is
+     * repeated until every ticket has found a free slot.
+     *
+     * @param ticketIds The IDs of the tickets to place.
+     */
+    private void placeReserved(long[] ticketIds) {
+        int placed = 0;
+        int start = homeSegment();
+        while (placed < ticketIds.length) {
+            for (int i = 0; i < segments.length && placed < ticketIds.length; i++) {
+                placed += segments[(start + i) & segmentMask].offer(ticketIds, placed);
+            }
+            if (placed < ticketIds.length) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Takes reserved tickets from the segments, starting with the caller's own segment.
+     * A reservation guarantees the tickets are in the segments, and the pool is not cleared while
+     * it is in flight, so the sweep is repeated until they are all found.
+     *
+     * @param target The array the IDs of the reserved tickets are taken into; its length is the number reserved.
+     */
+    private void takeReserved(long[] target) {
+        int taken = 0;
+        int start = homeSegment();
+        while (taken < target.length) {
+            for (int i = 0; i < segments.length && taken < target.length; i++) {
+                taken += segments[(start + i) & segmentMask].drainTo(target, taken);
+            }
+            if (taken < target.length) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the segment associated with the current thread.
+     *
+     * @return The segment index.
+     */
+    private int homeSegment() {
+        return (int) Thread.currentThread().threadId() & segmentMask;
+    }
+
+    /**
+     * How a synchronous request's wait on the slow path ended.
+     */
+    private enum Reservation {
+        RESERVED,
+        TIMED_OUT,
+        CLEARED
+    }
+
+    /**
+     * An asynchronous retrieval request waiting for tickets.
+     */
+    private static final class PendingRetrieval {
+        private final TicketRetrievalRequest request;
+        private final RetrievalFuture future;
+        private final long enqueuedNanos;
+        private boolean queued = true; // Guarded by the waiting lock; cleared once the request stops counting as waiting
+
+        PendingRetrieval(TicketRetrievalRequest request, RetrievalFuture future, long enqueuedNanos) {
+            this.request = request;
+            this.future = future;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        TicketRetrievalRequest request() {
+            return request;
+        }
+
+        RetrievalFuture future() {
+            return future;
+        }
+
+        long enqueuedNanos() {
+            return enqueuedNanos;
+        }
+    }
+
+    /**
+     * A single ring buffer inventory segment guarded by its own lock.
+     */
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TicketRingBuffer tickets;
+
+        Segment(int capacity) {
+            this.tickets = new TicketRingBuffer(capacity);
+        }
+
+        int offer(long[] ticketIds, int offset) {
+            lock.lock();
+            try {
+                return tickets.offer(ticketIds, offset, ticketIds.length - offset);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int drainTo(long[] target, int offset) {
+            lock.lock();
+            try {
+                return tickets.takeInto(target, offset, target.length - offset);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                tickets.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The TicketIdGenerator class hands out unique, increasing 64-bit ticket IDs for vendor releases.
+ * Every release claims the next batch number from a single counter, and its tickets are
+ * numbered within that batch, so generating IDs never allocates anything but the ID array.
+ */
+@Component
+public class TicketIdGenerator {
+    private final AtomicLong nextBatch = new AtomicLong(1);
+
+    /**
+     * Generates the IDs of the tickets in one vendor release. Releases larger than a batch
+     * claim as many batches as they need.
+     *
+     * @param vendorId The ID of the vendor releasing the tickets; must be a number no greater than
+     *                 {@link TicketId#MAX_VENDOR}.
+     * @param count The number of tickets released.
+     * @return The ticket IDs, in increasing order.
+     * @throws IllegalArgumentException if the vendor ID cannot be encoded.
+     * @throws IllegalStateException if every batch number has been used.
+     */
+    public long[] generate(String vendorId, int count) {
+        int vendor = parseVendor(vendorId);
+        int batches = Math.max(1, (count + TicketId.BATCH_SIZE - 1) / TicketId.BATCH_SIZE);
+        long firstBatch = nextBatch.getAndAdd(batches);
+        if (firstBatch + batches - 1 > TicketId.MAX_BATCH) {
+            throw new IllegalStateException("Ticket ID batches exhausted");
+        }
+
+        long[] ticketIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            ticketIds[i] = TicketId.of(firstBatch + i / TicketId.BATCH_SIZE, vendor, i % TicketId.BATCH_SIZE);
+        }
+        return ticketIds;
+    }
+
+    private int parseVendor(String vendorId) {
+        try {
+            int vendor = Integer.parseInt(vendorId);
+            if (vendor >= 0 && vendor <= TicketId.MAX_VENDOR) {
+                return vendor;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Vendor ID " + vendorId + " cannot be encoded in a ticket ID");
+    }
+}
@@ -0,0 +1,66 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.SeatLocation;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * The TicketIdList class presents ticket IDs taken from a pool as a list of {@link Ticket}s.
+ * Tickets are created only when an element is read, so retrievals whose tickets are never
+ * inspected allocate nothing per ticket.
+ */
+public class TicketIdList extends AbstractList<Ticket> implements RandomAccess {
+    private final long[] ticketIds;
+    private final int size;
+    private final IntFunction<SeatLocation> seats;
+
+    /**
+     * Constructs a list of general admission tickets.
+     *
+     * @param ticketIds The ticket IDs.
+     * @param size The number of IDs in use, starting from the first.
+     */
+    public TicketIdList(long[] ticketIds, int size) {
+        this(ticketIds, size, null);
+    }
+
+    /**
+     * Constructs a list of tickets with assigned seats.
+     *
+     * @param ticketIds The ticket IDs.
+     * @param size The number of IDs in use, starting from the first.
+     * @param seats Returns the seat of the ticket at a given index, or null for general admission tickets.
+     */
+    public TicketIdList(long[] ticketIds, int size, IntFunction<SeatLocation> seats) {
+        this.ticketIds = ticketIds;
+        this.size = size;
+        this.seats = seats;
+    }
+
+    /**
+     * Returns a view of the ticket at the given index.
+     *
+     * @param index The index of the ticket.
+     * @return The ticket.
+     */
+    @Override
+    public Ticket get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new Ticket(ticketIds[index], seats == null ? null : seats.apply(index));
+    }
+
+    /**
+     * Returns the number of tickets in the list.
+     *
+     * @return The number of tickets.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
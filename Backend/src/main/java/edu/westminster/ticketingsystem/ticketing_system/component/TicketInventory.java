@@ -0,0 +1,56 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.List;
+
+/**
+ * The TicketInventory interface describes where a lock-based pool engine keeps its tickets.
+ * Tickets are held as their 64-bit IDs and only turned into {@link Ticket} views when taken.
+ * Implementations are not thread-safe; the engine guards them with its own lock.
+ */
+public interface TicketInventory {
+
+    /**
+     * Adds all the given tickets if they fit in the inventory.
+     *
+     * @param ticketIds The IDs of the tickets to add.
+     * @return true if the tickets were added, false if there was insufficient capacity.
+     */
+    boolean addAll(long[] ticketIds);
+
+    /**
+     * Checks whether a request for the given number of tickets can be served now.
+     *
+     * @param count The number of tickets requested.
+     * @return true if {@link #take(int)} would return that many tickets, false otherwise.
+     */
+    boolean canTake(int count);
+
+    /**
+     * Takes up to the given number of tickets from the inventory.
+     *
+     * @param maxTickets The maximum number of tickets to take.
+     * @return Views of the tickets taken.
+     */
+    List<Ticket> take(int maxTickets);
+
+    /**
+     * Removes all tickets from the inventory.
+     */
+    void clear();
+
+    /**
+     * Returns the number of tickets in the inventory.
+     *
+     * @return The number of tickets.
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of tickets the inventory can hold.
+     *
+     * @return The capacity.
+     */
+    int capacity();
+}
@@ -1,251 +1,141 @@
 package edu.westminster.ticketingsystem.ticketing_system.component;
 
-import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
 import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
 import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
-import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
-import edu.westminster.ticketingsystem.ticketing_system.service.TransactionService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
- * The TicketPool class manages the pool of tickets in a thread-safe manner.
- * It handles operations such as adding tickets, retrieving tickets, and clearing the pool.
- * The class uses locking mechanisms to ensure concurrent safety and PriorityQueues
- * to handle ticket retrieval requests in a prioritized manner.
+ * The TicketPool interface defines the operations of a ticket pool engine.
+ * Vendors add tickets to the pool and customers retrieve them, with customers served
+ * in the configured order of their priority classes. Implementations differ in how they trade strict
+ * fairness for throughput (see {@link TicketPoolMode}).
  */
-@Component
-@RequiredArgsConstructor
-public class TicketPool {
-    private final SystemConfiguration systemConfiguration;
-    private final SimulationLogService logService;
-    private final TransactionService transactionService;
-    private final List<Ticket> tickets = new ArrayList<>();
-    private final Lock lock = new ReentrantLock(true); // Ensures fair locking for threads
-    private final Condition condition = lock.newCondition();
-    private final PriorityQueue<TicketRetrievalRequest> requestQueue = new PriorityQueue<>();
-    private int totalTicketsRetrieved = 0;
-    private int totalTicketsAdded = 0;
-    private int totalVIPRetrievals = 0;
-    private int totalNormalRetrievals = 0;
+public interface TicketPool {
 
     /**
      * Adds tickets to the pool if there is sufficient capacity.
      *
-     * @param ticketsToAdd List of tickets to add to the pool.
+     * @param ticketIds The IDs of the tickets to add to the pool.
      * @return true if tickets were added successfully, false if there was insufficient capacity.
      */
-    public boolean addTickets(List<Ticket> ticketsToAdd) {
-        lock.lock();
-        int ticketsToAddSize = ticketsToAdd.size();
-        try {
-            int maxCapacity = systemConfiguration.getConfigurationData().getMaxTicketCapacity();
-            if (tickets.size() + ticketsToAddSize > maxCapacity) {
-                return false;
-            }
-            tickets.addAll(ticketsToAdd);
-            totalTicketsAdded += ticketsToAddSize;
-
-            // Logs the ticket addition operation to the database
-            transactionService.logTransaction(
-                    "ADD",
-                    "VENDOR",
-                    "VENDOR",
-                    ticketsToAddSize,
-                    "Added tickets to the pool."
-            );
-
-            logService.sendStructuredLog("TICKET_ADD", Map.of(
-                    "ticketsAdded", ticketsToAddSize,
-                    "availableTickets", tickets.size(),
-                    "totalTicketsAdded", totalTicketsAdded,
-                    "totalTicketsRetrieved", totalTicketsRetrieved,
-                    "totalVIPRetrievals", totalVIPRetrievals,
-                    "totalNormalRetrievals", totalNormalRetrievals
-            ));
-            condition.signalAll();
-            return true;
-        } finally {
-            lock.unlock();
-        }
-    }
+    boolean addTickets(long[] ticketIds);
 
     /**
-     * Retrieves tickets from the pool based on the given request.
+     * Adds tickets to the pool, waiting at most the given time for enough capacity. A waiting vendor
+     * is woken as soon as retrievals or a cleared pool free space, instead of retrying on a timer.
+     *
+     * @param ticketIds The IDs of the tickets to add to the pool.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if tickets were added successfully, false if the deadline passed without enough capacity.
+     * @throws InterruptedException If the thread is interrupted while waiting for capacity.
+     */
+    boolean addTickets(long[] ticketIds, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves tickets from the pool based on the given request, waiting until
+     * enough tickets are available.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @throws InterruptedException If the thread is interrupted while waiting for tickets.
+     */
+    void retrieveTickets(TicketRetrievalRequest request) throws InterruptedException;
+
+    /**
+     * Retrieves tickets from the pool based on the given request, waiting at most the given time
+     * for enough tickets. A request whose deadline passes leaves the queue, is reported with a
+     * timeout event and counts toward the retrieval timeout metric.
      *
      * @param request The retrieval request containing customer details and ticket count.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if the tickets were retrieved, false if the deadline passed or the pool was cleared.
      * @throws InterruptedException If the thread is interrupted while waiting for tickets.
      */
-    public void retrieveTickets(TicketRetrievalRequest request) throws InterruptedException {
-        lock.lock();
-        try {
-            requestQueue.add(request);
-            // Wait until the current request is the highest priority and there are enough tickets
-            if (request != null) {
-                while (requestQueue.peek() != request || tickets.size() < request.getTicketsPerRetrieval()) {
-                    condition.await();
-                }
-            }
-
-            requestQueue.poll();
-            assert request != null;
-            if (tickets.size() < request.getTicketsPerRetrieval()) {
-                logService.sendStructuredLog("TICKET_RETRIEVAL_FAILED", Map.of(
-                        "customerId", request.getCustomerId(),
-                        "customerType", request.isVIP() ? "VIP" : "Normal",
-                        "reason", "Insufficient tickets"
-                ));
-                return;
-            }
-
-            // Remove tickets for the request
-            if (request.getTicketsPerRetrieval() > 0) {
-                tickets.subList(0, request.getTicketsPerRetrieval()).clear();
-            }
-
-            // Updating the counter variable states
-            totalTicketsRetrieved += request.getTicketsPerRetrieval();
-            if (request.isVIP()) {
-                totalVIPRetrievals += request.getTicketsPerRetrieval();
-            } else {
-                totalNormalRetrievals += request.getTicketsPerRetrieval();
-            }
-
-            // Logs the ticket retrieval operation to the database
-            transactionService.logTransaction(
-                    "RETRIEVE",
-                    request.getCustomerId(),
-                    request.isVIP() ? "VIP" : "NORMAL",
-                    request.getTicketsPerRetrieval(),
-                    "Retrieved tickets from the pool."
-            );
-
-            logService.sendStructuredLog("TICKET_RETRIEVAL", Map.of(
-                    "customerId", request.getCustomerId(),
-                    "customerType", request.isVIP() ? "VIP" : "Normal",
-                    "retrievedTickets", request.getTicketsPerRetrieval(),
-                    "availableTickets", tickets.size(),
-                    "totalTicketsAdded", totalTicketsAdded,
-                    "totalTicketsRetrieved", totalTicketsRetrieved,
-                    "totalVIPRetrievals", totalVIPRetrievals,
-                    "totalNormalRetrievals", totalNormalRetrievals
-            ));
-            condition.signalAll();
-        } finally {
-            lock.unlock();
-        }
-    }
+    boolean retrieveTickets(TicketRetrievalRequest request, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Leaves a retrieval request with the pool without blocking the calling thread. The returned
+     * future is completed with the retrieved tickets by the call that makes the request satisfiable,
+     * usually a vendor adding tickets, so dependent actions run on that thread unless an async
+     * variant is used. The future fails with an IllegalStateException if the pool is cleared first.
+     * Cancelling the future, or letting it time out with {@link CompletableFuture#orTimeout}, withdraws
+     * the request unless it is already being served; a timeout is reported like a timed-out retrieval.
+     *
+     * @param request The retrieval request containing customer details and ticket count.
+     * @return A future completed with the retrieved tickets.
+     */
+    CompletableFuture<List<Ticket>> retrieveTicketsAsync(TicketRetrievalRequest request);
 
     /**
      * Clears all tickets and resets the pool data.
      */
-    public void clearPoolData() {
-        lock.lock();
-        try {
-            tickets.clear();
-            requestQueue.clear();
-            totalTicketsAdded = 0;
-            totalTicketsRetrieved = 0;
-            totalVIPRetrievals = 0;
-            totalNormalRetrievals = 0;
-            condition.signalAll();
-
-            logService.sendStructuredLog("POOL_CLEARED", Map.of(
-                    "availableTickets", tickets.size(),
-                    "totalTicketsAdded", totalTicketsAdded,
-                    "totalTicketsRetrieved", totalTicketsRetrieved,
-                    "totalVIPRetrievals", totalVIPRetrievals,
-                    "totalNormalRetrievals", totalNormalRetrievals
-            ));
-
-            // logs the transaction to the database
-            transactionService.logTransaction(
-                    "CLEAR",
-                    "SYSTEM",
-                    "SYSTEM",
-                    tickets.size(),
-                    "Cleared all tickets from the pool."
-            );
-        } finally {
-            lock.unlock();
-        }
-    }
+    void clearPoolData();
+
+    /**
+     * Returns the ticket counters of the pool as they were at a single moment.
+     * The snapshot is taken without blocking vendors or customers.
+     *
+     * @return An internally consistent snapshot of the pool counters.
+     */
+    PoolCounters snapshot();
+
+    /**
+     * Summarises how long served retrieval requests of one priority class waited.
+     *
+     * @param priorityClass The priority class to summarise.
+     * @return The wait time statistics.
+     */
+    WaitTimeStats getWaitTimeStats(PriorityClass priorityClass);
+
+    /**
+     * Takes a copy of the wait times of served requests of one priority class recorded so far,
+     * so that the wait times of a later period can be summarised on their own.
+     *
+     * @param priorityClass The priority class.
+     * @return A copy of the wait time histogram.
+     */
+    WaitTimeHistogram getWaitTimeHistogram(PriorityClass priorityClass);
 
     /**
-     * Retrieves the current number of available tickets in the pool.
+     * Retrieves the number of times a waiting request was woken up.
      *
-     * @return The number of tickets in the pool.
+     * @return Total number of wake-ups.
      */
-    public int getTicketCount() {
-        lock.lock();
-        try {
-            return tickets.size();
-        } finally {
-            lock.unlock();
-        }
-    }
+    long getWakeUpCount();
 
     /**
-     * Retrieves the total number of tickets retrieved from the pool.
+     * Retrieves the number of wake-ups after which the request still could not be served.
      *
-     * @return Total number of retrieved tickets.
+     * @return Total number of spurious wake-ups.
      */
-    public int getTotalTicketsRetrieved() {
-        lock.lock();
-        try {
-            return totalTicketsRetrieved;
-        } finally {
-            lock.unlock();
-        }
-    }
+    long getSpuriousWakeUpCount();
 
     /**
-     * Retrieves the total number of tickets added to the pool.
+     * Retrieves the number of retrieval requests that gave up because their deadline passed.
      *
-     * @return Total number of added tickets.
+     * @return Total number of retrieval timeouts.
      */
-    public int getTotalTicketsAdded() {
-        lock.lock();
-        try {
-            return totalTicketsAdded;
-        } finally {
-            lock.unlock();
-        }
-    }
+    long getRetrievalTimeoutCount();
 
     /**
-     * Retrieves the total number of VIP tickets retrieved.
+     * Returns the maximum number of tickets the pool can hold.
      *
-     * @return Total number of VIP ticket retrievals.
+     * @return The maximum ticket capacity.
      */
-    public int getTotalVIPRetrievals() {
-        lock.lock();
-        try {
-            return totalVIPRetrievals;
-        } finally {
-            lock.unlock();
-        }
-    }
+    int getCapacity();
 
     /**
-     * Retrieves the total number of normal tickets retrieved.
+     * Returns the engine mode implemented by this pool.
      *
-     * @return Total number of normal ticket retrievals.
+     * @return The pool mode.
      */
-    public int getTotalNormalRetrievals() {
-        lock.lock();
-        try {
-            return totalNormalRetrievals;
-        } finally {
-            lock.unlock();
-        }
-    }
+    TicketPoolMode getMode();
 }
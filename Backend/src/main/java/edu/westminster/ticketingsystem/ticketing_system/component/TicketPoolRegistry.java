@@ -0,0 +1,210 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The TicketPoolRegistry class holds one ticket pool per event, keyed by event ID.
+ * Each event has its own configuration, pool engine and event stream, so the traffic of one
+ * event never contends with the locks of another. The default event always exists and uses
+ * the global system configuration. All pools of a registry measure time with the registry's clock.
+ */
+@Component
+public class TicketPoolRegistry {
+
+    /**
+     * ID of the event that uses the global system configuration.
+     */
+    public static final String DEFAULT_EVENT_ID = "default";
+
+    private final PoolEventPipeline eventPipeline;
+    private final SimulationClock clock;
+    private final ConcurrentHashMap<String, EventPool> eventPools = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new TicketPoolRegistry containing the default event, whose pools run on the system clock.
+     *
+     * @param systemConfiguration The system configuration used by the default event.
+     * @param eventPipeline The pipeline the pools publish their events to.
+     */
+    @Autowired
+    public TicketPoolRegistry(SystemConfiguration systemConfiguration, PoolEventPipeline eventPipeline) {
+        this(systemConfiguration.getConfigurationData(), eventPipeline, SimulationClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a new TicketPoolRegistry containing the default event, whose pools run on the given clock.
+     *
+     * @param defaultConfiguration The configuration used by the default event.
+     * @param eventPipeline The pipeline the pools publish their events to.
+     * @param clock The clock the pools measure time with.
+     */
+    public TicketPoolRegistry(ConfigurationData defaultConfiguration, PoolEventPipeline eventPipeline,
+                              SimulationClock clock) {
+        this.eventPipeline = eventPipeline;
+        this.clock = clock;
+        eventPools.put(DEFAULT_EVENT_ID, new EventPool(DEFAULT_EVENT_ID, defaultConfiguration));
+    }
+
+    /**
+     * Returns the clock the pools of the registry measure time with.
+     *
+     * @return The clock.
+     */
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the ticket pool of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return The ticket pool of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public TicketPool getPool(String eventId) {
+        return getEventPool(eventId).pool;
+    }
+
+    /**
+     * Retrieves the configuration of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return The configuration of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public ConfigurationData getConfiguration(String eventId) {
+        return getEventPool(eventId).configurationData;
+    }
+
+    /**
+     * Checks whether an event exists.
+     *
+     * @param eventId The ID of the event.
+     * @return true if the event exists, false otherwise.
+     */
+    public boolean containsEvent(String eventId) {
+        return eventPools.containsKey(eventId);
+    }
+
+    /**
+     * Retrieves the IDs of all events.
+     *
+     * @return The event IDs.
+     */
+    public List<String> getEventIds() {
+        return new ArrayList<>(eventPools.keySet());
+    }
+
+    /**
+     * Creates a new event with its own pool.
+     *
+     * @param eventId The ID of the new event.
+     * @param configurationData The configuration of the new event.
+     * @throws IllegalStateException if an event with the same ID already exists.
+     */
+    public void createEvent(String eventId, ConfigurationData configurationData) {
+        if (eventPools.putIfAbsent(eventId, new EventPool(eventId, configurationData)) != null) {
+            throw new IllegalStateException("Event with ID " + eventId + " already exists.");
+        }
+    }
+
+    /**
+     * Removes an event and clears its pool. The default event cannot be removed.
+     *
+     * @param eventId The ID of the event to remove.
+     * @throws IllegalStateException if the event does not exist or is the default event.
+     */
+    public void removeEvent(String eventId) {
+        if (DEFAULT_EVENT_ID.equals(eventId)) {
+            throw new IllegalStateException("The default event cannot be removed.");
+        }
+        EventPool eventPool = eventPools.remove(eventId);
+        if (eventPool == null) {
+            throw new IllegalStateException("Event with ID " + eventId + " not found.");
+        }
+        eventPool.pool.clearPoolData();
+    }
+
+    /**
+     * Switches an event to a new pool engine if its configured pool mode, capacity or seat layout
+     * differs from the current engine. The current engine is cleared before it is replaced, so the new engine
+     * starts empty. This must only be called while no simulation is running.
+     *
+     * @param eventId The ID of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public void reconfigure(String eventId) {
+        getEventPool(eventId).reconfigure();
+    }
+
+    /**
+     * Clears the pools of all events.
+     */
+    public void clearAll() {
+        eventPools.values().forEach(eventPool -> eventPool.pool.clearPoolData());
+    }
+
+    /**
+     * Looks up the entry of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return The entry of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    private EventPool getEventPool(String eventId) {
+        EventPool eventPool = eventPools.get(eventId);
+        if (eventPool == null) {
+            throw new IllegalStateException("Event with ID " + eventId + " not found.");
+        }
+        return eventPool;
+    }
+
+    /**
+     * The configuration, event stream and current pool engine of a single event.
+     */
+    private final class EventPool {
+        private final ConfigurationData configurationData;
+        private final PoolEventStream eventStream;
+        private volatile TicketPool pool;
+        private final ReentrantLock reconfigureLock = new ReentrantLock(); // Clearing a pool blocks, so no monitor is held
+
+        EventPool(String eventId, ConfigurationData configurationData) {
+            this.configurationData = configurationData;
+            this.eventStream = eventPipeline.openStream(eventId);
+            this.pool = createPool();
+        }
+
+        void reconfigure() {
+            reconfigureLock.lock();
+            try {
+                if (configurationData.getPoolMode() != pool.getMode()
+                        || configurationData.getMaxTicketCapacity() != pool.getCapacity()
+                        || pool instanceof SeatMapTicketPool seatMapPool && !seatMapPool.hasLayoutOf(configurationData)) {
+                    pool.clearPoolData();
+                    pool = createPool();
+                }
+            } finally {
+                reconfigureLock.unlock();
+            }
+        }
+
+        private TicketPool createPool() {
+            TicketPoolMode mode = configurationData.getPoolMode();
+            return switch (mode) {
+                case STRICT_FAIR -> new FairTicketPool(configurationData, eventStream, clock);
+                case HIGH_THROUGHPUT -> new StripedTicketPool(configurationData, eventStream, clock);
+                case FLAT_COMBINING -> new CombiningTicketPool(configurationData, eventStream, clock);
+                case SEAT_MAP -> new SeatMapTicketPool(configurationData, eventStream, clock);
+            };
+        }
+    }
+}
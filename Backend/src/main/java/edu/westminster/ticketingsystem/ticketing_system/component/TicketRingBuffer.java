@@ -0,0 +1,148 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+
+import java.util.List;
+
+/**
+ * The TicketRingBuffer class is a fixed-capacity circular buffer of ticket IDs.
+ * Tickets are added at the tail and taken from the head in FIFO order. Bulk adds and
+ * takes copy at most two contiguous ranges of the backing array, so their cost depends
+ * only on the number of tickets moved and not on the capacity of the buffer. The IDs are
+ * held in a primitive array, so a full buffer costs eight bytes per ticket and gives the
+ * garbage collector nothing to trace.
+ *
+ * This class is not thread-safe; callers must guard it with their own lock.
+ */
+public class TicketRingBuffer implements TicketInventory {
+    private final long[] slots;
+    private int head = 0; // Index of the oldest ticket
+    private int size = 0;
+
+    /**
+     * Constructs a new TicketRingBuffer with the given capacity.
+     *
+     * @param capacity The maximum number of tickets the buffer can hold.
+     */
+    public TicketRingBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.slots = new long[capacity];
+    }
+
+    /**
+     * Adds as many of the given tickets as fit in the buffer, starting at the given offset.
+     *
+     * @param ticketIds The IDs of the tickets to add.
+     * @param offset The index of the first ticket to add.
+     * @param count The number of tickets to add.
+     * @return The number of tickets actually added.
+     */
+    public int offer(long[] ticketIds, int offset, int count) {
+        int accepted = Math.min(count, remainingCapacity());
+        if (accepted == 0) {
+            return 0;
+        }
+        int tail = (head + size) % slots.length;
+        int firstRun = Math.min(accepted, slots.length - tail);
+        System.arraycopy(ticketIds, offset, slots, tail, firstRun);
+        System.arraycopy(ticketIds, offset + firstRun, slots, 0, accepted - firstRun);
+        size += accepted;
+        return accepted;
+    }
+
+    /**
+     * Adds all the given tickets if they fit in the buffer.
+     *
+     * @param ticketIds The IDs of the tickets to add.
+     * @return true if the tickets were added, false if there was insufficient capacity.
+     */
+    @Override
+    public boolean addAll(long[] ticketIds) {
+        if (ticketIds.length > remainingCapacity()) {
+            return false;
+        }
+        offer(ticketIds, 0, ticketIds.length);
+        return true;
+    }
+
+    /**
+     * Checks whether the buffer holds at least the given number of tickets.
+     *
+     * @param count The number of tickets requested.
+     * @return true if there are enough tickets, false otherwise.
+     */
+    @Override
+    public boolean canTake(int count) {
+        return size >= count;
+    }
+
+    /**
+     * Takes up to the given number of tickets from the head of the buffer.
+     *
+     * @param maxTickets The maximum number of tickets to take.
+     * @return Views of the tickets taken, in FIFO order.
+     */
+    @Override
+    public List<Ticket> take(int maxTickets) {
+        long[] taken = new long[Math.min(maxTickets, size)];
+        return new TicketIdList(taken, takeInto(taken, 0, taken.length));
+    }
+
+    /**
+     * Takes up to the given number of tickets from the head of the buffer into an array.
+     *
+     * @param target The array the ticket IDs are copied into.
+     * @param offset The index in the array of the first ticket taken.
+     * @param maxTickets The maximum number of tickets to take.
+     * @return The number of tickets taken.
+     */
+    public int takeInto(long[] target, int offset, int maxTickets) {
+        int taken = Math.min(maxTickets, size);
+        int firstRun = Math.min(taken, slots.length - head);
+        System.arraycopy(slots, head, target, offset, firstRun);
+        System.arraycopy(slots, 0, target, offset + firstRun, taken - firstRun);
+        head = taken == 0 ? head : (head + taken) % slots.length;
+        size -= taken;
+        return taken;
+    }
+
+    /**
+     * Removes all tickets from the buffer.
+     */
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of tickets in the buffer.
+     *
+     * @return The number of tickets.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of tickets the buffer can hold.
+     *
+     * @return The capacity.
+     */
+    @Override
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of tickets that can still be added to the buffer.
+     *
+     * @return The remaining capacity.
+     */
+    public int remainingCapacity() {
+        return slots.length - size;
+    }
+}
@@ -0,0 +1,129 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The WaitTimeHistogram class records wait times in log-linear buckets: every power of two is
+ * split into eight sub-buckets, so a percentile is reported within 12.5% of the true value
+ * while recording stays a single atomic increment with a fixed memory footprint.
+ */
+public class WaitTimeHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a wait time.
+     *
+     * @param waitNanos The wait time in nanoseconds.
+     */
+    public void record(long waitNanos) {
+        counts.incrementAndGet(bucketOf(Math.max(0, waitNanos)));
+    }
+
+    /**
+     * Resets the histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Summarises the recorded wait times.
+     *
+     * @return The count, median, 99th percentile and maximum of the recorded wait times.
+     */
+    public WaitTimeStats stats() {
+        return stats(snapshot());
+    }
+
+    /**
+     * Takes a copy of the histogram as it is now, to summarise the wait times recorded after it later.
+     *
+     * @return A histogram holding the wait times recorded so far.
+     */
+    public WaitTimeHistogram copy() {
+        WaitTimeHistogram copy = new WaitTimeHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            copy.counts.set(i, counts.get(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Summarises the wait times recorded since an earlier copy of this histogram was taken.
+     *
+     * @param earlier The earlier copy.
+     * @return The count, median, 99th percentile and maximum of the wait times recorded since.
+     */
+    public WaitTimeStats statsSince(WaitTimeHistogram earlier) {
+        long[] snapshot = snapshot();
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] -= earlier.counts.get(i);
+        }
+        return stats(snapshot);
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    private static WaitTimeStats stats(long[] snapshot) {
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        return new WaitTimeStats(total,
+                percentile(snapshot, total, 0.50) / NANOS_PER_MILLI,
+                percentile(snapshot, total, 0.99) / NANOS_PER_MILLI,
+                percentile(snapshot, total, 1.0) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Finds the upper bound of the bucket that holds the given percentile.
+     */
+    private static long percentile(long[] snapshot, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -19,13 +19,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * Configures the message broker for the WebSocket system.
      * - Enables a simple in-memory message broker for subscriptions on "/topic".
      * - Sets the prefix "/app" for application destination mappings (client-to-server messages).
+     * - Also routes "/topic" subscriptions to the application, so that subscription handlers can reply
+     *   with the current state as soon as a client subscribes to a topic.
      *
      * @param config The MessageBrokerRegistry to configure.
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic"); // Broker for subscriptions
-        config.setApplicationDestinationPrefixes("/app"); // Prefix for client-to-server messages
+        config.setApplicationDestinationPrefixes("/app", "/topic"); // Prefixes for client-to-server messages
     }
 
     /**
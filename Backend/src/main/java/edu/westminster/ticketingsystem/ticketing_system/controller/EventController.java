@@ -0,0 +1,145 @@
+package edu.westminster.ticketingsystem.ticketing_system.controller;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.service.EventManagementService;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * EventController provides REST endpoints for managing ticketed events.
+ * Each event has its own configuration and ticket pool, so events can be created, reconfigured
+ * and removed independently of each other.
+ */
+@RestController
+@AllArgsConstructor
+@CrossOrigin
+@RequestMapping("/api/events")
+public class EventController {
+
+    private final EventManagementService eventManagementService;
+    private final SimulationService simulationService;
+
+    /**
+     * Retrieves the configuration of every event.
+     *
+     * @return ResponseEntity containing the event configurations or an error message.
+     */
+    @GetMapping
+    public ResponseEntity<?> getEvents() {
+        try {
+            return ResponseEntity.ok(eventManagementService.getEvents());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to retrieve events: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the configuration of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return ResponseEntity containing the event configuration or an error message.
+     */
+    @GetMapping("/{eventId}")
+    public ResponseEntity<?> getEvent(@PathVariable String eventId) {
+        try {
+            return ResponseEntity.ok(eventManagementService.getEvent(eventId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to retrieve event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a new event.
+     *
+     * @param eventId The ID of the new event.
+     * @param configurationData The configuration of the new event.
+     * @return ResponseEntity containing the event configuration or an error message.
+     */
+    @PostMapping("/{eventId}")
+    public ResponseEntity<?> createEvent(@PathVariable String eventId,
+                                         @RequestBody ConfigurationData configurationData) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(eventManagementService.createEvent(eventId, configurationData));
+        } catch (IllegalStateException e) {
+            // Handles state-related errors
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Handles input validation errors
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Input Error: " + e.getMessage());
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to create event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Updates the configuration of an event.
+     *
+     * @param eventId The ID of the event.
+     * @param configurationData The new configuration of the event.
+     * @return ResponseEntity containing the updated configuration or an error message.
+     */
+    @PutMapping("/{eventId}")
+    public ResponseEntity<?> updateEvent(@PathVariable String eventId,
+                                         @RequestBody ConfigurationData configurationData) {
+        try {
+            return ResponseEntity.ok(eventManagementService.updateEvent(eventId, configurationData));
+        } catch (IllegalStateException e) {
+            // Handles state-related errors
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Handles input validation errors
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Input Error: " + e.getMessage());
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to update event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes an event.
+     *
+     * @param eventId The ID of the event to remove.
+     * @return ResponseEntity with a success message or error message if the operation fails.
+     */
+    @DeleteMapping("/{eventId}")
+    public ResponseEntity<?> removeEvent(@PathVariable String eventId) {
+        try {
+            eventManagementService.removeEvent(eventId);
+            return ResponseEntity.ok("Event removed successfully.");
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to remove event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the ticket counters of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return ResponseEntity containing the ticket counters or an error message.
+     */
+    @GetMapping("/{eventId}/status")
+    public ResponseEntity<?> getEventStatus(@PathVariable String eventId) {
+        try {
+            return ResponseEntity.ok(simulationService.getEventStatusDetails(eventId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to fetch event status: " + e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package edu.westminster.ticketingsystem.ticketing_system.controller;
 
+        import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
         import edu.westminster.ticketingsystem.ticketing_system.service.SimulationService;
         import lombok.RequiredArgsConstructor;
         import org.springframework.http.ResponseEntity;
         import org.springframework.web.bind.annotation.*;
 
+        import java.util.List;
+        import java.util.Map;
+
 /**
  * ParticipantController provides REST endpoints for managing participants in the simulation.
- * This controller handles operations such as adding and removing vendors and customers (normal or VIP).
+ * This controller handles operations such as adding and removing vendors and customers of any priority class,
+ * one at a time or many in a single call.
  */
 @RestController
 @CrossOrigin
@@ -20,12 +25,13 @@ public class ParticipantController {
     /**
      * Adds a new vendor to the simulation.
      *
+     * @param eventId The ID of the event the vendor releases tickets for.
      * @return ResponseEntity with a success message or error message if the operation fails.
      */
     @PostMapping("/vendor/add")
-    public ResponseEntity<?> addVendor() {
+    public ResponseEntity<?> addVendor(@RequestParam(defaultValue = "default") String eventId) {
         try {
-            simulationService.addVendor();
+            simulationService.addVendor(eventId);
             return ResponseEntity.ok("Vendor added successfully.");
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -55,14 +61,19 @@ public class ParticipantController {
     /**
      * Adds a new customer to the simulation.
      *
-     * @param isVIP Indicates whether the customer is a VIP.
+     * @param isVIP Indicates whether the customer is a VIP; ignored when a priority class is given.
+     * @param priorityClass The tier the customer retrieves tickets in, if not VIP or general sale.
+     * @param eventId The ID of the event the customer retrieves tickets for.
      * @return ResponseEntity with a success message or error message if the operation fails.
      */
     @PostMapping("/customer/add")
-    public ResponseEntity<?> addCustomer(@RequestParam boolean isVIP) {
+    public ResponseEntity<?> addCustomer(@RequestParam(defaultValue = "false") boolean isVIP,
+                                         @RequestParam(required = false) PriorityClass priorityClass,
+                                         @RequestParam(defaultValue = "default") String eventId) {
         try {
-            simulationService.addCustomer(isVIP);
-            return ResponseEntity.ok((isVIP ? "VIP Customer" : "Customer") + " added successfully.");
+            PriorityClass tier = priorityClassOf(isVIP, priorityClass);
+            simulationService.addCustomer(tier, eventId);
+            return ResponseEntity.ok(tier.getCustomerType() + " added successfully.");
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -74,20 +85,121 @@ public class ParticipantController {
      * Removes a customer from the simulation.
      *
      * @param customerId The ID of the customer to be removed.
-     * @param isVIP Indicates whether the customer is a VIP.
+     * @param isVIP Indicates whether the customer is a VIP; ignored when a priority class is given.
+     * @param priorityClass The tier the customer retrieves tickets in, if not VIP or general sale.
      * @return ResponseEntity with a success message or error message if the operation fails.
      */
     @DeleteMapping("/customer/remove/{customerId}")
     public ResponseEntity<?> removeCustomer(
             @PathVariable String customerId, // Assuming the customer id can be any String although for now only plain numbers are used.
-            @RequestParam boolean isVIP) {
+            @RequestParam(defaultValue = "false") boolean isVIP,
+            @RequestParam(required = false) PriorityClass priorityClass) {
         try {
-            simulationService.removeCustomer(customerId, isVIP);
-            return ResponseEntity.ok((isVIP ? "VIP Customer" : "Customer") + " removed successfully.");
+            PriorityClass tier = priorityClassOf(isVIP, priorityClass);
+            simulationService.removeCustomer(customerId, tier);
+            return ResponseEntity.ok(tier.getCustomerType() + " removed successfully.");
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Failed to remove customer: " + e.getMessage());
         }
     }
+
+    /**
+     * Adds a number of vendors to the simulation in one call.
+     *
+     * @param count The number of vendors to add.
+     * @param eventId The ID of the event the vendors release tickets for.
+     * @return ResponseEntity with the IDs of the added vendors or an error message if the operation fails.
+     */
+    @PostMapping("/vendor/bulk-add")
+    public ResponseEntity<?> addVendors(@RequestParam int count,
+                                        @RequestParam(defaultValue = "default") String eventId) {
+        try {
+            List<String> vendorIds = simulationService.addVendors(eventId, count);
+            return ResponseEntity.ok(Map.of("count", vendorIds.size(), "ids", vendorIds));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Failed to add vendors: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a number of vendors from the simulation in one call.
+     *
+     * @param count The number of vendors to remove.
+     * @return ResponseEntity with the IDs of the removed vendors or an error message if the operation fails.
+     */
+    @DeleteMapping("/vendor/bulk-remove")
+    public ResponseEntity<?> removeVendors(@RequestParam int count) {
+        try {
+            List<String> vendorIds = simulationService.removeVendors(count);
+            return ResponseEntity.ok(Map.of("count", vendorIds.size(), "ids", vendorIds));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Failed to remove vendors: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds a number of customers to the simulation in one call.
+     *
+     * @param count The number of customers to add.
+     * @param isVIP Indicates whether the customers are VIPs; ignored when a priority class is given.
+     * @param priorityClass The tier the customers retrieve tickets in, if not VIP or general sale.
+     * @param eventId The ID of the event the customers retrieve tickets for.
+     * @return ResponseEntity with the IDs of the added customers or an error message if the operation fails.
+     */
+    @PostMapping("/customer/bulk-add")
+    public ResponseEntity<?> addCustomers(@RequestParam int count,
+                                          @RequestParam(defaultValue = "false") boolean isVIP,
+                                          @RequestParam(required = false) PriorityClass priorityClass,
+                                          @RequestParam(defaultValue = "default") String eventId) {
+        try {
+            List<String> customerIds = simulationService.addCustomers(priorityClassOf(isVIP, priorityClass), eventId, count);
+            return ResponseEntity.ok(Map.of("count", customerIds.size(), "ids", customerIds));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Failed to add customers: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a number of customers of a priority class from the simulation in one call.
+     *
+     * @param count The number of customers to remove.
+     * @param isVIP Indicates whether the customers are VIPs; ignored when a priority class is given.
+     * @param priorityClass The tier the customers retrieve tickets in, if not VIP or general sale.
+     * @return ResponseEntity with the IDs of the removed customers or an error message if the operation fails.
+     */
+    @DeleteMapping("/customer/bulk-remove")
+    public ResponseEntity<?> removeCustomers(@RequestParam int count,
+                                             @RequestParam(defaultValue = "false") boolean isVIP,
+                                             @RequestParam(required = false) PriorityClass priorityClass) {
+        try {
+            List<String> customerIds = simulationService.removeCustomers(priorityClassOf(isVIP, priorityClass), count);
+            return ResponseEntity.ok(Map.of("count", customerIds.size(), "ids", customerIds));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Failed to remove customers: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the priority class of a customer from the request parameters.
+     *
+     * @param isVIP Indicates whether the customer is a VIP.
+     * @param priorityClass The requested priority class, or null.
+     * @return The priority class, or VIP or general sale when none was requested.
+     */
+    private PriorityClass priorityClassOf(boolean isVIP, PriorityClass priorityClass) {
+        if (priorityClass != null) {
+            return priorityClass;
+        }
+        return isVIP ? PriorityClass.VIP : PriorityClass.GENERAL;
+    }
 }
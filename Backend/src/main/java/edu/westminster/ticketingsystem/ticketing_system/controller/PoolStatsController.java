@@ -0,0 +1,51 @@
+package edu.westminster.ticketingsystem.ticketing_system.controller;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolStatsSnapshot;
+import edu.westminster.ticketingsystem.ticketing_system.service.PoolStatsPublisher;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * PoolStatsController serves the compact pool statistics the dashboard is drawn from. A WebSocket client
+ * subscribing to "/topic/pool-stats" immediately receives the current snapshot from this controller and
+ * every change after that from the {@link PoolStatsPublisher}. The same snapshot is also available over REST.
+ */
+@RestController
+@AllArgsConstructor
+@CrossOrigin
+@RequestMapping("/api/pool-stats")
+public class PoolStatsController {
+
+    private final PoolStatsPublisher poolStatsPublisher;
+
+    /**
+     * Replies to a new subscription to "/topic/pool-stats" with the current snapshot. The reply is sent
+     * to the subscribing client only.
+     *
+     * @return The current statistics.
+     */
+    @SubscribeMapping("/pool-stats")
+    public PoolStatsSnapshot subscribe() {
+        return poolStatsPublisher.currentSnapshot();
+    }
+
+    /**
+     * Retrieves the current statistics snapshot and how often snapshots have been published.
+     *
+     * @return ResponseEntity containing the snapshot and the publishing counters.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getPoolStats() {
+        return ResponseEntity.ok(Map.of(
+                "snapshot", poolStatsPublisher.currentSnapshot(),
+                "publishing", poolStatsPublisher.getStatistics()
+        ));
+    }
+}
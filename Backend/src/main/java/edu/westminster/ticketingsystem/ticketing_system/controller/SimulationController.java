@@ -1,17 +1,23 @@
 package edu.westminster.ticketingsystem.ticketing_system.controller;
 
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadProfile;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantThreadMode;
+import edu.westminster.ticketingsystem.ticketing_system.service.DiscreteEventSimulationService;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
 import edu.westminster.ticketingsystem.ticketing_system.service.SimulationService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * SimulationController provides REST endpoints to control and monitor the simulation.
  * This controller handles operations such as starting, stopping, resetting the simulation,
- * and fetching the simulation's status.
+ * and fetching the simulation's status and logs, runs scripted load profiles, and runs scenarios in virtual time.
  */
 @RestController
 @AllArgsConstructor
@@ -20,6 +26,8 @@ import java.util.Map;
 public class SimulationController {
 
     private final SimulationService simulationService;
+    private final DiscreteEventSimulationService discreteEventSimulationService;
+    private final SimulationLogService logService;
 
     /**
      * Starts the simulation with the specified number of vendors, customers, and VIP customers.
@@ -27,14 +35,19 @@ public class SimulationController {
      * @param numberOfVendors Number of vendors to include in the simulation.
      * @param numberOfCustomers Number of normal customers to include in the simulation.
      * @param numberOfVIPCustomers Number of VIP customers to include in the simulation.
+     * @param eventIds IDs of the events the participants are spread across.
+     * @param threadMode Whether participants run on platform threads, virtual threads or the shared scheduler.
      * @return ResponseEntity with a success message or error message if the operation fails.
      */
     @PostMapping("/start")
     public ResponseEntity<?> startSimulation(@RequestParam int numberOfVendors,
                                              @RequestParam int numberOfCustomers,
-                                             @RequestParam int numberOfVIPCustomers) {
+                                             @RequestParam int numberOfVIPCustomers,
+                                             @RequestParam(defaultValue = "default") List<String> eventIds,
+                                             @RequestParam(defaultValue = "PLATFORM") ParticipantThreadMode threadMode) {
         try {
-            simulationService.startSimulation(numberOfVendors, numberOfCustomers, numberOfVIPCustomers);
+            simulationService.startSimulation(numberOfVendors, numberOfCustomers, numberOfVIPCustomers, eventIds,
+                    threadMode);
             return ResponseEntity.ok("Simulation started successfully.");
         } catch (IllegalStateException e) {
             // Handles state-related errors
@@ -48,6 +61,86 @@ public class SimulationController {
         }
     }
 
+    /**
+     * Starts the simulation on one event and runs it through the stages of a load profile.
+     *
+     * @param loadProfile The load profile, a timeline of stages with their participant counts and arrival rates.
+     * @param eventId The ID of the event the participants trade on.
+     * @param threadMode Whether participants run on platform threads, virtual threads or the shared scheduler.
+     * @return ResponseEntity with a success message or error message if the operation fails.
+     */
+    @PostMapping("/load-profile")
+    public ResponseEntity<?> startLoadProfile(@RequestBody LoadProfile loadProfile,
+                                              @RequestParam(defaultValue = "default") String eventId,
+                                              @RequestParam(defaultValue = "PLATFORM") ParticipantThreadMode threadMode) {
+        try {
+            simulationService.startLoadProfile(loadProfile, eventId, threadMode);
+            return ResponseEntity.ok("Load profile started successfully.");
+        } catch (IllegalStateException e) {
+            // Handles state-related errors
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Handles input validation errors
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Input Error: " + e.getMessage());
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to start load profile: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fetches the per-stage throughput and wait time report of the current or last load profile.
+     *
+     * @return ResponseEntity with the load profile report or an error message if the operation fails.
+     */
+    @GetMapping("/load-profile/report")
+    public ResponseEntity<?> getLoadProfileReport() {
+        try {
+            return ResponseEntity.ok(simulationService.getLoadProfileReport());
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch load profile report: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Runs a scenario in virtual time and returns its statistics once it has finished. Without a seed,
+     * a random one is used; it is reported with the statistics so that the run can be repeated.
+     *
+     * @param numberOfVendors Number of vendors to include in the scenario.
+     * @param numberOfCustomers Number of normal customers to include in the scenario.
+     * @param numberOfVIPCustomers Number of VIP customers to include in the scenario.
+     * @param eventIds IDs of the events the participants are spread across.
+     * @param durationMillis The simulated duration in milliseconds.
+     * @param seed The seed of the random number generator, or null for a random seed.
+     * @return ResponseEntity with the simulation statistics or an error message if the operation fails.
+     */
+    @PostMapping("/discrete-event")
+    public ResponseEntity<?> runDiscreteEventSimulation(@RequestParam int numberOfVendors,
+                                                        @RequestParam int numberOfCustomers,
+                                                        @RequestParam int numberOfVIPCustomers,
+                                                        @RequestParam(defaultValue = "default") List<String> eventIds,
+                                                        @RequestParam long durationMillis,
+                                                        @RequestParam(required = false) Long seed) {
+        try {
+            Map<String, Object> response = discreteEventSimulationService.runSimulation(numberOfVendors,
+                    numberOfCustomers, numberOfVIPCustomers, eventIds, durationMillis,
+                    seed != null ? seed : ThreadLocalRandom.current().nextLong());
+            return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            // Handles state-related errors
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Handles input validation errors
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Input Error: " + e.getMessage());
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to run simulation: " + e.getMessage());
+        }
+    }
+
     /**
      * Stops the running simulation.
      *
@@ -70,13 +163,17 @@ public class SimulationController {
     /**
      * Fetches the current status of the simulation.
      *
+     * @param eventId The ID of the event whose ticket data is reported at the top level.
      * @return ResponseEntity with the simulation status details or an error message if the operation fails.
      */
     @GetMapping("/status")
-    public ResponseEntity<?> getSimulationStatus() {
+    public ResponseEntity<?> getSimulationStatus(@RequestParam(defaultValue = "default") String eventId) {
         try {
-            Map<String, Object> response = simulationService.getSimulationStatusDetails();
+            Map<String, Object> response = simulationService.getSimulationStatusDetails(eventId);
             return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            // Handles unknown events
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             // Handles unexpected errors
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -84,6 +181,34 @@ public class SimulationController {
         }
     }
 
+    /**
+     * Fetches a page of the simulation logs made after a given log, optionally filtered by action
+     * and participant.
+     *
+     * @param after The sequence number of the last log already read, or -1 to start from the oldest log.
+     * @param limit The maximum number of logs to return.
+     * @param action The actions of the logs to return; every action if none are given.
+     * @param participantId The ID of the participant whose logs to return; every participant if not given.
+     * @return ResponseEntity with the page of logs and the cursor of the next page, or an error message if the operation fails.
+     */
+    @GetMapping("/logs")
+    public ResponseEntity<?> getLogs(@RequestParam(defaultValue = "-1") long after,
+                                     @RequestParam(defaultValue = "200") int limit,
+                                     @RequestParam(required = false) List<String> action,
+                                     @RequestParam(required = false) String participantId) {
+        try {
+            return ResponseEntity.ok(logService.getLogPage(after, limit,
+                    action == null ? List.of() : action, participantId));
+        } catch (IllegalArgumentException e) {
+            // Handles input validation errors
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            // Handles unexpected errors
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch logs: " + e.getMessage()));
+        }
+    }
+
     /**
      * Resets the ticket pool and clears all simulation data.
      *
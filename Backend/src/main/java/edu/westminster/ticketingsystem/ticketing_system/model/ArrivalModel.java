@@ -0,0 +1,33 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The ArrivalModel enum decides when customers make their retrieval requests. In every model except
+ * the closed loop, the customer retrieval interval is the mean time between a customer's requests,
+ * requests are made when they are due whether or not earlier ones have been served, and wait times
+ * are measured from when a request was due rather than from when it reached the pool.
+ */
+public enum ArrivalModel {
+
+    /**
+     * A customer makes a request, waits for it as its retrieval mode decides, and then waits the
+     * retrieval interval before the next one. A slow pool therefore slows down the requests it sees.
+     */
+    CLOSED_LOOP,
+
+    /**
+     * Requests are due exactly one retrieval interval apart.
+     */
+    CONSTANT_RATE,
+
+    /**
+     * Requests arrive as a Poisson process: the times between them are exponentially distributed
+     * with the retrieval interval as their mean.
+     */
+    POISSON,
+
+    /**
+     * Requests arrive in bursts of the configured size, all due at once. Bursts arrive as a Poisson
+     * process, so requests keep the retrieval interval as their mean spacing.
+     */
+    BURSTY
+}
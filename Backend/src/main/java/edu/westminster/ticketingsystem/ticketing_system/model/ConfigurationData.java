@@ -3,6 +3,8 @@ package edu.westminster.ticketingsystem.ticketing_system.model;
 import lombok.Data;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * ConfigurationData represents the configuration settings for the ticketing system.
  * This class defines parameters related to ticket release, customer retrieval rates, and
@@ -41,4 +43,71 @@ public class ConfigurationData {
      * The maximum capacity of tickets the system can hold.
      */
     private int maxTicketCapacity;
+
+    /**
+     * The engine used for the ticket pool (strict fair, high throughput, flat combining or seat map).
+     */
+    private TicketPoolMode poolMode = TicketPoolMode.STRICT_FAIR;
+
+    /**
+     * The order in which waiting requests of the different priority classes are served.
+     */
+    private SchedulingPolicy schedulingPolicy = SchedulingPolicy.STRICT_PRIORITY;
+
+    /**
+     * The priority classes in the order they are served, highest priority first. Every class is listed once.
+     */
+    private List<PriorityClass> priorityClasses = List.of(PriorityClass.values());
+
+    /**
+     * The number of requests of a priority class served in a row while a request of a lower class waits,
+     * under the weighted policy.
+     */
+    private int vipServiceRatio = 4;
+
+    /**
+     * The head start (in milliseconds) a request has over a request one priority class lower, under the aging policy.
+     */
+    private int priorityAgingInterval = 2000;
+
+    /**
+     * How long (in milliseconds) a customer waits for tickets before giving up; 0 waits indefinitely.
+     */
+    private int customerRetrievalTimeout = 0;
+
+    /**
+     * Whether customers wait for their tickets in the pool or leave their requests with it.
+     */
+    private RetrievalMode customerRetrievalMode = RetrievalMode.BLOCKING;
+
+    /**
+     * When customers make their requests: in a closed loop, or open loop at a constant rate, as a Poisson process or in bursts.
+     */
+    private ArrivalModel arrivalModel = ArrivalModel.CLOSED_LOOP;
+
+    /**
+     * The number of requests that arrive together, in the bursty arrival model.
+     */
+    private int arrivalBurstSize = 10;
+
+    /**
+     * Whether vendors retry after their release interval or wait for space when the pool is full.
+     */
+    private VendorReleaseMode vendorReleaseMode = VendorReleaseMode.RETRY;
+
+    /**
+     * How long (in milliseconds) a vendor waits for space in the pool before giving up, in backpressure mode;
+     * 0 waits indefinitely.
+     */
+    private int vendorBackpressureTimeout = 0;
+
+    /**
+     * The number of sections the venue is divided into, in seat map mode.
+     */
+    private int seatSections = 1;
+
+    /**
+     * The number of seats in each row, in seat map mode. A customer's block of seats must fit in one row.
+     */
+    private int seatsPerRow = 20;
 }
@@ -2,12 +2,26 @@ package edu.westminster.ticketingsystem.ticketing_system.model;
 
 import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
 import edu.westminster.ticketingsystem.ticketing_system.service.TicketService;
+import edu.westminster.ticketingsystem.ticketing_system.component.ArrivalProcess;
 import lombok.Getter;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 /**
  * The Customer class represents a customer participant in the ticketing system.
  *
- * Customers retrieve tickets from the ticket pool at a specified interval and rate.
+ * Customers retrieve tickets from the ticket pool at a specified interval and rate, in the
+ * priority class they were created with.
+ * In the asynchronous retrieval mode a customer does not wait in the pool: it leaves a request
+ * and, while that request is outstanding, skips its next retrievals instead of piling up more.
+ * Customers run by the participant scheduler always retrieve asynchronously.
+ * In an open-loop arrival model a customer instead makes its requests when its arrival process says
+ * they are due, asynchronously and however many of its earlier requests are still outstanding.
  * This class extends the Participant class and implements customer-specific operations.
  */
 public class Customer extends Participant {
@@ -18,36 +32,206 @@ public class Customer extends Participant {
     protected final int ticketsPerRetrieval;
 
     /**
-     * Constructs a new Customer instance with the given parameters.
+     * The tier this customer retrieves tickets in.
+     */
+    @Getter
+    protected final PriorityClass priorityClass;
+
+    /**
+     * Whether this customer waits in the pool or leaves its requests with it.
+     */
+    protected final RetrievalMode retrievalMode;
+
+    /**
+     * When the customer makes its requests.
+     */
+    protected final ArrivalModel arrivalModel;
+
+    /**
+     * The number of requests that arrive together in the bursty arrival model.
+     */
+    private final int arrivalBurstSize;
+
+    /**
+     * The seed of the arrival process, drawn at random unless set before the customer starts.
+     */
+    private long arrivalSeed = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * The times the requests of an open-loop customer are due, created when the customer starts.
+     */
+    private ArrivalProcess arrivals;
+
+    /**
+     * The requests of an open-loop customer still outstanding in the pool.
+     */
+    private final Set<CompletableFuture<List<Ticket>>> openRetrievals = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The request left with the pool in the asynchronous retrieval mode, or null.
+     */
+    private volatile CompletableFuture<List<Ticket>> outstandingRetrieval;
+
+    /**
+     * Set once the customer has been stopped, so that a request left concurrently is withdrawn.
+     */
+    private volatile boolean stopped = false;
+
+    /**
+     * Constructs a new general sale Customer instance with the given parameters.
+     *
+     * @param customerId The unique identifier for the customer.
+     * @param eventId The ID of the event the customer retrieves tickets for.
+     * @param configurationData The configuration data of the event containing customer retrieval settings.
+     * @param ticketService The ticket service used for ticket operations.
+     * @param logService The log service used for simulation logging.
+     */
+    public Customer(String customerId,
+                    String eventId,
+                    ConfigurationData configurationData,
+                    TicketService ticketService,
+                    SimulationLogService logService) {
+        this(customerId, eventId, PriorityClass.GENERAL, configurationData, ticketService, logService);
+    }
+
+    /**
+     * Constructs a new Customer instance that retrieves tickets in the given priority class.
      *
      * @param customerId The unique identifier for the customer.
-     * @param configurationData The configuration data containing customer retrieval settings.
+     * @param eventId The ID of the event the customer retrieves tickets for.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param configurationData The configuration data of the event containing customer retrieval settings.
      * @param ticketService The ticket service used for ticket operations.
      * @param logService The log service used for simulation logging.
      */
     public Customer(String customerId,
+                    String eventId,
+                    PriorityClass priorityClass,
                     ConfigurationData configurationData,
                     TicketService ticketService,
                     SimulationLogService logService) {
-        super(customerId, configurationData.getCustomerRetrievalInterval(), ticketService, logService);
+        super(customerId, eventId, configurationData.getCustomerRetrievalInterval(), ticketService, logService);
+        this.priorityClass = priorityClass;
         this.ticketsPerRetrieval = configurationData.getCustomerRetrievalRate();
+        this.retrievalMode = configurationData.getCustomerRetrievalMode();
+        this.arrivalModel = configurationData.getArrivalModel();
+        this.arrivalBurstSize = configurationData.getArrivalBurstSize();
+    }
+
+    /**
+     * Sets the seed of the arrival process, so that an open-loop customer arrives at reproducible times.
+     * Has no effect once the customer has started.
+     *
+     * @param arrivalSeed The seed of the arrival process.
+     */
+    public void setArrivalSeed(long arrivalSeed) {
+        this.arrivalSeed = arrivalSeed;
     }
 
     /**
-     * Performs the ticket retrieval operation for the customer.
+     * Checks whether the customer arrives open loop.
+     *
+     * @return true unless the arrival model is the closed loop.
+     */
+    @Override
+    public boolean isOpenLoop() {
+        return arrivalModel != ArrivalModel.CLOSED_LOOP;
+    }
+
+    /**
+     * Withdraws the outstanding request of the customer once it stops.
+     */
+    @Override
+    public void onStopped() {
+        stopped = true;
+        CompletableFuture<List<Ticket>> retrieval = outstandingRetrieval;
+        if (retrieval != null) {
+            retrieval.cancel(false);
+        }
+        openRetrievals.forEach(openRetrieval -> openRetrieval.cancel(false));
+    }
+
+    /**
+     * Performs the ticket retrieval operation for the customer in the configured retrieval mode.
      */
     @Override
     protected void performOperation() {
-        ticketService.retrieveTickets(id, ticketsPerRetrieval, false);
+        if (retrievalMode == RetrievalMode.BLOCKING) {
+            ticketService.retrieveTickets(eventId, id, ticketsPerRetrieval, priorityClass);
+        } else {
+            retrieveAsync();
+        }
+    }
+
+    /**
+     * Performs the ticket retrieval operation for the customer without waiting in the pool.
+     */
+    @Override
+    protected void performNonBlockingOperation() {
+        retrieveAsync();
+    }
+
+    /**
+     * Makes every request of an open-loop customer that has come due, each carrying the time it was
+     * due at so that the pool measures its wait from then.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     * @return The time the next request is due in nanoseconds.
+     */
+    @Override
+    protected long performDueOperations(long nowNanos) {
+        if (!isOpenLoop()) {
+            return super.performDueOperations(nowNanos);
+        }
+        if (arrivals == null) {
+            arrivals = new ArrivalProcess(arrivalModel, TimeUnit.MILLISECONDS.toNanos(interval),
+                    arrivalBurstSize, arrivalSeed);
+            arrivals.start(nowNanos);
+        }
+        while (arrivals.peek() <= nowNanos) {
+            retrieveOpenLoop(arrivals.take());
+        }
+        return arrivals.peek();
+    }
+
+    /**
+     * Leaves a request of an open-loop customer with the pool.
+     *
+     * @param intendedStartNanos When the request was due in nanoseconds.
+     */
+    private void retrieveOpenLoop(long intendedStartNanos) {
+        CompletableFuture<List<Ticket>> retrieval = ticketService.retrieveTicketsAsync(
+                eventId, id, ticketsPerRetrieval, priorityClass, intendedStartNanos);
+        openRetrievals.add(retrieval);
+        retrieval.whenComplete((tickets, failure) -> openRetrievals.remove(retrieval));
+        if (stopped) {
+            // The customer was stopped while the request was being left
+            retrieval.cancel(false);
+        }
+    }
+
+    /**
+     * Leaves a request with the pool unless the previous one is still outstanding.
+     */
+    private void retrieveAsync() {
+        CompletableFuture<List<Ticket>> retrieval = outstandingRetrieval;
+        if (retrieval == null || retrieval.isDone()) {
+            retrieval = ticketService.retrieveTicketsAsync(eventId, id, ticketsPerRetrieval, priorityClass);
+            outstandingRetrieval = retrieval;
+            if (stopped) {
+                // The customer was stopped while the request was being left
+                retrieval.cancel(false);
+            }
+        }
     }
 
     /**
      * Returns the type of participant as a string.
      *
-     * @return "Customer".
+     * @return "Customer" for general sale, or the tier name followed by "Customer".
      */
     @Override
     protected String getType() {
-        return "Customer";
+        return priorityClass.getCustomerType();
     }
 }
@@ -0,0 +1,22 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The EventOverflowPolicy enum decides what happens when an event is published to a full consumer queue.
+ */
+public enum EventOverflowPolicy {
+
+    /**
+     * The publisher waits until the consumer has made room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event being published is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest queued event is dropped to make room for the event being published.
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,25 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LoadProfile is a timeline of {@link LoadStage}s that a simulation runs through one after another,
+ * to reproduce the shape of a real on-sale: a ramp-up, a flash-sale spike, a decay or a series of
+ * step loads. The simulation stops once the last stage ends.
+ */
+@Data
+public class LoadProfile {
+
+    /**
+     * The name of the profile.
+     */
+    private String name;
+
+    /**
+     * The stages of the profile, in the order they run.
+     */
+    private List<LoadStage> stages = new ArrayList<>();
+}
@@ -0,0 +1,50 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import lombok.Data;
+
+/**
+ * LoadStage is one stage of a {@link LoadProfile}: the number of participants trading on the event
+ * for a period of time. A stage either sets its participant counts at once, as a step, or ramps
+ * them linearly from the counts the previous stage ended with.
+ */
+@Data
+public class LoadStage {
+
+    /**
+     * The name of the stage in the load report.
+     */
+    private String name;
+
+    /**
+     * How long the stage lasts, in milliseconds.
+     */
+    private long durationMillis;
+
+    /**
+     * The number of vendors during the stage.
+     */
+    private int vendors;
+
+    /**
+     * The number of general sale customers during the stage, unless a customer arrival rate is set.
+     */
+    private int customers;
+
+    /**
+     * The number of VIP customers during the stage.
+     */
+    private int vipCustomers;
+
+    /**
+     * The target number of general sale retrieval requests per second, or 0 to use the customer count.
+     * The rate is turned into a customer count from the customer retrieval interval of the event,
+     * and open-loop customers keep it however slowly the pool serves them.
+     */
+    private double customerArrivalRate;
+
+    /**
+     * Whether the counts move linearly over the stage from those the previous stage ended with,
+     * instead of being set at its start.
+     */
+    private boolean ramp;
+}
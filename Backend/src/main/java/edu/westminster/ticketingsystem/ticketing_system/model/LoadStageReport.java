@@ -0,0 +1,30 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import java.util.Map;
+
+/**
+ * The LoadStageReport record summarises the throughput and wait times of one completed stage of a
+ * {@link LoadProfile}. Counters and wait times only cover what happened during the stage.
+ *
+ * @param name The name of the stage.
+ * @param durationMillis How long the stage actually ran, in milliseconds.
+ * @param vendors The number of vendors at the end of the stage.
+ * @param customers The number of general sale customers at the end of the stage.
+ * @param vipCustomers The number of VIP customers at the end of the stage.
+ * @param ticketsAdded The number of tickets vendors released during the stage.
+ * @param ticketsRetrieved The number of tickets customers retrieved during the stage.
+ * @param ticketsRetrievedPerSecond The retrieval throughput of the stage.
+ * @param retrievalTimeouts The number of retrieval requests that timed out during the stage.
+ * @param waitTimes The wait times of requests served during the stage, by priority class.
+ */
+public record LoadStageReport(String name,
+                              long durationMillis,
+                              int vendors,
+                              int customers,
+                              int vipCustomers,
+                              long ticketsAdded,
+                              long ticketsRetrieved,
+                              double ticketsRetrievedPerSecond,
+                              long retrievalTimeouts,
+                              Map<PriorityClass, WaitTimeStats> waitTimes) {
+}
@@ -3,12 +3,15 @@ package edu.westminster.ticketingsystem.ticketing_system.model;
 import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
 import edu.westminster.ticketingsystem.ticketing_system.service.TicketService;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Participant class represents a generic participant in the ticketing system simulation.
- * Participants are modeled as threads that perform specific operations at regular intervals.
+ * Participants are modeled as threads that perform specific operations at regular intervals,
+ * or as periodic tasks of the {@link edu.westminster.ticketingsystem.ticketing_system.component.ParticipantScheduler}.
  * This abstract class provides a common structure for all types of participants, such as customers or vendors.
  */
 @AllArgsConstructor
@@ -19,9 +22,15 @@ public abstract class Participant implements Runnable {
      */
     protected final String id;
 
+    /**
+     * The ID of the event whose ticket pool the participant works with.
+     */
+    protected final String eventId;
+
     /**
      * The interval (in milliseconds) at which the participant performs operations.
      */
+    @Getter
     protected final int interval;
 
     /**
@@ -36,38 +45,122 @@ public abstract class Participant implements Runnable {
 
     /**
      * The main run method that continuously performs the participant's operations
-     * until the thread is interrupted.
+     * until the thread is interrupted. An open-loop participant sleeps until its next operation
+     * is due instead of for a whole interval.
      */
     @Override
     public void run() {
-        while (!Thread.currentThread().isInterrupted()) {
-            try {
-                performOperation();
-                Thread.sleep(interval); // Wait for the next operation cycle
-            } catch (InterruptedException e) {
-                // Handle thread interruption
-                Thread.currentThread().interrupt();
-                logService.sendStructuredLog("THREAD_INTERRUPTED", Map.of(
-                        "id", id,
-                        "type", getType(),
-                        "reason", "Thread interrupted"
-                ));
-            } catch (Exception e) {
-                // Log any other unexpected errors
-                logService.sendStructuredLog("PARTICIPANT_ERROR", Map.of(
-                        "id", id,
-                        "type", getType(),
-                        "errorMessage", e.getMessage()
-                ));
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    if (isOpenLoop()) {
+                        long dueNanos = runDueOperations(System.nanoTime());
+                        TimeUnit.NANOSECONDS.sleep(dueNanos - System.nanoTime());
+                    } else {
+                        performOperation();
+                        Thread.sleep(interval); // Wait for the next operation cycle
+                    }
+                } catch (InterruptedException e) {
+                    // Handle thread interruption
+                    Thread.currentThread().interrupt();
+                    logService.sendStructuredLog("THREAD_INTERRUPTED", Map.of(
+                            "id", id,
+                            "type", getType(),
+                            "reason", "Thread interrupted"
+                    ));
+                } catch (Exception e) {
+                    logError(e);
+                }
             }
+        } finally {
+            onStopped();
+        }
+    }
+
+    /**
+     * Performs a single operation for the participant scheduler, which calls it once per interval.
+     * Errors are logged as in {@link #run()}, so the participant keeps its place in the schedule.
+     */
+    public void runScheduledOperation() {
+        try {
+            performNonBlockingOperation();
+        } catch (Exception e) {
+            logError(e);
+        }
+    }
+
+    /**
+     * Checks whether the participant's operations come due on a schedule of their own rather than
+     * once per interval. Open-loop participants are run through {@link #runDueOperations(long)}.
+     *
+     * @return true if the participant is open loop; false by default.
+     */
+    public boolean isOpenLoop() {
+        return false;
+    }
+
+    /**
+     * Performs every operation of an open-loop participant that has come due, without waiting in the pool.
+     * Errors are logged as in {@link #run()}, and the participant then tries again one interval later.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     * @return The time the next operation is due in nanoseconds.
+     */
+    public long runDueOperations(long nowNanos) {
+        try {
+            return performDueOperations(nowNanos);
+        } catch (Exception e) {
+            logError(e);
+            return nowNanos + TimeUnit.MILLISECONDS.toNanos(interval);
         }
     }
 
+    /**
+     * Releases whatever the participant still holds in the ticket pool once it has been stopped.
+     * Does nothing by default.
+     */
+    public void onStopped() {
+    }
+
     /**
      * Abstract method to define the specific operation performed by the participant.
      */
     protected abstract void performOperation();
 
+    /**
+     * Performs the participant's operation without waiting in the ticket pool. The participant scheduler
+     * runs every participant on a few shared worker threads, so an operation that parks its thread
+     * would hold up every other participant. Participants whose operation may wait override this.
+     */
+    protected void performNonBlockingOperation() {
+        performOperation();
+    }
+
+    /**
+     * Performs every operation that has come due. By default the participant performs one operation
+     * and the next is due one interval later; open-loop participants override this.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     * @return The time the next operation is due in nanoseconds.
+     */
+    protected long performDueOperations(long nowNanos) {
+        performNonBlockingOperation();
+        return nowNanos + TimeUnit.MILLISECONDS.toNanos(interval);
+    }
+
+    /**
+     * Logs an unexpected error raised by an operation.
+     *
+     * @param e The error.
+     */
+    private void logError(Exception e) {
+        logService.sendStructuredLog("PARTICIPANT_ERROR", Map.of(
+                "id", id,
+                "type", getType(),
+                "errorMessage", String.valueOf(e.getMessage())
+        ));
+    }
+
     /**
      * Abstract method to define the type of the participant (e.g., Customer, Vendor).
      *
@@ -0,0 +1,20 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The ParticipantHandle interface represents a running simulation participant, whether it runs
+ * on a thread of its own or as a task of the participant scheduler.
+ */
+public interface ParticipantHandle {
+
+    /**
+     * Returns the ID of the participant.
+     *
+     * @return The participant ID.
+     */
+    String getId();
+
+    /**
+     * Stops the participant. Returns without waiting for an operation in progress to finish.
+     */
+    void stop();
+}
@@ -0,0 +1,28 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The ParticipantThreadMode enum decides what kind of thread each simulation participant runs on,
+ * or whether participants share the threads of the participant scheduler.
+ */
+public enum ParticipantThreadMode {
+
+    /**
+     * Every participant runs on its own platform thread, backed by an operating system thread.
+     */
+    PLATFORM,
+
+    /**
+     * Every participant runs on its own virtual thread, scheduled by the JVM onto a few carrier threads.
+     * A participant that sleeps between operations or waits in the ticket pool releases its carrier,
+     * so a simulation can run tens of thousands of participants.
+     */
+    VIRTUAL,
+
+    /**
+     * Participants have no thread of their own. Each is a periodic task of the participant scheduler,
+     * which runs all of them on a pool of worker threads sized to the available cores. Operations
+     * never wait in the ticket pool: customers always retrieve asynchronously and vendors retry
+     * a release at their next interval when the pool is full.
+     */
+    SCHEDULED
+}
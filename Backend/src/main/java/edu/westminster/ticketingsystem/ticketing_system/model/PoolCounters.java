@@ -0,0 +1,18 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The PoolCounters record holds the ticket counters of a pool at a single moment, such as when an event occurred
+ * or when a statistics snapshot was taken.
+ *
+ * @param availableTickets The number of tickets in the pool.
+ * @param totalTicketsAdded The total number of tickets added to the pool.
+ * @param totalTicketsRetrieved The total number of tickets retrieved from the pool.
+ * @param totalVIPRetrievals The total number of tickets retrieved in the priority tiers (every tier above general sale).
+ * @param totalNormalRetrievals The total number of tickets retrieved in the general sale tier.
+ */
+public record PoolCounters(int availableTickets,
+                           int totalTicketsAdded,
+                           int totalTicketsRetrieved,
+                           int totalVIPRetrievals,
+                           int totalNormalRetrievals) {
+}
@@ -0,0 +1,85 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The PoolEvent interface represents an immutable domain event published by a ticket pool.
+ * Every event belongs to an event stream and carries a sequence number that is unique and
+ * increasing within that stream, so consumers receive the events of a stream in order.
+ */
+public sealed interface PoolEvent {
+
+    /**
+     * Returns the key of the event stream the event belongs to.
+     *
+     * @return The stream key.
+     */
+    String streamKey();
+
+    /**
+     * Returns the position of the event within its stream.
+     *
+     * @return The sequence number.
+     */
+    long sequence();
+
+    /**
+     * Published when a vendor adds tickets to the pool.
+     *
+     * @param streamKey The key of the event stream.
+     * @param sequence The position of the event within its stream.
+     * @param ticketsAdded The number of tickets added.
+     * @param counters The pool counters after the tickets were added.
+     */
+    record TicketsAdded(String streamKey, long sequence, int ticketsAdded, PoolCounters counters)
+            implements PoolEvent {
+    }
+
+    /**
+     * Published when a customer retrieves tickets from the pool.
+     *
+     * @param streamKey The key of the event stream.
+     * @param sequence The position of the event within its stream.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier the customer retrieved the tickets in.
+     * @param ticketsRetrieved The number of tickets retrieved.
+     * @param counters The pool counters after the tickets were retrieved.
+     */
+    record TicketsRetrieved(String streamKey, long sequence, String customerId, PriorityClass priorityClass,
+                            int ticketsRetrieved, PoolCounters counters) implements PoolEvent {
+    }
+
+    /**
+     * Published when a retrieval request could not be served.
+     *
+     * @param streamKey The key of the event stream.
+     * @param sequence The position of the event within its stream.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier of the request.
+     * @param reason The reason the request failed.
+     */
+    record RetrievalFailed(String streamKey, long sequence, String customerId, PriorityClass priorityClass,
+                           String reason) implements PoolEvent {
+    }
+
+    /**
+     * Published when a retrieval request left the queue because its deadline passed.
+     *
+     * @param streamKey The key of the event stream.
+     * @param sequence The position of the event within its stream.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier of the request.
+     * @param waitedMillis How long the request waited before it timed out, in milliseconds.
+     */
+    record RetrievalTimedOut(String streamKey, long sequence, String customerId, PriorityClass priorityClass,
+                             long waitedMillis) implements PoolEvent {
+    }
+
+    /**
+     * Published when the pool is cleared.
+     *
+     * @param streamKey The key of the event stream.
+     * @param sequence The position of the event within its stream.
+     * @param counters The pool counters after the pool was cleared.
+     */
+    record PoolCleared(String streamKey, long sequence, PoolCounters counters) implements PoolEvent {
+    }
+}
@@ -0,0 +1,21 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import java.util.Map;
+
+/**
+ * The PoolStatsSnapshot record holds the compact statistics the dashboard is drawn from: whether the
+ * simulation is running, how many participants take part and the ticket counters of every event's pool.
+ * Two snapshots are equal when none of these values differ, so unchanged statistics need not be resent.
+ *
+ * @param isRunning Whether the simulation is running.
+ * @param numberOfVendors The number of vendors.
+ * @param numberOfCustomers The number of general sale customers.
+ * @param numberOfVIPCustomers The number of VIP customers.
+ * @param events The ticket counters of every event, by event ID.
+ */
+public record PoolStatsSnapshot(boolean isRunning,
+                                int numberOfVendors,
+                                int numberOfCustomers,
+                                int numberOfVIPCustomers,
+                                Map<String, PoolCounters> events) {
+}
@@ -0,0 +1,81 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import java.util.List;
+
+/**
+ * The PriorityClass enum lists the tiers a customer can retrieve tickets in.
+ * The order in which the tiers are served is configured per event (see
+ * {@link ConfigurationData#getPriorityClasses()}); by default it is the declaration order below.
+ * Requests of the same tier are always served in FIFO order.
+ */
+public enum PriorityClass {
+
+    /**
+     * Platinum members, served before every other tier by default.
+     */
+    PLATINUM("Platinum"),
+
+    /**
+     * VIP customers.
+     */
+    VIP("VIP"),
+
+    /**
+     * Members of the venue or promoter.
+     */
+    MEMBER("Member"),
+
+    /**
+     * Customers holding a presale code.
+     */
+    PRESALE("Presale"),
+
+    /**
+     * General sale customers, served after every other tier by default.
+     */
+    GENERAL("General");
+
+    private final String displayName;
+
+    PriorityClass(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name of the tier for logs and participant types.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the participant type of customers in the tier, as used in logs.
+     *
+     * @return "Customer" for general sale, otherwise the tier name followed by "Customer".
+     */
+    public String getCustomerType() {
+        return this == GENERAL ? "Customer" : displayName + " Customer";
+    }
+
+    /**
+     * Checks whether the tier counts towards the priority (VIP) sales in the pool counters.
+     * Every tier apart from general sale does.
+     *
+     * @return true for every tier except {@link #GENERAL}.
+     */
+    public boolean isPriority() {
+        return this != GENERAL;
+    }
+
+    /**
+     * Returns the position of this tier in a service order.
+     *
+     * @param serviceOrder The tiers in the order they are served, highest priority first.
+     * @return The rank, 0 for the tier served first.
+     */
+    public int rankIn(List<PriorityClass> serviceOrder) {
+        return serviceOrder.indexOf(this);
+    }
+}
@@ -0,0 +1,18 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The RetrievalMode enum decides how customers wait for their tickets.
+ */
+public enum RetrievalMode {
+
+    /**
+     * The customer's thread waits in the ticket pool until its request is served.
+     */
+    BLOCKING,
+
+    /**
+     * The customer leaves its request with the ticket pool and carries on; the request is completed
+     * by the vendor whose tickets make it satisfiable. A customer keeps at most one request outstanding.
+     */
+    ASYNC
+}
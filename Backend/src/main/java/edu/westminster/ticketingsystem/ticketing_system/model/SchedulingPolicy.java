@@ -0,0 +1,28 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The SchedulingPolicy enum decides the order in which waiting requests of the different priority classes
+ * are served. The classes are ranked by the configured service order, and requests of the same class are
+ * always served in FIFO order.
+ */
+public enum SchedulingPolicy {
+
+    /**
+     * Requests of a higher class are always served before requests of a lower class. Lower classes
+     * can wait indefinitely under steady traffic from higher classes.
+     */
+    STRICT_PRIORITY,
+
+    /**
+     * A request is ranked as if it had arrived one priority aging interval later than it did for every
+     * class it is below the highest, so it overtakes any request of a class one rank higher that arrived
+     * more than that interval after it.
+     */
+    AGING,
+
+    /**
+     * At most the configured number of requests of a class are served in a row while a request of a lower
+     * class is waiting; the next lower class with a waiting request is then served once.
+     */
+    WEIGHTED
+}
@@ -0,0 +1,12 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The SeatLocation record identifies an assigned seat in the venue.
+ * Sections, rows and seats are numbered from 1.
+ *
+ * @param section The section of the seat.
+ * @param row The row of the seat within its section.
+ * @param seat The seat within its row.
+ */
+public record SeatLocation(int section, int row, int seat) {
+}
@@ -0,0 +1,150 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The SerializedLog record holds a simulation log as the JSON it was serialized to when it was made,
+ * together with the fields logs are filtered by. The same bytes are kept in the log history, sent to
+ * WebSocket subscribers and written into REST responses, so a log is never serialized twice.
+ *
+ * @param sequence The sequence number of the log.
+ * @param timestampMillis When the log was made, in milliseconds since the epoch.
+ * @param action The action of the log.
+ * @param participantId The ID of the participant the log concerns, or null.
+ * @param json The log as UTF-8 JSON.
+ */
+public record SerializedLog(long sequence, long timestampMillis, String action, String participantId, byte[] json)
+        implements JsonSerializable {
+
+    /**
+     * Writes the log as its JSON. A generator that writes UTF-8, as REST responses do, copies the
+     * bytes as they are, without decoding them.
+     *
+     * @param generator The generator to write to.
+     * @param serializers The serializer provider.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeRawValue(new Utf8Json(json));
+    }
+
+    /**
+     * Writes the log as its JSON; logs carry no type information.
+     *
+     * @param generator The generator to write to.
+     * @param serializers The serializer provider.
+     * @param typeSerializer The type serializer, which is not used.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers,
+                                  TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    /**
+     * Raw JSON that is already UTF-8 encoded. The unquoted UTF-8 forms are the bytes themselves; the
+     * character and quoted forms are only needed by generators that write characters, and are decoded
+     * the first time one of them asks.
+     */
+    private static final class Utf8Json implements SerializableString {
+        private final byte[] utf8;
+        private SerializedString decoded;
+
+        Utf8Json(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        private SerializedString decoded() {
+            if (decoded == null) {
+                decoded = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+            }
+            return decoded;
+        }
+
+        @Override
+        public String getValue() {
+            return decoded().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return decoded().charLength();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return decoded().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return decoded().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return decoded().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return decoded().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return decoded().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return decoded().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return decoded().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (utf8.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+
+/**
+ * The SimulationLogEvent interface represents an immutable event written to the simulation log.
+ * Each record serializes to the "details" of its log, with the same fields the structured logs
+ * have always had, so clients read typed and map-based logs alike. The frequent ticket events are
+ * typed records holding primitive fields; rare events carry their details as a map.
+ */
+public sealed interface SimulationLogEvent {
+
+    /**
+     * Returns the action the event is logged as.
+     *
+     * @return The action, such as "TICKET_ADD".
+     */
+    String action();
+
+    /**
+     * Returns the ID of the participant that made the event or that the event concerns.
+     *
+     * @return The participant ID, or null if the event concerns no single participant.
+     */
+    default String participantId() {
+        return null;
+    }
+
+    /**
+     * Logged when tickets are added to a pool.
+     *
+     * @param eventId The ID of the event whose pool the tickets were added to.
+     * @param ticketsAdded The number of tickets added.
+     * @param counters The pool counters after the tickets were added.
+     */
+    record TicketAdded(String eventId, int ticketsAdded, @JsonUnwrapped PoolCounters counters)
+            implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_ADD";
+        }
+    }
+
+    /**
+     * Logged when a customer retrieves tickets from a pool.
+     *
+     * @param eventId The ID of the event whose pool the tickets were retrieved from.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier the customer retrieved the tickets in.
+     * @param retrievedTickets The number of tickets retrieved.
+     * @param counters The pool counters after the tickets were retrieved.
+     */
+    record TicketRetrieved(String eventId, String customerId, PriorityClass priorityClass, int retrievedTickets,
+                           @JsonUnwrapped PoolCounters counters) implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_RETRIEVAL";
+        }
+
+        @Override
+        public String participantId() {
+            return customerId;
+        }
+
+        @JsonProperty
+        public String customerType() {
+            return customerTypeOf(priorityClass);
+        }
+    }
+
+    /**
+     * Logged when a retrieval request could not be served.
+     *
+     * @param eventId The ID of the event the request was made for.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier of the request.
+     * @param reason The reason the request failed.
+     */
+    record RetrievalFailed(String eventId, String customerId, PriorityClass priorityClass, String reason)
+            implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_RETRIEVAL_FAILED";
+        }
+
+        @Override
+        public String participantId() {
+            return customerId;
+        }
+
+        @JsonProperty
+        public String customerType() {
+            return customerTypeOf(priorityClass);
+        }
+    }
+
+    /**
+     * Logged when a retrieval request left the queue because its deadline passed.
+     *
+     * @param eventId The ID of the event the request was made for.
+     * @param customerId The ID of the customer.
+     * @param priorityClass The tier of the request.
+     * @param waitedMillis How long the request waited before it timed out, in milliseconds.
+     */
+    record RetrievalTimedOut(String eventId, String customerId, PriorityClass priorityClass, long waitedMillis)
+            implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_RETRIEVAL_TIMEOUT";
+        }
+
+        @Override
+        public String participantId() {
+            return customerId;
+        }
+
+        @JsonProperty
+        public String customerType() {
+            return customerTypeOf(priorityClass);
+        }
+    }
+
+    /**
+     * Logged when a pool is cleared.
+     *
+     * @param eventId The ID of the event whose pool was cleared.
+     * @param counters The pool counters after the pool was cleared.
+     */
+    record PoolCleared(String eventId, @JsonUnwrapped PoolCounters counters) implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "POOL_CLEARED";
+        }
+    }
+
+    /**
+     * Logged when a vendor has released tickets.
+     *
+     * @param id The ID of the vendor.
+     * @param ticketsAdded The number of tickets released.
+     */
+    record VendorTicketsAdded(String id, int ticketsAdded) implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_ADD_VENDOR";
+        }
+
+        @Override
+        public String participantId() {
+            return id;
+        }
+
+        @JsonProperty
+        public String operation() {
+            return "Add tickets";
+        }
+    }
+
+    /**
+     * Logged when a vendor could not release tickets.
+     *
+     * @param id The ID of the vendor.
+     * @param reason The reason the tickets could not be added.
+     * @param ticketsPerRelease The number of tickets the vendor tried to release.
+     */
+    record VendorAddFailed(String id, String reason, int ticketsPerRelease) implements SimulationLogEvent {
+
+        @Override
+        public String action() {
+            return "TICKET_ADD_FAILED";
+        }
+
+        @Override
+        public String participantId() {
+            return id;
+        }
+    }
+
+    /**
+     * Logged for any other action, with its details as a map. The participant is the one the details
+     * name as "id" or "customerId".
+     *
+     * @param action The action.
+     * @param details The details of the action.
+     */
+    record Details(String action, @JsonValue Map<String, Object> details) implements SimulationLogEvent {
+
+        @Override
+        public String participantId() {
+            Object id = details.containsKey("id") ? details.get("id") : details.get("customerId");
+            return id == null ? null : String.valueOf(id);
+        }
+    }
+
+    private static String customerTypeOf(PriorityClass priorityClass) {
+        return priorityClass.isPriority() ? "VIP" : "Normal";
+    }
+}
@@ -6,6 +6,10 @@ import lombok.Data;
 /**
  * The Ticket class represents a ticket in the ticketing system.
  * Each ticket is uniquely identified by its ID and is associated with a vendor.
+ * Tickets sold from a seat map also carry the seat they are assigned to.
+ *
+ * The ticket pools store only the 64-bit ticket ID, which also encodes the vendor (see {@link TicketId});
+ * a Ticket is a view created where tickets leave the pool.
  */
 @Data
 @AllArgsConstructor
@@ -14,10 +18,37 @@ public class Ticket {
     /**
      * Unique identifier for the ticket.
      */
-    private String ticketId;
+    private long id;
 
     /**
-     * The ID of the vendor associated with this ticket.
+     * The seat assigned to this ticket, or null for general admission.
      */
-    private String vendorId;
+    private SeatLocation seat;
+
+    /**
+     * Constructs a new general admission Ticket.
+     *
+     * @param id The unique identifier for the ticket.
+     */
+    public Ticket(long id) {
+        this(id, null);
+    }
+
+    /**
+     * Returns the ticket ID in its display form.
+     *
+     * @return The formatted ticket ID.
+     */
+    public String getTicketId() {
+        return TicketId.format(id);
+    }
+
+    /**
+     * Returns the ID of the vendor associated with this ticket.
+     *
+     * @return The vendor ID.
+     */
+    public String getVendorId() {
+        return String.valueOf(TicketId.vendorOf(id));
+    }
 }
@@ -0,0 +1,86 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The TicketId class encodes and decodes the 64-bit ticket identifiers used by the ticket pools.
+ *
+ * An identifier packs, from the most significant bit down, a 31-bit release batch number, a
+ * 20-bit vendor number and a 12-bit sequence number within the batch; the sign bit is always 0.
+ * Batch numbers are handed out once across the whole system, so identifiers are unique and
+ * increase with every release. The vendor field is wide enough for every vendor ID a simulation
+ * can hand out, since vendor IDs are never reused within a run.
+ */
+public final class TicketId {
+
+    /**
+     * The largest vendor number that fits in an identifier.
+     */
+    public static final int MAX_VENDOR = (1 << 20) - 1;
+
+    /**
+     * The number of tickets that fit in a single batch.
+     */
+    public static final int BATCH_SIZE = 1 << 12;
+
+    /**
+     * The largest batch number that fits in an identifier.
+     */
+    public static final long MAX_BATCH = (1L << 31) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int VENDOR_BITS = 20;
+
+    private TicketId() {
+    }
+
+    /**
+     * Builds a ticket identifier.
+     *
+     * @param batch The release batch number.
+     * @param vendor The vendor number.
+     * @param sequence The sequence number of the ticket within its batch.
+     * @return The ticket identifier.
+     */
+    public static long of(long batch, int vendor, int sequence) {
+        return (batch << (VENDOR_BITS + SEQUENCE_BITS)) | ((long) vendor << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Extracts the release batch number from a ticket identifier.
+     *
+     * @param ticketId The ticket identifier.
+     * @return The batch number.
+     */
+    public static long batchOf(long ticketId) {
+        return ticketId >>> (VENDOR_BITS + SEQUENCE_BITS);
+    }
+
+    /**
+     * Extracts the vendor number from a ticket identifier.
+     *
+     * @param ticketId The ticket identifier.
+     * @return The vendor number.
+     */
+    public static int vendorOf(long ticketId) {
+        return (int) (ticketId >>> SEQUENCE_BITS) & MAX_VENDOR;
+    }
+
+    /**
+     * Extracts the sequence number within its batch from a ticket identifier.
+     *
+     * @param ticketId The ticket identifier.
+     * @return The sequence number.
+     */
+    public static int sequenceOf(long ticketId) {
+        return (int) ticketId & (BATCH_SIZE - 1);
+    }
+
+    /**
+     * Formats a ticket identifier for display as vendor-batch-sequence.
+     *
+     * @param ticketId The ticket identifier.
+     * @return The formatted identifier.
+     */
+    public static String format(long ticketId) {
+        return vendorOf(ticketId) + "-" + batchOf(ticketId) + "-" + sequenceOf(ticketId);
+    }
+}
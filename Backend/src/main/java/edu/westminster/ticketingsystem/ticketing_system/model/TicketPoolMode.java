@@ -0,0 +1,30 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The TicketPoolMode enum selects the engine used for the ticket pool.
+ */
+public enum TicketPoolMode {
+
+    /**
+     * Every operation runs under a single fair lock and requests are served in strict priority class/FIFO order.
+     */
+    STRICT_FAIR,
+
+    /**
+     * Inventory is spread over lock-striped segments with CAS-based reservation counters.
+     * Higher priority classes are still served before lower ones, but FIFO order within a class is not strict.
+     */
+    HIGH_THROUGHPUT,
+
+    /**
+     * Retrievals are published to a slot array and applied in batches by a single combiner thread
+     * under one lock acquisition. Requests are served in strict priority class/FIFO order.
+     */
+    FLAT_COMBINING,
+
+    /**
+     * Tickets are assigned seats in a venue of sections and rows, and each request is served a block of
+     * adjacent seats in a single row. Requests are served in strict priority class/FIFO order, as in STRICT_FAIR.
+     */
+    SEAT_MAP
+}
@@ -4,11 +4,11 @@ import lombok.Getter;
 
 /**
  * The TicketRetrievalRequest class represents a request made by a customer to retrieve tickets.
- * Requests are prioritized based on whether the customer is a VIP and the timestamp of the request.
- * VIP customers are given higher priority, and within the same priority, requests are handled in FIFO order.
+ * Requests are prioritized by the tier the customer retrieves tickets in; the pools' queues keep
+ * requests of the same tier in the order they arrive.
  */
 @Getter
-public class TicketRetrievalRequest implements Comparable<TicketRetrievalRequest> {
+public class TicketRetrievalRequest {
 
     /**
      * Unique identifier for the customer making the request.
@@ -21,44 +21,89 @@ public class TicketRetrievalRequest implements Comparable<TicketRetrievalRequest
     private final int ticketsPerRetrieval;
 
     /**
-     * Indicates whether the customer is a VIP.
+     * The tier the customer retrieves tickets in.
      */
-    private final boolean isVIP;
+    private final PriorityClass priorityClass;
 
     /**
-     * Timestamp of the request, used to maintain FIFO order within the same priority.
+     * Timestamp of the request, used by the aging scheduling policy.
      */
     private final long timestamp;
 
+    /**
+     * When an open-loop customer was due to make the request, in nanoseconds of the simulation clock,
+     * or {@link Long#MIN_VALUE} if the request was made as soon as it was due.
+     */
+    private final long intendedStartNanos;
+
     /**
      * Constructs a new TicketRetrievalRequest.
      *
      * @param customerId The ID of the customer making the request.
      * @param ticketsPerRetrieval The number of tickets requested.
-     * @param isVIP Whether the customer is a VIP.
+     * @param priorityClass The tier the customer retrieves tickets in.
      */
-    public TicketRetrievalRequest(String customerId, int ticketsPerRetrieval, boolean isVIP) {
+    public TicketRetrievalRequest(String customerId, int ticketsPerRetrieval, PriorityClass priorityClass) {
+        this(customerId, ticketsPerRetrieval, priorityClass, System.currentTimeMillis());
+    }
+
+    /**
+     * Constructs a new TicketRetrievalRequest made at the given time.
+     *
+     * @param customerId The ID of the customer making the request.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param timestamp When the request was made, in milliseconds of the simulation clock.
+     */
+    public TicketRetrievalRequest(String customerId, int ticketsPerRetrieval, PriorityClass priorityClass,
+                                  long timestamp) {
+        this(customerId, ticketsPerRetrieval, priorityClass, timestamp, Long.MIN_VALUE);
+    }
+
+    /**
+     * Constructs a new TicketRetrievalRequest made at the given time that was due at an earlier time.
+     *
+     * @param customerId The ID of the customer making the request.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param timestamp When the request was made, in milliseconds of the simulation clock.
+     * @param intendedStartNanos When the request was due, in nanoseconds of the simulation clock.
+     */
+    public TicketRetrievalRequest(String customerId, int ticketsPerRetrieval, PriorityClass priorityClass,
+                                  long timestamp, long intendedStartNanos) {
         this.customerId = customerId;
         this.ticketsPerRetrieval = ticketsPerRetrieval;
-        this.isVIP = isVIP;
-        this.timestamp = System.currentTimeMillis();
+        this.priorityClass = priorityClass;
+        this.timestamp = timestamp;
+        this.intendedStartNanos = intendedStartNanos;
+    }
+
+    /**
+     * Constructs a new TicketRetrievalRequest in the VIP or general sale tier.
+     *
+     * @param customerId The ID of the customer making the request.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param isVIP Whether the customer is a VIP.
+     */
+    public TicketRetrievalRequest(String customerId, int ticketsPerRetrieval, boolean isVIP) {
+        this(customerId, ticketsPerRetrieval, isVIP ? PriorityClass.VIP : PriorityClass.GENERAL);
+    }
+
+    /**
+     * Checks whether the request counts towards the priority (VIP) sales.
+     *
+     * @return true if the request is in a tier above general sale.
+     */
+    public boolean isVIP() {
+        return priorityClass.isPriority();
     }
 
     /**
-     * Compares this request with another based on priority.
-     * - VIP customers have higher priority.
-     * - Requests of the same type are handled in FIFO order based on timestamp.
+     * Checks whether the request carries the time it was due to be made.
      *
-     * @param other The other TicketRetrievalRequest to compare to.
-     * @return -1 if this request has higher priority, 1 if lower, or 0 if equal.
+     * @return true if the request was made by an open-loop customer.
      */
-    @Override
-    public int compareTo(TicketRetrievalRequest other) {
-        // VIP has higher priority
-        if (this.isVIP != other.isVIP) {
-            return this.isVIP ? -1 : 1;
-        }
-        // FIFO within the same priority
-        return Long.compare(this.timestamp, other.timestamp);
+    public boolean hasIntendedStart() {
+        return intendedStartNanos != Long.MIN_VALUE;
     }
 }
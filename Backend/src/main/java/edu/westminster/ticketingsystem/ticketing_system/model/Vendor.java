@@ -3,8 +3,6 @@ package edu.westminster.ticketingsystem.ticketing_system.model;
 import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
 import edu.westminster.ticketingsystem.ticketing_system.service.TicketService;
 
-import java.util.Map;
-
 /**
  * The Vendor class represents a vendor participant in the ticketing system.
  * Vendors are responsible for generating and adding tickets to the ticket pool
@@ -17,43 +15,67 @@ public class Vendor extends Participant {
      */
     private final int ticketsPerRelease;
 
+    /**
+     * Whether the vendor retries or waits for space when the pool is full.
+     */
+    private final VendorReleaseMode releaseMode;
+
     /**
      * Constructs a new Vendor instance with the given parameters.
      *
      * @param vendorId The unique identifier for the vendor.
-     * @param configurationData The configuration data containing ticket release settings.
+     * @param eventId The ID of the event the vendor releases tickets for.
+     * @param configurationData The configuration data of the event containing ticket release settings.
      * @param ticketService The ticket service used for ticket operations.
      * @param logService The log service used for simulation logging.
      */
     public Vendor(String vendorId,
+                  String eventId,
                   ConfigurationData configurationData,
                   TicketService ticketService,
                   SimulationLogService logService) {
-        super(vendorId, configurationData.getTicketReleaseInterval(), ticketService, logService);
+        super(vendorId, eventId, configurationData.getTicketReleaseInterval(), ticketService, logService);
         this.ticketsPerRelease = configurationData.getTicketReleaseRate();
+        this.releaseMode = configurationData.getVendorReleaseMode();
     }
 
     /**
      * Performs the ticket release operation for the vendor.
      * Generates and adds tickets to the ticket pool. Logs success or failure based
-     * on the pool's capacity.
+     * on the pool's capacity. In backpressure mode the vendor waits for space instead of failing
+     * straight away, so a failure means the backpressure timeout passed.
      */
     @Override
     protected void performOperation() {
-        boolean added = ticketService.generateAndAddTickets(id, ticketsPerRelease);
+        release(releaseMode == VendorReleaseMode.BACKPRESSURE);
+    }
 
+    /**
+     * Performs the ticket release operation for the vendor without waiting for space, as in the retry mode.
+     */
+    @Override
+    protected void performNonBlockingOperation() {
+        release(false);
+    }
+
+    /**
+     * Generates and adds a release of tickets to the ticket pool and logs the outcome.
+     *
+     * @param waitForSpace Whether to wait for space if the pool is full.
+     */
+    private void release(boolean waitForSpace) {
+        boolean added = waitForSpace
+                ? ticketService.generateAndAddTicketsWhenSpace(eventId, id, ticketsPerRelease)
+                : ticketService.generateAndAddTickets(eventId, id, ticketsPerRelease);
+
+        if (!added && Thread.currentThread().isInterrupted()) {
+            // The vendor was stopped while waiting for space
+            return;
+        }
         if (!added) {
-            logService.sendStructuredLog("TICKET_ADD_FAILED", Map.of(
-                    "id", id,
-                    "reason", "Pool has no space",
-                    "ticketsPerRelease", ticketsPerRelease
-            ));
+            logService.sendLog(new SimulationLogEvent.VendorAddFailed(id, "Pool has no space", ticketsPerRelease));
         } else {
-            logService.sendStructuredLog("TICKET_ADD_VENDOR", Map.of(
-                    "id", id,
-                    "ticketsAdded", ticketsPerRelease,
-                    "operation", "Add tickets"
-            ));
+            logService.sendLog(new SimulationLogEvent.VendorTicketsAdded(id, ticketsPerRelease));
         }
     }
 
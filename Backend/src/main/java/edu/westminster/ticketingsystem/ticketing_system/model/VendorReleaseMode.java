@@ -0,0 +1,18 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The VendorReleaseMode enum decides what a vendor does when the ticket pool has no space for its release.
+ */
+public enum VendorReleaseMode {
+
+    /**
+     * The release fails straight away and the vendor tries again after its release interval.
+     */
+    RETRY,
+
+    /**
+     * The vendor waits in the ticket pool until there is space for the whole release, and is woken
+     * as soon as customers free it. The release only fails if the configured backpressure timeout passes.
+     */
+    BACKPRESSURE
+}
@@ -0,0 +1,15 @@
+package edu.westminster.ticketingsystem.ticketing_system.model;
+
+/**
+ * The WaitTimeStats record summarises how long served retrieval requests of one customer type waited.
+ *
+ * @param count The number of served requests.
+ * @param p50Millis The median wait time in milliseconds.
+ * @param p99Millis The 99th percentile wait time in milliseconds.
+ * @param maxMillis The longest wait time in milliseconds.
+ */
+public record WaitTimeStats(long count,
+                            double p50Millis,
+                            double p99Millis,
+                            double maxMillis) {
+}
@@ -1,6 +1,7 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
 import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
 import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
 import jakarta.annotation.PostConstruct;
@@ -22,6 +23,7 @@ public class ConfigurationService {
     private final ObjectMapper objectMapper;
     private final ConfigurationValidationService validationService;
     private final SimulationService simulationService;
+    private final TicketPoolRegistry ticketPoolRegistry;
 
     /**
      * Loads the system configuration from a file during application initialization.
@@ -33,6 +35,7 @@ public class ConfigurationService {
         boolean loaded = fileService.readConfiguration(systemConfiguration.getConfigurationData());
         if (loaded) {
             this.systemConfiguration.setSystemConfigured(true);
+            ticketPoolRegistry.reconfigure(TicketPoolRegistry.DEFAULT_EVENT_ID);
             System.out.println("Configuration loaded successfully.");
         } else {
             System.out.println("Failed to load configuration. Using default values.");
@@ -73,7 +76,8 @@ public class ConfigurationService {
     /**
      * Updates the system configuration with new data.
      * Ensures that the configuration is validated and cannot be updated while a simulation
-     * is running. The updated configuration is persisted to a file.
+     * is running. The updated configuration is persisted to a file and the ticket pool
+     * switches to the engine of the configured pool mode.
      *
      * @param newConfigurationData The new configuration data to update.
      * @return The updated SystemConfiguration instance.
@@ -94,6 +98,7 @@ public class ConfigurationService {
                     .readValue(objectMapper.writeValueAsString(newConfigurationData));
             saveConfiguration();
             this.systemConfiguration.setSystemConfigured(true);
+            ticketPoolRegistry.reconfigure(TicketPoolRegistry.DEFAULT_EVENT_ID);
         } catch (Exception e) {
             System.out.println("Failed to update data: " + e.getMessage());
             throw new RuntimeException("Failed to update configuration data", e);
@@ -1,8 +1,12 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
 import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+
 /**
  * ConfigurationValidationService validates the configuration data for the ticketing system.
  * This service ensures that all configuration parameters meet the required constraints
@@ -13,8 +17,10 @@ public class ConfigurationValidationService {
 
     /**
      * Validates the provided ConfigurationData object.
-     * Ensures that all numeric values are positive and meaningful. Throws an exception
-     * if any validation constraint is violated.
+     * Ensures that all numeric values are positive and meaningful (the retrieval timeout may be 0),
+     * that a pool mode and a scheduling policy are selected, and that the service order lists every
+     * priority class once. In seat map mode a customer's block of seats must fit in one row.
+     * Throws an exception if any validation constraint is violated.
      *
      * @param configData The configuration data to validate.
      * @throws IllegalArgumentException if any parameter is invalid.
@@ -35,5 +41,50 @@ public class ConfigurationValidationService {
         if (configData.getMaxTicketCapacity() <= 0) {
             throw new IllegalArgumentException("Maximum ticket capacity must be greater than 0");
         }
+        if (configData.getPoolMode() == null) {
+            throw new IllegalArgumentException("Ticket pool mode must be specified");
+        }
+        if (configData.getSchedulingPolicy() == null) {
+            throw new IllegalArgumentException("Scheduling policy must be specified");
+        }
+        if (configData.getCustomerRetrievalMode() == null) {
+            throw new IllegalArgumentException("Customer retrieval mode must be specified");
+        }
+        if (configData.getVendorReleaseMode() == null) {
+            throw new IllegalArgumentException("Vendor release mode must be specified");
+        }
+        if (configData.getArrivalModel() == null) {
+            throw new IllegalArgumentException("Arrival model must be specified");
+        }
+        if (configData.getArrivalBurstSize() <= 0) {
+            throw new IllegalArgumentException("Arrival burst size must be greater than 0");
+        }
+        if (configData.getPriorityClasses() == null
+                || configData.getPriorityClasses().size() != PriorityClass.values().length
+                || EnumSet.copyOf(configData.getPriorityClasses()).size() != PriorityClass.values().length) {
+            throw new IllegalArgumentException("Priority classes must list every class exactly once");
+        }
+        if (configData.getVipServiceRatio() <= 0) {
+            throw new IllegalArgumentException("VIP service ratio must be greater than 0");
+        }
+        if (configData.getPriorityAgingInterval() <= 0) {
+            throw new IllegalArgumentException("Priority aging interval must be greater than 0");
+        }
+        if (configData.getCustomerRetrievalTimeout() < 0) {
+            throw new IllegalArgumentException("Customer retrieval timeout cannot be negative");
+        }
+        if (configData.getVendorBackpressureTimeout() < 0) {
+            throw new IllegalArgumentException("Vendor backpressure timeout cannot be negative");
+        }
+        if (configData.getSeatSections() <= 0) {
+            throw new IllegalArgumentException("Number of seat sections must be greater than 0");
+        }
+        if (configData.getSeatsPerRow() <= 0) {
+            throw new IllegalArgumentException("Seats per row must be greater than 0");
+        }
+        if (configData.getPoolMode() == TicketPoolMode.SEAT_MAP
+                && configData.getCustomerRetrievalRate() > configData.getSeatsPerRow()) {
+            throw new IllegalArgumentException("Customer retrieval rate cannot exceed seats per row in seat map mode");
+        }
     }
 }
@@ -0,0 +1,262 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.DiscreteEventScheduler;
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketIdGenerator;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.Customer;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.Participant;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.SimulationLogEvent;
+import edu.westminster.ticketingsystem.ticketing_system.model.VIPCustomer;
+import edu.westminster.ticketingsystem.ticketing_system.model.Vendor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DiscreteEventSimulationService runs a simulation scenario in virtual time, as fast as the CPU allows.
+ * The scenario uses the same vendors, customers and pool engines as a live simulation, configured
+ * like the events they trade on, but every participant is an action of a {@link DiscreteEventScheduler}
+ * instead of a thread, and the pools run on its virtual clock. Participants trade without waiting
+ * in the pool, as on the shared participant scheduler: customers retrieve asynchronously and vendors
+ * retry a release at their next interval when the pool is full.
+ *
+ * A run never touches the live simulation: its pools are private to the run, their events are
+ * neither persisted nor broadcast, and participant logs are only counted. The first operation of
+ * each participant happens at a point within its first interval drawn from a seeded random number
+ * generator, so a scenario run again with the same seed and configuration gives the same results.
+ * Customers of events with an open-loop arrival model instead arrive when their arrival process,
+ * seeded from the same generator, says they are due.
+ *
+ * A run happens on the calling thread, so its cost is bounded: the simulated duration is limited,
+ * a scenario whose scheduled participants and their retrieval expiries would exceed the action budget
+ * is rejected up front, and a run that reaches the budget anyway, for example through open-loop
+ * arrivals, stops early and reports how far it got. Only one run can be in progress at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class DiscreteEventSimulationService {
+
+    /**
+     * The longest duration a scenario can simulate, in milliseconds.
+     */
+    public static final long MAX_SIMULATED_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * The largest number of actions a single run processes.
+     */
+    public static final long MAX_PROCESSED_ACTIONS = 10_000_000;
+
+    private final TicketPoolRegistry ticketPoolRegistry;
+    private final SimulationValidationService validationService;
+    private final SystemConfiguration systemConfiguration;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * Runs a scenario in virtual time and reports the same statistics as the status of a live simulation.
+     * Participants of each type are spread round-robin across the given events.
+     *
+     * @param numberOfVendors Number of vendors.
+     * @param numberOfCustomers Number of normal customers.
+     * @param numberOfVIPCustomers Number of VIP customers.
+     * @param eventIds IDs of the events the participants are spread across; the first is reported at the top level.
+     * @param durationMillis The simulated duration in milliseconds.
+     * @param seed The seed of the random number generator.
+     * @return A map containing the simulation statistics.
+     * @throws IllegalStateException if the system is not configured, if one of the events does not exist
+     *                               or if another run is in progress.
+     * @throws IllegalArgumentException if a participant count, the event list or the duration is invalid,
+     *                                  or if the scenario would exceed {@link #MAX_PROCESSED_ACTIONS}.
+     */
+    public Map<String, Object> runSimulation(int numberOfVendors, int numberOfCustomers, int numberOfVIPCustomers,
+                                             List<String> eventIds, long durationMillis, long seed) {
+        if (!systemConfiguration.isSystemConfigured()) {
+            throw new IllegalStateException("The system is not configured");
+        }
+        validationService.validateSimulationStart(numberOfVendors, numberOfCustomers, numberOfVIPCustomers);
+        if (eventIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one event ID is required");
+        }
+        if (durationMillis <= 0 || durationMillis > MAX_SIMULATED_MILLIS) {
+            throw new IllegalArgumentException("Simulated duration must be between 1 and " + MAX_SIMULATED_MILLIS
+                    + " milliseconds");
+        }
+        for (String eventId : eventIds) {
+            if (!ticketPoolRegistry.containsEvent(eventId)) {
+                throw new IllegalStateException("Event with ID " + eventId + " not found.");
+            }
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Another discrete-event simulation is already running");
+        }
+        try {
+            return run(numberOfVendors, numberOfCustomers, numberOfVIPCustomers, eventIds, durationMillis, seed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Runs a validated scenario.
+     *
+     * @param numberOfVendors Number of vendors.
+     * @param numberOfCustomers Number of normal customers.
+     * @param numberOfVIPCustomers Number of VIP customers.
+     * @param eventIds IDs of the events the participants are spread across.
+     * @param durationMillis The simulated duration in milliseconds.
+     * @param seed The seed of the random number generator.
+     * @return A map containing the simulation statistics.
+     * @throws IllegalArgumentException if the scheduled participants would exceed {@link #MAX_PROCESSED_ACTIONS}.
+     */
+    private Map<String, Object> run(int numberOfVendors, int numberOfCustomers, int numberOfVIPCustomers,
+                                    List<String> eventIds, long durationMillis, long seed) {
+        long start = System.nanoTime();
+        DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        PoolEventPipeline eventPipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+        TicketPoolRegistry registry = new TicketPoolRegistry(
+                ticketPoolRegistry.getConfiguration(TicketPoolRegistry.DEFAULT_EVENT_ID), eventPipeline, scheduler);
+        for (String eventId : eventIds) {
+            if (!registry.containsEvent(eventId)) {
+                registry.createEvent(eventId, ticketPoolRegistry.getConfiguration(eventId));
+            }
+        }
+        TicketService ticketService = new TicketService(registry, new TicketIdGenerator());
+        LogCounter logCounter = new LogCounter();
+
+        Random random = new Random(seed);
+        List<Participant> participants = new ArrayList<>();
+        long scheduledActions = 0;
+        int maxParticipants = Math.max(numberOfVendors, Math.max(numberOfCustomers, numberOfVIPCustomers));
+        for (int i = 0; i < maxParticipants; i++) {
+            String eventId = eventIds.get(i % eventIds.size());
+            ConfigurationData configurationData = registry.getConfiguration(eventId);
+            String id = String.valueOf(i + 1);
+            List<Participant> added = new ArrayList<>(3);
+            if (i < numberOfVendors) {
+                added.add(new Vendor(id, eventId, configurationData, ticketService, logCounter));
+            }
+            if (i < numberOfVIPCustomers) {
+                added.add(new VIPCustomer(id, eventId, configurationData, ticketService, logCounter));
+            }
+            if (i < numberOfCustomers) {
+                added.add(new Customer(id, eventId, configurationData, ticketService, logCounter));
+            }
+            for (Participant participant : added) {
+                scheduledActions += scheduledActions(participant, configurationData, durationMillis);
+            }
+            participants.addAll(added);
+        }
+        if (scheduledActions > MAX_PROCESSED_ACTIONS) {
+            throw new IllegalArgumentException("The scenario would run about " + scheduledActions
+                    + " actions, more than the limit of " + MAX_PROCESSED_ACTIONS
+                    + "; reduce the duration or the number of participants");
+        }
+        for (Participant participant : participants) {
+            if (participant.isOpenLoop()) {
+                ((Customer) participant).setArrivalSeed(random.nextLong());
+                scheduler.scheduleWhenDue(participant::runDueOperations);
+                continue;
+            }
+            long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, participant.getInterval()));
+            scheduler.scheduleAtFixedRate((long) (random.nextDouble() * intervalNanos), intervalNanos,
+                    participant::runScheduledOperation);
+        }
+
+        boolean completed = scheduler.runUntil(TimeUnit.MILLISECONDS.toNanos(durationMillis), MAX_PROCESSED_ACTIONS);
+        participants.forEach(Participant::onStopped);
+
+        TicketPool ticketPool = registry.getPool(eventIds.get(0));
+        Map<String, Object> response = new HashMap<>(SimulationService.getPoolSummary(ticketPool));
+        response.put("eventId", eventIds.get(0));
+        response.put("arrivalModel", registry.getConfiguration(eventIds.get(0)).getArrivalModel());
+        response.put("wakeUps", ticketPool.getWakeUpCount());
+        response.put("spuriousWakeUps", ticketPool.getSpuriousWakeUpCount());
+        response.put("retrievalTimeouts", ticketPool.getRetrievalTimeoutCount());
+        response.put("droppedPoolEvents", eventPipeline.getDroppedEventCount());
+
+        Map<String, Object> events = new LinkedHashMap<>();
+        for (String eventId : eventIds) {
+            events.put(eventId, SimulationService.getPoolSummary(registry.getPool(eventId)));
+        }
+        response.put("events", events);
+        response.put("numberOfVendors", numberOfVendors);
+        response.put("numberOfCustomers", numberOfCustomers);
+        response.put("numberOfVIPCustomers", numberOfVIPCustomers);
+        Map<PriorityClass, Integer> customerCounts = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            customerCounts.put(priorityClass, 0);
+        }
+        customerCounts.put(PriorityClass.GENERAL, numberOfCustomers);
+        customerCounts.put(PriorityClass.VIP, numberOfVIPCustomers);
+        response.put("customersByPriorityClass", customerCounts);
+        response.put("logCounts", logCounter.getCounts());
+        response.put("seed", seed);
+        response.put("simulatedMillis", scheduler.currentTimeMillis());
+        response.put("completed", completed);
+        response.put("processedActions", scheduler.getProcessedActions());
+        response.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+
+    /**
+     * Estimates the number of actions a participant is scheduled for over a run. A customer whose
+     * retrievals time out may also leave one expiry action per retrieval in the scheduler. Open-loop
+     * customers are left out, as their arrivals are not known up front.
+     *
+     * @param participant The participant.
+     * @param configurationData The configuration of the event the participant trades on.
+     * @param durationMillis The simulated duration in milliseconds.
+     * @return The estimated number of actions.
+     */
+    private static long scheduledActions(Participant participant, ConfigurationData configurationData,
+                                         long durationMillis) {
+        if (participant.isOpenLoop()) {
+            return 0;
+        }
+        long operations = durationMillis / Math.max(1, participant.getInterval());
+        if (participant instanceof Customer && configurationData.getCustomerRetrievalTimeout() > 0) {
+            return operations * 2;
+        }
+        return operations;
+    }
+
+    /**
+     * A log service that counts the logs of each action instead of storing and broadcasting them.
+     */
+    private static final class LogCounter extends SimulationLogService {
+        private final Map<String, Long> counts = new TreeMap<>();
+
+        LogCounter() {
+            super(null, null, new ObjectMapper(), 1, 0);
+        }
+
+        @Override
+        public void sendLog(SimulationLogEvent event) {
+            counts.merge(event.action(), 1L, Long::sum);
+        }
+
+        @Override
+        public void sendSimulationStatus(boolean isRunning) {
+        }
+
+        Map<String, Long> getCounts() {
+            return counts;
+        }
+    }
+}
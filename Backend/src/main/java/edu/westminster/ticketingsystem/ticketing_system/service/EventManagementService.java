@@ -0,0 +1,139 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * EventManagementService handles the creation, update and removal of ticketed events.
+ * Every event owns an independent ticket pool in the {@link TicketPoolRegistry}. The default
+ * event is backed by the system configuration, so updating it goes through the
+ * {@link ConfigurationService}.
+ */
+@Service
+@AllArgsConstructor
+public class EventManagementService {
+
+    private static final Pattern EVENT_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TicketPoolRegistry ticketPoolRegistry;
+    private final ConfigurationValidationService validationService;
+    private final ConfigurationService configurationService;
+    private final SimulationService simulationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Retrieves the configuration of every event.
+     *
+     * @return A map of event IDs to their configuration.
+     */
+    public Map<String, ConfigurationData> getEvents() {
+        Map<String, ConfigurationData> events = new LinkedHashMap<>();
+        for (String eventId : ticketPoolRegistry.getEventIds()) {
+            events.put(eventId, ticketPoolRegistry.getConfiguration(eventId));
+        }
+        return events;
+    }
+
+    /**
+     * Retrieves the configuration of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return The configuration of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public ConfigurationData getEvent(String eventId) {
+        return ticketPoolRegistry.getConfiguration(eventId);
+    }
+
+    /**
+     * Creates a new event with its own ticket pool.
+     *
+     * @param eventId The ID of the new event.
+     * @param configurationData The configuration of the new event.
+     * @return The configuration of the new event.
+     * @throws IllegalStateException if a simulation is running or the event already exists.
+     * @throws IllegalArgumentException if the event ID or configuration is invalid.
+     */
+    public ConfigurationData createEvent(String eventId, ConfigurationData configurationData) {
+        validateSimulationStopped();
+        validateEventId(eventId);
+        validationService.validateConfigurationData(configurationData);
+
+        ticketPoolRegistry.createEvent(eventId, configurationData);
+        return configurationData;
+    }
+
+    /**
+     * Updates the configuration of an event. The event's pool switches engine if the pool mode
+     * or capacity changed.
+     *
+     * @param eventId The ID of the event.
+     * @param newConfigurationData The new configuration of the event.
+     * @return The updated configuration of the event.
+     * @throws IllegalStateException if a simulation is running or the event does not exist.
+     * @throws IllegalArgumentException if the configuration is invalid.
+     * @throws RuntimeException if the update operation fails.
+     */
+    public ConfigurationData updateEvent(String eventId, ConfigurationData newConfigurationData) {
+        if (TicketPoolRegistry.DEFAULT_EVENT_ID.equals(eventId)) {
+            return configurationService.updateSystemConfigData(newConfigurationData).getConfigurationData();
+        }
+
+        validateSimulationStopped();
+        validationService.validateConfigurationData(newConfigurationData);
+        ConfigurationData configurationData = ticketPoolRegistry.getConfiguration(eventId);
+
+        try {
+            // Update the existing configuration data with the new values
+            objectMapper.readerForUpdating(configurationData)
+                    .readValue(objectMapper.writeValueAsString(newConfigurationData));
+        } catch (Exception e) {
+            System.out.println("Failed to update event " + eventId + ": " + e.getMessage());
+            throw new RuntimeException("Failed to update event configuration", e);
+        }
+        ticketPoolRegistry.reconfigure(eventId);
+        return configurationData;
+    }
+
+    /**
+     * Removes an event and clears its ticket pool.
+     *
+     * @param eventId The ID of the event to remove.
+     * @throws IllegalStateException if a simulation is running, the event does not exist or is the default event.
+     */
+    public void removeEvent(String eventId) {
+        validateSimulationStopped();
+        ticketPoolRegistry.removeEvent(eventId);
+    }
+
+    /**
+     * Validates that no simulation is running, since participants hold on to the pools of their events.
+     *
+     * @throws IllegalStateException if a simulation is running.
+     */
+    private void validateSimulationStopped() {
+        if (simulationService.getSimulationStatus()) {
+            throw new IllegalStateException("Events cannot be changed while a simulation is running");
+        }
+    }
+
+    /**
+     * Validates the format of an event ID.
+     *
+     * @param eventId The event ID to validate.
+     * @throws IllegalArgumentException if the event ID is invalid.
+     */
+    private void validateEventId(String eventId) {
+        if (eventId == null || !EVENT_ID_PATTERN.matcher(eventId).matches()) {
+            throw new IllegalArgumentException(
+                    "Event ID must be 1 to 64 letters, digits, underscores or hyphens");
+        }
+    }
+}
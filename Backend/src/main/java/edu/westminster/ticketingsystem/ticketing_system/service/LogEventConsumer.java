@@ -0,0 +1,50 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventConsumer;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import edu.westminster.ticketingsystem.ticketing_system.model.SimulationLogEvent;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * LogEventConsumer turns ticket pool events into structured simulation logs and broadcasts them.
+ * It runs on the event pipeline threads, so WebSocket latency does not hold up the ticket pool.
+ */
+@Service
+@AllArgsConstructor
+public class LogEventConsumer implements PoolEventConsumer {
+
+    private final SimulationLogService logService;
+
+    /**
+     * Returns the name of the consumer.
+     *
+     * @return "logs".
+     */
+    @Override
+    public String getName() {
+        return "logs";
+    }
+
+    /**
+     * Sends the typed log matching the given pool event.
+     *
+     * @param event The pool event to broadcast.
+     */
+    @Override
+    public void accept(PoolEvent event) {
+        logService.sendLog(switch (event) {
+            case PoolEvent.TicketsAdded added -> new SimulationLogEvent.TicketAdded(
+                    added.streamKey(), added.ticketsAdded(), added.counters());
+            case PoolEvent.TicketsRetrieved retrieved -> new SimulationLogEvent.TicketRetrieved(
+                    retrieved.streamKey(), retrieved.customerId(), retrieved.priorityClass(),
+                    retrieved.ticketsRetrieved(), retrieved.counters());
+            case PoolEvent.RetrievalFailed failed -> new SimulationLogEvent.RetrievalFailed(
+                    failed.streamKey(), failed.customerId(), failed.priorityClass(), failed.reason());
+            case PoolEvent.RetrievalTimedOut timedOut -> new SimulationLogEvent.RetrievalTimedOut(
+                    timedOut.streamKey(), timedOut.customerId(), timedOut.priorityClass(), timedOut.waitedMillis());
+            case PoolEvent.PoolCleared cleared -> new SimulationLogEvent.PoolCleared(
+                    cleared.streamKey(), cleared.counters());
+        });
+    }
+}
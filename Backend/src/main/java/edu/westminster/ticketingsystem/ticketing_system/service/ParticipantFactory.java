@@ -1,7 +1,8 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
-import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
 import edu.westminster.ticketingsystem.ticketing_system.model.Customer;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
 import edu.westminster.ticketingsystem.ticketing_system.model.VIPCustomer;
 import edu.westminster.ticketingsystem.ticketing_system.model.Vendor;
 import lombok.AllArgsConstructor;
@@ -10,43 +11,63 @@ import org.springframework.stereotype.Component;
 /**
  * ParticipantFactory is responsible for creating instances of participants in the ticketing system.
  * This factory simplifies the creation of different types of participants such as vendors, customers,
- * and VIP customers by encapsulating their dependencies.
+ * and VIP customers by encapsulating their dependencies. Each participant is bound to an event and
+ * uses that event's configuration.
  */
 @Component
 @AllArgsConstructor
 public class ParticipantFactory {
 
     private final TicketService ticketService;
-    private final ConfigurationData configurationData;
+    private final TicketPoolRegistry ticketPoolRegistry;
     private final SimulationLogService logService;
 
     /**
      * Creates a new Vendor instance.
      *
      * @param vendorId The unique identifier for the vendor.
+     * @param eventId The ID of the event the vendor releases tickets for.
      * @return A new Vendor instance.
      */
-    public Vendor createVendor(String vendorId) {
-        return new Vendor(vendorId, configurationData, ticketService, logService);
+    public Vendor createVendor(String vendorId, String eventId) {
+        return new Vendor(vendorId, eventId, ticketPoolRegistry.getConfiguration(eventId), ticketService, logService);
     }
 
     /**
      * Creates a new Customer instance.
      *
      * @param customerId The unique identifier for the customer.
+     * @param eventId The ID of the event the customer retrieves tickets for.
      * @return A new Customer instance.
      */
-    public Customer createCustomer(String customerId) {
-        return new Customer(customerId, configurationData, ticketService, logService);
+    public Customer createCustomer(String customerId, String eventId) {
+        return new Customer(customerId, eventId, ticketPoolRegistry.getConfiguration(eventId), ticketService, logService);
+    }
+
+    /**
+     * Creates a new Customer instance that retrieves tickets in the given priority class.
+     *
+     * @param customerId The unique identifier for the customer.
+     * @param eventId The ID of the event the customer retrieves tickets for.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @return A new Customer instance, a VIPCustomer for the VIP tier.
+     */
+    public Customer createCustomer(String customerId, String eventId, PriorityClass priorityClass) {
+        if (priorityClass == PriorityClass.VIP) {
+            return createVIPCustomer(customerId, eventId);
+        }
+        return new Customer(customerId, eventId, priorityClass, ticketPoolRegistry.getConfiguration(eventId),
+                ticketService, logService);
     }
 
     /**
      * Creates a new VIPCustomer instance.
      *
      * @param customerId The unique identifier for the VIP customer.
+     * @param eventId The ID of the event the VIP customer retrieves tickets for.
      * @return A new VIPCustomer instance.
      */
-    public VIPCustomer createVIPCustomer(String customerId) {
-        return new VIPCustomer(customerId, configurationData, ticketService, logService);
+    public VIPCustomer createVIPCustomer(String customerId, String eventId) {
+        return new VIPCustomer(customerId, eventId, ticketPoolRegistry.getConfiguration(eventId), ticketService, logService);
     }
 }
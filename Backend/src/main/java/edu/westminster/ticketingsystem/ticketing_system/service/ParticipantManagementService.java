@@ -1,67 +1,105 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
+import edu.westminster.ticketingsystem.ticketing_system.component.ParticipantRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.component.ParticipantScheduler;
 import edu.westminster.ticketingsystem.ticketing_system.model.Customer;
+import edu.westminster.ticketingsystem.ticketing_system.model.Participant;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantHandle;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantThreadMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
 import edu.westminster.ticketingsystem.ticketing_system.model.Vendor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * ParticipantManagementService handles the addition and removal of participants
- * (customers and vendors) in the simulation.
- * This service manages participant threads, ensuring proper validation and logging
- * during their lifecycle in the simulation.
+ * (customers and vendors) in the simulation, one at a time or in bulk.
+ * This service manages running participants, ensuring proper validation and logging
+ * during their lifecycle in the simulation. A bulk operation is logged once rather than
+ * once per participant.
  */
 @Service
 @RequiredArgsConstructor
 public class ParticipantManagementService {
 
+    /**
+     * The largest number of participants a single bulk operation may add or remove.
+     */
+    public static final int MAX_BULK_COUNT = 100_000;
+
     private final ParticipantFactory participantFactory;
     private final SimulationLogService logService;
+    private final ParticipantScheduler participantScheduler;
 
     /**
-     * Adds a customer (VIP or normal) to the provided list of customer threads.
+     * Adds a customer of a priority class to the registry of running customers of that class.
      *
-     * @param customerThreads The list of customer threads.
-     * @param isVIP Whether the customer is a VIP.
+     * @param customers The registry of running customers of the priority class.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param eventId The ID of the event the customer retrieves tickets for.
+     * @param threadMode How the customer runs.
      * @param isSimulationRunning Whether the simulation is currently running.
      */
-    public void addCustomer(List<Thread> customerThreads, boolean isVIP, boolean isSimulationRunning) {
+    public void addCustomer(ParticipantRegistry customers, PriorityClass priorityClass, String eventId,
+                            ParticipantThreadMode threadMode, boolean isSimulationRunning) {
         validateSimulationRunning(isSimulationRunning);
 
-        String customerId = String.valueOf(getNextId(customerThreads));
-        Customer customer = isVIP
-                ? participantFactory.createVIPCustomer(customerId)
-                : participantFactory.createCustomer(customerId);
-
-        Thread customerThread = createAndStartThread(customer, customerId);
-        customerThreads.add(customerThread);
+        String customerId = startCustomer(customers, priorityClass, eventId, threadMode);
 
         logService.sendStructuredLog("CUSTOMER_ADDED", Map.of(
                 "id", customerId,
-                "type", isVIP ? "VIP Customer" : "Customer"
+                "type", priorityClass.getCustomerType(),
+                "eventId", eventId
         ));
     }
 
     /**
-     * Removes a customer (VIP or normal) from the provided list of customer threads by ID.
+     * Adds a number of customers of a priority class to the registry of running customers of that class.
      *
-     * @param customerThreads The list of customer threads.
-     * @param customerId The ID of the customer to be removed.
+     * @param customers The registry of running customers of the priority class.
+     * @param priorityClass The tier the customers retrieve tickets in.
+     * @param eventId The ID of the event the customers retrieve tickets for.
+     * @param threadMode How the customers run.
+     * @param count The number of customers to add.
      * @param isSimulationRunning Whether the simulation is currently running.
+     * @return The IDs of the added customers.
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_BULK_COUNT}.
      */
-    public void removeCustomer(List<Thread> customerThreads, String customerId, boolean isSimulationRunning) {
+    public List<String> addCustomers(ParticipantRegistry customers, PriorityClass priorityClass, String eventId,
+                                     ParticipantThreadMode threadMode, int count, boolean isSimulationRunning) {
         validateSimulationRunning(isSimulationRunning);
+        validateBulkCount(count);
 
-        Thread targetThread = customerThreads.stream()
-                .filter(thread -> thread.getName().equals(customerId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Customer with ID " + customerId + " not found."));
+        List<String> customerIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customerIds.add(startCustomer(customers, priorityClass, eventId, threadMode));
+        }
 
-        targetThread.interrupt();
-        customerThreads.remove(targetThread);
+        logService.sendStructuredLog("CUSTOMERS_ADDED", Map.of(
+                "count", count,
+                "type", priorityClass.getCustomerType(),
+                "eventId", eventId
+        ));
+        return customerIds;
+    }
+
+    /**
+     * Removes a customer from the registry of running customers of its priority class by ID.
+     *
+     * @param customers The registry of running customers.
+     * @param customerId The ID of the customer to be removed.
+     * @param isSimulationRunning Whether the simulation is currently running.
+     */
+    public void removeCustomer(ParticipantRegistry customers, String customerId, boolean isSimulationRunning) {
+        validateSimulationRunning(isSimulationRunning);
+
+        if (!customers.stop(customerId)) {
+            throw new IllegalStateException("Customer with ID " + customerId + " not found.");
+        }
 
         logService.sendStructuredLog("CUSTOMER_REMOVED", Map.of(
                 "id", customerId,
@@ -70,43 +108,96 @@ public class ParticipantManagementService {
     }
 
     /**
-     * Adds a vendor to the provided list of vendor threads.
+     * Removes up to a number of customers from the registry of running customers of a priority class.
      *
-     * @param vendorThreads The list of vendor threads.
+     * @param customers The registry of running customers of the priority class.
+     * @param priorityClass The tier the customers retrieve tickets in.
+     * @param count The number of customers to remove.
      * @param isSimulationRunning Whether the simulation is currently running.
+     * @return The IDs of the removed customers, fewer than requested if fewer were running.
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_BULK_COUNT}.
      */
-    public void addVendor(List<Thread> vendorThreads, boolean isSimulationRunning) {
+    public List<String> removeCustomers(ParticipantRegistry customers, PriorityClass priorityClass, int count,
+                                        boolean isSimulationRunning) {
         validateSimulationRunning(isSimulationRunning);
+        validateBulkCount(count);
 
-        String vendorId = String.valueOf(getNextId(vendorThreads));
-        Vendor vendor = participantFactory.createVendor(vendorId);
+        List<String> customerIds = customers.stop(count);
 
-        Thread vendorThread = createAndStartThread(vendor, vendorId);
-        vendorThreads.add(vendorThread);
+        logService.sendStructuredLog("CUSTOMERS_REMOVED", Map.of(
+                "count", customerIds.size(),
+                "type", priorityClass.getCustomerType()
+        ));
+        return customerIds;
+    }
+
+    /**
+     * Adds a vendor to the registry of running vendors.
+     *
+     * @param vendors The registry of running vendors.
+     * @param eventId The ID of the event the vendor releases tickets for.
+     * @param threadMode How the vendor runs.
+     * @param isSimulationRunning Whether the simulation is currently running.
+     */
+    public void addVendor(ParticipantRegistry vendors, String eventId, ParticipantThreadMode threadMode,
+                          boolean isSimulationRunning) {
+        validateSimulationRunning(isSimulationRunning);
+
+        String vendorId = startVendor(vendors, eventId, threadMode);
 
         logService.sendStructuredLog("VENDOR_ADDED", Map.of(
                 "id", vendorId,
-                "type", "Vendor"
+                "type", "Vendor",
+                "eventId", eventId
         ));
     }
 
     /**
-     * Removes a vendor from the provided list of vendor threads by ID.
+     * Adds a number of vendors to the registry of running vendors.
      *
-     * @param vendorThreads The list of vendor threads.
-     * @param vendorId The ID of the vendor to be removed.
+     * @param vendors The registry of running vendors.
+     * @param eventId The ID of the event the vendors release tickets for.
+     * @param threadMode How the vendors run.
+     * @param count The number of vendors to add.
      * @param isSimulationRunning Whether the simulation is currently running.
+     * @return The IDs of the added vendors.
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_BULK_COUNT}.
+     * @throws IllegalStateException if the registry cannot hand out that many more vendor IDs.
      */
-    public void removeVendor(List<Thread> vendorThreads, String vendorId, boolean isSimulationRunning) {
+    public List<String> addVendors(ParticipantRegistry vendors, String eventId, ParticipantThreadMode threadMode,
+                                   int count, boolean isSimulationRunning) {
         validateSimulationRunning(isSimulationRunning);
+        validateBulkCount(count);
+        if (count > vendors.remainingIds()) {
+            throw new IllegalStateException("Only " + vendors.remainingIds() + " more vendors can be added in this simulation.");
+        }
 
-        Thread targetThread = vendorThreads.stream()
-                .filter(thread -> thread.getName().equals(vendorId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Vendor with ID " + vendorId + " not found."));
+        List<String> vendorIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vendorIds.add(startVendor(vendors, eventId, threadMode));
+        }
 
-        targetThread.interrupt();
-        vendorThreads.remove(targetThread);
+        logService.sendStructuredLog("VENDORS_ADDED", Map.of(
+                "count", count,
+                "type", "Vendor",
+                "eventId", eventId
+        ));
+        return vendorIds;
+    }
+
+    /**
+     * Removes a vendor from the registry of running vendors by ID.
+     *
+     * @param vendors The registry of running vendors.
+     * @param vendorId The ID of the vendor to be removed.
+     * @param isSimulationRunning Whether the simulation is currently running.
+     */
+    public void removeVendor(ParticipantRegistry vendors, String vendorId, boolean isSimulationRunning) {
+        validateSimulationRunning(isSimulationRunning);
+
+        if (!vendors.stop(vendorId)) {
+            throw new IllegalStateException("Vendor with ID " + vendorId + " not found.");
+        }
 
         logService.sendStructuredLog("VENDOR_REMOVED", Map.of(
                 "id", vendorId,
@@ -114,6 +205,28 @@ public class ParticipantManagementService {
         ));
     }
 
+    /**
+     * Removes up to a number of vendors from the registry of running vendors.
+     *
+     * @param vendors The registry of running vendors.
+     * @param count The number of vendors to remove.
+     * @param isSimulationRunning Whether the simulation is currently running.
+     * @return The IDs of the removed vendors, fewer than requested if fewer were running.
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_BULK_COUNT}.
+     */
+    public List<String> removeVendors(ParticipantRegistry vendors, int count, boolean isSimulationRunning) {
+        validateSimulationRunning(isSimulationRunning);
+        validateBulkCount(count);
+
+        List<String> vendorIds = vendors.stop(count);
+
+        logService.sendStructuredLog("VENDORS_REMOVED", Map.of(
+                "count", vendorIds.size(),
+                "type", "Vendor"
+        ));
+        return vendorIds;
+    }
+
     /**
      * Validates whether the simulation is currently running.
      *
@@ -127,29 +240,81 @@ public class ParticipantManagementService {
     }
 
     /**
-     * Calculates the next unique ID for a participant based on the current list of threads.
+     * Validates the number of participants of a bulk operation.
+     *
+     * @param count The number of participants.
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_BULK_COUNT}.
+     */
+    private void validateBulkCount(int count) {
+        if (count <= 0 || count > MAX_BULK_COUNT) {
+            throw new IllegalArgumentException("Number of participants must be between 1 and " + MAX_BULK_COUNT);
+        }
+    }
+
+    /**
+     * Creates, starts and registers a customer.
+     *
+     * @param customers The registry of running customers of the priority class.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param eventId The ID of the event the customer retrieves tickets for.
+     * @param threadMode How the customer runs.
+     * @return The ID of the customer.
+     */
+    private String startCustomer(ParticipantRegistry customers, PriorityClass priorityClass, String eventId,
+                                 ParticipantThreadMode threadMode) {
+        String customerId = customers.nextId();
+        Customer customer = participantFactory.createCustomer(customerId, eventId, priorityClass);
+        customers.add(startParticipant(customer, customerId, threadMode));
+        return customerId;
+    }
+
+    /**
+     * Creates, starts and registers a vendor.
+     *
+     * @param vendors The registry of running vendors.
+     * @param eventId The ID of the event the vendor releases tickets for.
+     * @param threadMode How the vendor runs.
+     * @return The ID of the vendor.
+     */
+    private String startVendor(ParticipantRegistry vendors, String eventId, ParticipantThreadMode threadMode) {
+        String vendorId = vendors.nextId();
+        Vendor vendor = participantFactory.createVendor(vendorId, eventId);
+        vendors.add(startParticipant(vendor, vendorId, threadMode));
+        return vendorId;
+    }
+
+    /**
+     * Starts the given participant on its own thread or on the participant scheduler.
      *
-     * @param threads The list of threads.
-     * @return The next unique ID as an integer.
+     * @param participant The participant to start.
+     * @param id The ID of the participant, also given to its thread.
+     * @param threadMode Whether the participant runs on a platform thread, a virtual thread or the scheduler.
+     * @return The handle that stops the participant.
      */
-    private int getNextId(List<Thread> threads) {
-        return threads.stream()
-                .mapToInt(thread -> Integer.parseInt(thread.getName()))
-                .max()
-                .orElse(0) + 1;
+    public ParticipantHandle startParticipant(Participant participant, String id, ParticipantThreadMode threadMode) {
+        if (threadMode == ParticipantThreadMode.SCHEDULED) {
+            return participantScheduler.schedule(participant, id);
+        }
+        Thread.Builder builder = threadMode == ParticipantThreadMode.VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+        return new ParticipantThread(id, builder.name(id).start(participant));
     }
 
     /**
-     * Creates and starts a thread for the given participant.
+     * A participant running on a thread of its own.
      *
-     * @param participant The participant to run in the thread.
-     * @param id The ID to assign to the thread.
-     * @return The created and started thread.
+     * @param id The ID of the participant.
+     * @param thread The thread running the participant.
      */
-    private Thread createAndStartThread(Runnable participant, String id) {
-        Thread thread = new Thread(participant);
-        thread.setName(id);
-        thread.start();
-        return thread;
+    private record ParticipantThread(String id, Thread thread) implements ParticipantHandle {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void stop() {
+            thread.interrupt();
+        }
     }
 }
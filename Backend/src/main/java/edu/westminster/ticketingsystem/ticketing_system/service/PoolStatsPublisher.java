@@ -0,0 +1,120 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolStatsSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PoolStatsPublisher publishes the compact statistics the dashboard is drawn from to the
+ * "/topic/pool-stats" topic, so that clients do not have to rebuild counters from every ticket log.
+ * A snapshot is taken at a fixed rate and sent only when it differs from the last one sent, so an idle
+ * system sends nothing. Clients receive the current snapshot as soon as they subscribe, through the
+ * subscription handler of the PoolStatsController, and every change after that from the topic.
+ */
+@Service
+public class PoolStatsPublisher {
+
+    /**
+     * The topic statistics snapshots are published to.
+     */
+    public static final String DESTINATION = "/topic/pool-stats";
+
+    private final SimulationService simulationService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long intervalMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final LongAdder publishedSnapshots = new LongAdder();
+    private final LongAdder unchangedSnapshots = new LongAdder();
+    private final LongAdder failedSnapshots = new LongAdder();
+    private PoolStatsSnapshot lastPublished; // Only accessed by the publisher thread
+
+    /**
+     * Constructs a new PoolStatsPublisher.
+     *
+     * @param simulationService The service the statistics are taken from.
+     * @param messagingTemplate The template snapshots are sent with.
+     * @param intervalMillis How often a snapshot is taken, in milliseconds.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public PoolStatsPublisher(SimulationService simulationService,
+                              SimpMessagingTemplate messagingTemplate,
+                              @Value("${ticketing.pool-stats.interval-millis:250}") long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Pool statistics interval must be greater than 0");
+        }
+        this.simulationService = simulationService;
+        this.messagingTemplate = messagingTemplate;
+        this.intervalMillis = intervalMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "pool-stats-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts taking snapshots at the configured rate.
+     */
+    @PostConstruct
+    public void start() {
+        executor.scheduleAtFixedRate(this::publishIfChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops taking snapshots.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Takes the current statistics snapshot, as sent to a client when it subscribes.
+     *
+     * @return The current statistics.
+     */
+    public PoolStatsSnapshot currentSnapshot() {
+        return simulationService.getPoolStats();
+    }
+
+    /**
+     * Retrieves how many snapshots were published, skipped because nothing had changed, or failed.
+     *
+     * @return A map containing the publishing counters.
+     */
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "intervalMillis", intervalMillis,
+                "publishedSnapshots", publishedSnapshots.sum(),
+                "unchangedSnapshots", unchangedSnapshots.sum(),
+                "failedSnapshots", failedSnapshots.sum()
+        );
+    }
+
+    /**
+     * Takes a snapshot and publishes it if it differs from the last one published. A failure is
+     * counted and the snapshot skipped, so that it does not cancel the periodic task.
+     */
+    private void publishIfChanged() {
+        try {
+            PoolStatsSnapshot snapshot = currentSnapshot();
+            if (snapshot.equals(lastPublished)) {
+                unchangedSnapshots.increment();
+                return;
+            }
+            messagingTemplate.convertAndSend(DESTINATION, snapshot);
+            lastPublished = snapshot;
+            publishedSnapshots.increment();
+        } catch (RuntimeException e) {
+            failedSnapshots.increment();
+        }
+    }
+}
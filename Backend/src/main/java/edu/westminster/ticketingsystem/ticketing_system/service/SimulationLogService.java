@@ -1,55 +1,157 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.NumberOutput;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogBroadcaster;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogRingBuffer;
+import edu.westminster.ticketingsystem.ticketing_system.model.SerializedLog;
+import edu.westminster.ticketingsystem.ticketing_system.model.SimulationLogEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * SimulationLogService provides functionalities for logging simulation activities
- * and broadcasting them to connected clients in real-time.
- * It also maintains an in-memory log history for retrieval and management.
+ * and broadcasting them to connected clients in real-time, in batches sent by the {@link LogBroadcaster}.
+ * It also maintains an in-memory log history for retrieval and management. The history is a
+ * bounded {@link LogRingBuffer} that participant threads append to concurrently, keeping the most
+ * recent logs up to a configured count and, optionally, age. Every log carries a sequence number that
+ * increases by one per log for the lifetime of the service, so clients can page through the history and
+ * fetch only the logs made after the last one they have.
+ *
+ * Each log is serialized to JSON once, when it is made: its action and details with a writer built in
+ * advance for its type of {@link SimulationLogEvent}, and its sequence number and epoch-millisecond
+ * timestamp as digits written in front of them. The resulting {@link SerializedLog} is what the history
+ * keeps, what the broadcaster sends and what REST responses embed. Platform threads reuse one generator
+ * and buffer each, so a log allocates little beyond its own bytes; virtual threads, which are many and
+ * short-lived, use a new generator per log.
  */
 @Service
-@AllArgsConstructor
 public class SimulationLogService {
 
+    /**
+     * The number of logs kept in memory unless configured otherwise.
+     */
+    public static final int DEFAULT_LOG_CAPACITY = 10_000;
+
+    /**
+     * The maximum number of logs returned by one page of the log history.
+     */
+    public static final int MAX_LOG_PAGE_SIZE = 1_000;
+
+    private static final SerializableString ACTION_FIELD = new SerializedString("action");
+    private static final SerializableString DETAILS_FIELD = new SerializedString("details");
+    private static final byte[] SEQUENCE_FIELD = "{\"sequence\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.US_ASCII);
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final LogBroadcaster logBroadcaster;
+
+    /**
+     * Writers for the details of each type of log event, built once so that each log is serialized
+     * without looking up serializers.
+     */
+    private final Map<Class<?>, ObjectWriter> detailsWriters;
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * The encoder each platform thread serializes its logs with.
+     */
+    private final ThreadLocal<LogEncoder> encoders;
 
     /**
-     * Formatter for log timestamps.
+     * In-memory storage for the most recent simulation logs.
      */
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final LogRingBuffer<SerializedLog> logsMemory;
 
     /**
-     * In-memory storage for simulation logs.
+     * Constructs a new SimulationLogService that keeps the default number of logs for any age.
+     *
+     * @param messagingTemplate The template the simulation status is broadcast with.
+     * @param logBroadcaster The broadcaster logs are sent with.
      */
-    private final List<Map<String, Object>> logsMemory = new ArrayList<>();
+    public SimulationLogService(SimpMessagingTemplate messagingTemplate, LogBroadcaster logBroadcaster) {
+        this(messagingTemplate, logBroadcaster, new ObjectMapper(), DEFAULT_LOG_CAPACITY, 0);
+    }
+
+    /**
+     * Constructs a new SimulationLogService.
+     *
+     * @param messagingTemplate The template the simulation status is broadcast with.
+     * @param logBroadcaster The broadcaster logs are sent with.
+     * @param objectMapper The mapper the details of logs are serialized with.
+     * @param logCapacity The maximum number of logs kept in memory.
+     * @param logMaxAgeMillis How long a log is kept in memory, in milliseconds, or 0 for no age limit.
+     */
+    @Autowired
+    public SimulationLogService(SimpMessagingTemplate messagingTemplate,
+                                LogBroadcaster logBroadcaster,
+                                ObjectMapper objectMapper,
+                                @Value("${ticketing.logs.capacity:" + DEFAULT_LOG_CAPACITY + "}") int logCapacity,
+                                @Value("${ticketing.logs.max-age-millis:0}") long logMaxAgeMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.logBroadcaster = logBroadcaster;
+        Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+        for (Class<?> eventType : SimulationLogEvent.class.getPermittedSubclasses()) {
+            writers.put(eventType, objectMapper.writerFor(eventType));
+        }
+        this.detailsWriters = Map.copyOf(writers);
+        this.jsonFactory = objectMapper.getFactory();
+        this.encoders = ThreadLocal.withInitial(() -> new LogEncoder(jsonFactory));
+        this.logsMemory = new LogRingBuffer<>(logCapacity, logMaxAgeMillis);
+    }
 
     /**
-     * Sends a structured log message to all connected clients and stores it in memory.
+     * Sends a structured log message to all connected clients and stores it in memory, numbered with
+     * the next log sequence number.
      *
-     * @param action The action being logged (e.g., "TICKET_ADD", "THREAD_INTERRUPTED").
+     * @param action The action being logged (e.g., "SIMULATION_STARTED", "THREAD_INTERRUPTED").
      * @param details Additional details about the action.
      */
     public void sendStructuredLog(String action, Map<String, Object> details) {
-        String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
-        Map<String, Object> log = Map.of(
-                "timestamp", timestamp,
-                "action", action,
-                "details", details
-        );
+        sendLog(new SimulationLogEvent.Details(action, details));
+    }
+
+    /**
+     * Serializes a log event, stores it in memory numbered with the next log sequence number, and
+     * queues it for all connected clients.
+     *
+     * @param event The event to log.
+     * @throws IllegalStateException if the event cannot be serialized.
+     */
+    public void sendLog(SimulationLogEvent event) {
+        long timestampMillis = System.currentTimeMillis();
+        LogEncoder encoder = Thread.currentThread().isVirtual() ? new LogEncoder(jsonFactory) : encoders.get();
+        try {
+            encoder.writeBody(event, detailsWriters.get(event.getClass()));
+        } catch (IOException e) {
+            encoders.remove(); // The generator may have been left inside the log
+            throw new IllegalStateException("Log " + event.action() + " could not be serialized", e);
+        }
 
         // Storing the log in memory
-        logsMemory.add(log);
+        SerializedLog log = logsMemory.append(sequence -> new SerializedLog(sequence, timestampMillis,
+                event.action(), event.participantId(), encoder.toJson(sequence, timestampMillis)));
 
-        // Broadcasting the log to all clients subscribed to the "/topic/realtime-logs" topic
-        messagingTemplate.convertAndSend("/topic/realtime-logs", log);
+        // Queueing the log for the next batch sent to clients subscribed to the "/topic/realtime-logs" topic
+        logBroadcaster.broadcast(log);
     }
 
     /**
@@ -62,18 +164,162 @@ public class SimulationLogService {
     }
 
     /**
-     * Retrieves all logs stored in memory.
+     * Retrieves the logs stored in memory.
+     *
+     * @return A snapshot of the retained structured logs, oldest first.
+     */
+    public List<SerializedLog> getLogs() {
+        return logsMemory.snapshot();
+    }
+
+    /**
+     * Retrieves a page of the logs stored in memory made after a given log, optionally only those of
+     * certain actions or of one participant. A log belongs to a participant if its details name the
+     * participant's ID as "id" or "customerId"; vendors and customers are numbered separately, so the
+     * action filter tells them apart where needed. The page reports the cursor to pass as "after" for
+     * the next page, and how many logs after the given one were evicted before they could be read.
+     *
+     * @param after The sequence number of the last log already read, or -1 to start from the oldest log.
+     * @param limit The maximum number of logs to return.
+     * @param actions The actions of the logs to return, or an empty collection for every action.
+     * @param participantId The ID of the participant whose logs to return, or null for every participant.
+     * @return A map containing the logs, the next cursor, whether more logs are already available,
+     *         the oldest and latest log sequence numbers and the number of logs missed.
+     * @throws IllegalArgumentException if the cursor is below -1 or the limit is not between 1 and the maximum page size.
+     */
+    public Map<String, Object> getLogPage(long after, int limit, Collection<String> actions, String participantId) {
+        if (after < -1) {
+            throw new IllegalArgumentException("Log cursor must be -1 or a log sequence number");
+        }
+        if (limit <= 0 || limit > MAX_LOG_PAGE_SIZE) {
+            throw new IllegalArgumentException("Log page size must be between 1 and " + MAX_LOG_PAGE_SIZE);
+        }
+        Set<String> actionSet = Set.copyOf(actions);
+        LogRingBuffer.Page<SerializedLog> page = logsMemory.read(after + 1, limit, log ->
+                (actionSet.isEmpty() || actionSet.contains(log.action()))
+                        && (participantId == null || participantId.equals(log.participantId())));
+
+        List<SerializedLog> logs = new ArrayList<>(page.entries().size());
+        for (LogRingBuffer.Entry<SerializedLog> entry : page.entries()) {
+            logs.add(entry.value());
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("logs", logs);
+        response.put("nextAfter", page.nextSequence() - 1);
+        response.put("hasMore", page.hasMore());
+        response.put("oldestSequence", page.firstRetained());
+        response.put("latestSequence", logsMemory.getAppendedCount() - 1);
+        response.put("missed", page.missed());
+        return response;
+    }
+
+    /**
+     * Retrieves the retention limits of the in-memory logs and how many logs they have evicted.
+     *
+     * @return A map containing the capacity, maximum age, retained and appended log counts, and eviction counters.
+     */
+    public Map<String, Object> getLogRetention() {
+        Map<String, Object> retention = new HashMap<>();
+        retention.put("capacity", logsMemory.getCapacity());
+        retention.put("maxAgeMillis", logsMemory.getMaxAgeMillis());
+        retention.put("retained", logsMemory.size());
+        retention.put("appended", logsMemory.getAppendedCount());
+        retention.put("evictedByCapacity", logsMemory.getEvictedByCapacity());
+        retention.put("evictedByAge", logsMemory.getEvictedByAge());
+        return retention;
+    }
+
+    /**
+     * Retrieves how many logs and batches have been broadcast and how many logs were dropped.
      *
-     * @return A list of all structured logs.
+     * @return A map containing the broadcast counters.
      */
-    public List<Map<String, Object>> getLogs() {
-        return logsMemory;
+    public Map<String, Object> getLogBroadcast() {
+        return logBroadcaster.getStatistics();
     }
 
     /**
-     * Clears all logs from memory.
+     * Clears all logs from memory. Sequence numbers carry on from the last log.
      */
     public void clearLogs() {
         logsMemory.clear();
     }
+
+    /**
+     * A generator and the buffers one thread serializes logs with. The action and details of a log are
+     * written first, as an object of their own, because the sequence number is only claimed as the log is
+     * stored; the log's JSON is then that object with the sequence number and timestamp put in front.
+     */
+    private static final class LogEncoder {
+        private final BodyBuffer body = new BodyBuffer();
+        private final byte[] head = new byte[SEQUENCE_FIELD.length + TIMESTAMP_FIELD.length + 40]; // Two longs
+        private final JsonGenerator generator;
+
+        LogEncoder(JsonFactory jsonFactory) {
+            try {
+                generator = jsonFactory.createGenerator(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("Log generator could not be created", e);
+            }
+            generator.setRootValueSeparator(null);
+        }
+
+        /**
+         * Serializes the action and details of a log event, replacing the previous log's.
+         *
+         * @param event The event.
+         * @param detailsWriter The writer for the type of the event.
+         * @throws IOException if the event cannot be serialized.
+         */
+        void writeBody(SimulationLogEvent event, ObjectWriter detailsWriter) throws IOException {
+            body.reset();
+            generator.writeStartObject();
+            generator.writeFieldName(ACTION_FIELD);
+            generator.writeString(event.action());
+            generator.writeFieldName(DETAILS_FIELD);
+            detailsWriter.writeValue(generator, event);
+            generator.writeEndObject();
+            generator.flush();
+        }
+
+        /**
+         * Builds the JSON of the last log written, numbered and timestamped.
+         *
+         * @param sequence The sequence number of the log.
+         * @param timestampMillis When the log was made, in milliseconds since the epoch.
+         * @return The log as UTF-8 JSON.
+         */
+        byte[] toJson(long sequence, long timestampMillis) {
+            System.arraycopy(SEQUENCE_FIELD, 0, head, 0, SEQUENCE_FIELD.length);
+            int headLength = NumberOutput.outputLong(sequence, head, SEQUENCE_FIELD.length);
+            System.arraycopy(TIMESTAMP_FIELD, 0, head, headLength, TIMESTAMP_FIELD.length);
+            headLength = NumberOutput.outputLong(timestampMillis, head, headLength + TIMESTAMP_FIELD.length);
+            head[headLength++] = ',';
+
+            byte[] json = new byte[headLength + body.size() - 1];
+            System.arraycopy(head, 0, json, 0, headLength);
+            body.copyContentTo(json, headLength);
+            return json;
+        }
+    }
+
+    /**
+     * A byte stream whose content can be copied without first copying it to a new array.
+     */
+    private static final class BodyBuffer extends ByteArrayOutputStream {
+
+        BodyBuffer() {
+            super(512);
+        }
+
+        /**
+         * Copies the content after its opening brace.
+         *
+         * @param destination The array to copy to.
+         * @param position Where in the array to copy to.
+         */
+        void copyContentTo(byte[] destination, int position) {
+            System.arraycopy(buf, 1, destination, position, count - 1);
+        }
+    }
 }
@@ -1,137 +1,420 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
+import edu.westminster.ticketingsystem.ticketing_system.component.ParticipantRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
 import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
 import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.component.WaitTimeHistogram;
 import edu.westminster.ticketingsystem.ticketing_system.model.Customer;
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadProfile;
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadStage;
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadStageReport;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantThreadMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolStatsSnapshot;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
 import edu.westminster.ticketingsystem.ticketing_system.model.Vendor;
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SimulationService manages the core logic of the ticketing system simulation.
  * This service handles starting, stopping, resetting the simulation, and managing
- * participants (vendors, customers, and VIP customers). It also maintains simulation
- * status and sends logs to clients.
+ * participants (vendors and customers of every priority class). It also maintains simulation
+ * status and sends logs to clients. Every participant is bound to one event and trades
+ * on that event's ticket pool only. Participants can be added and removed concurrently while
+ * the simulation runs; starting, stopping and resetting the simulation are serialised.
+ * A simulation can also run through a scripted load profile, whose stages set the participant counts over time.
  */
 @Service
 @RequiredArgsConstructor
 public class SimulationService {
 
     private final ParticipantFactory participantFactory;
-    private final TicketPool ticketPool;
+    private final TicketPoolRegistry ticketPoolRegistry;
     private final SimulationLogService logService;
     private final SimulationValidationService validationService;
     private final ParticipantManagementService participantManagementService;
     private final SystemConfiguration systemConfiguration;
+    private final PoolEventPipeline eventPipeline;
 
-    private final List<Thread> vendorThreads = new ArrayList<>();
-    private final List<Thread> customerThreads = new ArrayList<>();
-    private final List<Thread> vipCustomerThreads = new ArrayList<>();
+    /**
+     * How often a ramping load stage moves its participant counts, in milliseconds.
+     */
+    private static final long RAMP_STEP_MILLIS = 1_000;
+
+    private final ParticipantRegistry vendors = new ParticipantRegistry(TicketId.MAX_VENDOR);
+    private final Map<PriorityClass, ParticipantRegistry> customers = new EnumMap<>(PriorityClass.class);
 
-    private boolean isSimulationRunning = false;
+    private volatile boolean isSimulationRunning = false;
+    private volatile ParticipantThreadMode threadMode = ParticipantThreadMode.PLATFORM; // Of the current simulation
+
+    private volatile LoadProfile loadProfile; // Of the current or last load profile run
+    private volatile Thread loadProfileThread;
+    private final List<LoadStageReport> loadStageReports = new CopyOnWriteArrayList<>();
+
+    {
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            customers.put(priorityClass, new ParticipantRegistry());
+        }
+    }
 
     /**
      * Starts the simulation with the specified number of vendors, customers, and VIP customers.
+     * Participants of each type are spread round-robin across the given events. Every participant,
+     * including those added while the simulation runs, runs on the given kind of thread or on the
+     * shared participant scheduler.
      *
      * @param numberOfVendors Number of vendors to add.
      * @param numberOfCustomers Number of normal customers to add.
      * @param numberOfVIPCustomers Number of VIP customers to add.
-     * @throws IllegalStateException if the system is not configured or if a simulation is already running.
+     * @param eventIds IDs of the events the participants are spread across.
+     * @param threadMode Whether participants run on platform threads, virtual threads or the scheduler.
+     * @throws IllegalStateException if the system is not configured, if a simulation is already running
+     *                               or if one of the events does not exist.
      */
-    public void startSimulation(int numberOfVendors, int numberOfCustomers, int numberOfVIPCustomers) {
-        if (!systemConfiguration.isSystemConfigured()) {
-            throw new IllegalStateException("The system is not configured");
-        }
-        if (isSimulationRunning) {
-            throw new IllegalStateException("Simulation is already running");
-        }
-
+    public synchronized void startSimulation(int numberOfVendors, int numberOfCustomers, int numberOfVIPCustomers,
+                                List<String> eventIds, ParticipantThreadMode threadMode) {
+        validateStart(eventIds);
         validationService.validateSimulationStart(numberOfVendors, numberOfCustomers, numberOfVIPCustomers);
 
-        isSimulationRunning = true;
-        logService.sendSimulationStatus(true);
-        logService.sendStructuredLog("SIMULATION_STARTED", Map.of(
+        openSimulation(threadMode, Map.of(
                 "numberOfVendors", numberOfVendors,
                 "numberOfCustomers", numberOfCustomers,
-                "numberOfVIPCustomers", numberOfVIPCustomers
+                "numberOfVIPCustomers", numberOfVIPCustomers,
+                "eventIds", eventIds,
+                "threadMode", threadMode
         ));
 
         int maxThreads = Math.max(numberOfVendors, Math.max(numberOfCustomers, numberOfVIPCustomers));
 
         for (int i = 0; i < maxThreads; i++) {
+            String eventId = eventIds.get(i % eventIds.size());
+
             if (i < numberOfVendors) {
-                String vendorId = String.valueOf(i + 1);
-                Vendor vendor = participantFactory.createVendor(vendorId);
-                Thread vendorThread = new Thread(vendor, vendorId);
-                vendorThreads.add(vendorThread);
-                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", vendorId, "type", "Vendor"));
-                vendorThread.start();
+                String vendorId = vendors.nextId();
+                Vendor vendor = participantFactory.createVendor(vendorId, eventId);
+                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", vendorId, "type", "Vendor", "eventId", eventId));
+                vendors.add(participantManagementService.startParticipant(vendor, vendorId, threadMode));
             }
 
             if (i < numberOfVIPCustomers) {
-                String vipCustomerId = String.valueOf(i + 1);
-                Customer vipCustomer = participantFactory.createVIPCustomer(vipCustomerId);
-                Thread vipCustomerThread = new Thread(vipCustomer, vipCustomerId);
-                vipCustomerThreads.add(vipCustomerThread);
-                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", vipCustomerId, "type", "VIP Customer"));
-                vipCustomerThread.start();
+                String vipCustomerId = customers.get(PriorityClass.VIP).nextId();
+                Customer vipCustomer = participantFactory.createVIPCustomer(vipCustomerId, eventId);
+                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", vipCustomerId, "type", "VIP Customer", "eventId", eventId));
+                customers.get(PriorityClass.VIP).add(
+                        participantManagementService.startParticipant(vipCustomer, vipCustomerId, threadMode));
             }
 
             if (i < numberOfCustomers) {
-                String customerId = String.valueOf(i + 1);
-                Customer customer = participantFactory.createCustomer(customerId);
-                Thread customerThread = new Thread(customer, customerId);
-                customerThreads.add(customerThread);
-                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", customerId, "type", "Customer"));
-                customerThread.start();
+                String customerId = customers.get(PriorityClass.GENERAL).nextId();
+                Customer customer = participantFactory.createCustomer(customerId, eventId);
+                logService.sendStructuredLog("THREAD_STARTED", Map.of("id", customerId, "type", "Customer", "eventId", eventId));
+                customers.get(PriorityClass.GENERAL).add(
+                        participantManagementService.startParticipant(customer, customerId, threadMode));
             }
         }
     }
 
     /**
-     * Stops the currently running simulation by interrupting all participant threads.
+     * Starts the simulation on a single event and runs it through the stages of a load profile,
+     * setting or ramping the participant counts of each stage, then stops it once the last stage ends.
+     * A report of the throughput and wait times of each completed stage is kept until the next
+     * profile starts. Stopping the simulation ends the profile early, and a stage that fails stops the
+     * simulation with a LOAD_PROFILE_FAILED log.
+     *
+     * @param loadProfile The load profile to run.
+     * @param eventId The ID of the event the participants trade on.
+     * @param threadMode Whether participants run on platform threads, virtual threads or the scheduler.
+     * @throws IllegalStateException if the system is not configured, if a simulation is already running
+     *                               or if the event does not exist.
+     * @throws IllegalArgumentException if the profile is invalid.
+     */
+    public synchronized void startLoadProfile(LoadProfile loadProfile, String eventId,
+                                              ParticipantThreadMode threadMode) {
+        validateStart(List.of(eventId));
+        validationService.validateLoadProfile(loadProfile);
+        int retrievalInterval = ticketPoolRegistry.getConfiguration(eventId).getCustomerRetrievalInterval();
+        List<ParticipantCounts> targets = new ArrayList<>();
+        for (LoadStage stage : loadProfile.getStages()) {
+            targets.add(ParticipantCounts.of(stage, retrievalInterval));
+        }
+
+        openSimulation(threadMode, Map.of(
+                "loadProfile", String.valueOf(loadProfile.getName()),
+                "stages", loadProfile.getStages().size(),
+                "eventIds", List.of(eventId),
+                "threadMode", threadMode
+        ));
+        this.loadProfile = loadProfile;
+        loadStageReports.clear();
+        loadProfileThread = Thread.ofPlatform().name("load-profile").daemon()
+                .start(() -> runLoadProfile(loadProfile, targets, eventId));
+    }
+
+    /**
+     * Retrieves the report of the current or last load profile.
+     *
+     * @return A map containing the profile name, whether it is still running, and a report of every completed stage.
+     */
+    public Map<String, Object> getLoadProfileReport() {
+        Map<String, Object> response = new HashMap<>();
+        LoadProfile profile = loadProfile;
+        Thread profileThread = loadProfileThread;
+        response.put("name", profile == null ? null : profile.getName());
+        response.put("isRunning", profileThread != null && profileThread.isAlive());
+        response.put("totalStages", profile == null ? 0 : profile.getStages().size());
+        response.put("stages", List.copyOf(loadStageReports));
+        return response;
+    }
+
+    /**
+     * Stops the currently running simulation by stopping all participants.
      *
      * @throws IllegalStateException if no simulation is running.
      */
-    public void stopSimulation() {
+    public synchronized void stopSimulation() {
         if (!isSimulationRunning) {
             throw new IllegalStateException("No currently any simulation running");
         }
 
-        vendorThreads.forEach(Thread::interrupt);
-        customerThreads.forEach(Thread::interrupt);
-        vipCustomerThreads.forEach(Thread::interrupt);
-
-        vendorThreads.clear();
-        customerThreads.clear();
-        vipCustomerThreads.clear();
-
         isSimulationRunning = false;
+        Thread profileThread = loadProfileThread;
+        if (profileThread != null && profileThread != Thread.currentThread()) {
+            profileThread.interrupt();
+        }
+        vendors.close();
+        customers.values().forEach(ParticipantRegistry::close);
 
         logService.sendSimulationStatus(false);
         logService.sendStructuredLog("SIMULATION_STOPPED", Map.of("message", "Simulation stopped"));
     }
 
     /**
-     * Resets the ticket pool data and clears logs. This operation can only be performed
+     * Resets the ticket pool data of every event and clears logs. This operation can only be performed
      * when the simulation is not running.
      *
-     * @return A map containing the current simulation status details.
+     * @return A map containing the current simulation status details of the default event.
      * @throws IllegalStateException if a simulation is running.
      */
-    public Map<String, Object> resetTicketPoolData() {
+    public synchronized Map<String, Object> resetTicketPoolData() {
         if (isSimulationRunning) {
             throw new IllegalStateException("Can't reset when a simulation is running");
         }
 
-        ticketPool.clearPoolData();
+        ticketPoolRegistry.clearAll();
         logService.clearLogs();
-        return getSimulationStatusDetails();
+        return getSimulationStatusDetails(TicketPoolRegistry.DEFAULT_EVENT_ID);
+    }
+
+    /**
+     * Checks that a simulation can start on the given events.
+     *
+     * @param eventIds IDs of the events the participants trade on.
+     * @throws IllegalStateException if the system is not configured, if a simulation is already running
+     *                               or if one of the events does not exist.
+     * @throws IllegalArgumentException if no event is given.
+     */
+    private void validateStart(List<String> eventIds) {
+        if (!systemConfiguration.isSystemConfigured()) {
+            throw new IllegalStateException("The system is not configured");
+        }
+        if (isSimulationRunning) {
+            throw new IllegalStateException("Simulation is already running");
+        }
+        if (eventIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one event ID is required");
+        }
+        for (String eventId : eventIds) {
+            if (!ticketPoolRegistry.containsEvent(eventId)) {
+                throw new IllegalStateException("Event with ID " + eventId + " not found.");
+            }
+        }
+    }
+
+    /**
+     * Opens the participant registries and marks the simulation as running.
+     *
+     * @param threadMode How the participants of the simulation run.
+     * @param details The details of the SIMULATION_STARTED log.
+     */
+    private void openSimulation(ParticipantThreadMode threadMode, Map<String, Object> details) {
+        vendors.open();
+        customers.values().forEach(ParticipantRegistry::open);
+        isSimulationRunning = true;
+        this.threadMode = threadMode;
+        logService.sendSimulationStatus(true);
+        logService.sendStructuredLog("SIMULATION_STARTED", details);
+    }
+
+    /**
+     * Runs the stages of a load profile on the load profile thread and stops the simulation after the last one.
+     *
+     * @param profile The load profile.
+     * @param targets The participant counts of each stage.
+     * @param eventId The ID of the event the participants trade on.
+     */
+    private void runLoadProfile(LoadProfile profile, List<ParticipantCounts> targets, String eventId) {
+        ParticipantCounts counts = new ParticipantCounts(0, 0, 0);
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                LoadStage stage = profile.getStages().get(i);
+                logService.sendStructuredLog("LOAD_STAGE_STARTED", Map.of(
+                        "stage", stageName(stage, i),
+                        "index", i + 1,
+                        "eventId", eventId
+                ));
+                LoadStageReport report = runLoadStage(stage, stageName(stage, i), counts, targets.get(i), eventId);
+                counts = targets.get(i);
+                loadStageReports.add(report);
+                logService.sendStructuredLog("LOAD_STAGE_COMPLETED", Map.of(
+                        "stage", report.name(),
+                        "ticketsRetrievedPerSecond", report.ticketsRetrievedPerSecond(),
+                        "retrievalTimeouts", report.retrievalTimeouts(),
+                        "p99Millis", report.waitTimes().get(PriorityClass.GENERAL).p99Millis()
+                ));
+            }
+        } catch (InterruptedException e) {
+            return; // The simulation was stopped
+        } catch (RuntimeException e) {
+            failLoadProfile(e);
+            return;
+        }
+        finishLoadProfile();
+    }
+
+    /**
+     * Runs one stage of a load profile and reports what happened during it.
+     *
+     * @param stage The stage.
+     * @param name The name of the stage in the report.
+     * @param from The participant counts the previous stage ended with.
+     * @param to The participant counts of the stage.
+     * @param eventId The ID of the event the participants trade on.
+     * @return The report of the stage.
+     * @throws InterruptedException if the simulation is stopped during the stage.
+     */
+    private LoadStageReport runLoadStage(LoadStage stage, String name, ParticipantCounts from,
+                                         ParticipantCounts to, String eventId) throws InterruptedException {
+        TicketPool ticketPool = ticketPoolRegistry.getPool(eventId);
+        PoolCounters startCounters = ticketPool.snapshot();
+        long startTimeouts = ticketPool.getRetrievalTimeoutCount();
+        Map<PriorityClass, WaitTimeHistogram> startWaitTimes = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            startWaitTimes.put(priorityClass, ticketPool.getWaitTimeHistogram(priorityClass));
+        }
+        long startNanos = System.nanoTime();
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(stage.getDurationMillis());
+
+        int steps = stage.isRamp() ? (int) Math.max(1, stage.getDurationMillis() / RAMP_STEP_MILLIS) : 1;
+        for (int step = 1; step <= steps; step++) {
+            if (Thread.interrupted() || !adjustParticipants(eventId, stage.isRamp() ? from.towards(to, step, steps) : to)) {
+                throw new InterruptedException();
+            }
+            long stepEndNanos = startNanos + durationNanos * step / steps;
+            TimeUnit.NANOSECONDS.sleep(stepEndNanos - System.nanoTime());
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        PoolCounters endCounters = ticketPool.snapshot();
+        long ticketsRetrieved = endCounters.totalTicketsRetrieved() - startCounters.totalTicketsRetrieved();
+        Map<PriorityClass, WaitTimeStats> waitTimes = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            waitTimes.put(priorityClass,
+                    ticketPool.getWaitTimeHistogram(priorityClass).statsSince(startWaitTimes.get(priorityClass)));
+        }
+        return new LoadStageReport(name, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), to.vendors(), to.customers(),
+                to.vipCustomers(), endCounters.totalTicketsAdded() - startCounters.totalTicketsAdded(),
+                ticketsRetrieved, ticketsRetrieved * 1e9 / Math.max(1, elapsedNanos),
+                ticketPool.getRetrievalTimeoutCount() - startTimeouts, waitTimes);
+    }
+
+    /**
+     * Adds or removes participants until the simulation has the given participant counts. This holds the
+     * service monitor, so the simulation cannot be stopped or replaced halfway through.
+     *
+     * @param eventId The ID of the event added participants trade on.
+     * @param target The participant counts to reach.
+     * @return false, without changing anything, if the simulation was stopped or replaced.
+     * @throws IllegalStateException if no more participant IDs can be handed out.
+     */
+    private synchronized boolean adjustParticipants(String eventId, ParticipantCounts target) {
+        if (!ownsSimulation()) {
+            return false;
+        }
+        int vendorChange = target.vendors() - vendors.size();
+        if (vendorChange > 0) {
+            addVendors(eventId, vendorChange);
+        } else if (vendorChange < 0) {
+            removeVendors(-vendorChange);
+        }
+        adjustCustomers(PriorityClass.GENERAL, eventId, target.customers());
+        adjustCustomers(PriorityClass.VIP, eventId, target.vipCustomers());
+        return true;
+    }
+
+    private void adjustCustomers(PriorityClass priorityClass, String eventId, int target) {
+        int change = target - customers.get(priorityClass).size();
+        if (change > 0) {
+            addCustomers(priorityClass, eventId, change);
+        } else if (change < 0) {
+            removeCustomers(priorityClass, -change);
+        }
+    }
+
+    /**
+     * Stops the simulation at the end of a load profile, unless it was stopped or replaced in the meantime.
+     */
+    private synchronized void finishLoadProfile() {
+        if (ownsSimulation()) {
+            stopSimulation();
+            logService.sendStructuredLog("LOAD_PROFILE_COMPLETED", Map.of(
+                    "loadProfile", String.valueOf(loadProfile.getName()),
+                    "stages", loadStageReports.size()
+            ));
+        }
+    }
+
+    /**
+     * Stops the simulation after a stage of a load profile failed, unless it was stopped or replaced in
+     * the meantime, in which case the failure only followed from that.
+     *
+     * @param e The failure.
+     */
+    private synchronized void failLoadProfile(RuntimeException e) {
+        if (ownsSimulation()) {
+            stopSimulation();
+            logService.sendStructuredLog("LOAD_PROFILE_FAILED", Map.of(
+                    "loadProfile", String.valueOf(loadProfile.getName()),
+                    "stages", loadStageReports.size(),
+                    "errorMessage", String.valueOf(e.getMessage())
+            ));
+        }
+    }
+
+    /**
+     * Checks whether the calling thread runs the load profile of the current simulation.
+     *
+     * @return true if the simulation is running and is driven by the calling load profile thread.
+     */
+    private boolean ownsSimulation() {
+        return isSimulationRunning && loadProfileThread == Thread.currentThread();
+    }
+
+    private static String stageName(LoadStage stage, int index) {
+        return stage.getName() != null ? stage.getName() : "Stage " + (index + 1);
     }
 
     /**
@@ -144,41 +427,93 @@ public class SimulationService {
     }
 
     /**
-     * Retrieves detailed simulation status information, including participant counts, ticket data, and logs.
+     * Retrieves detailed simulation status information, including participant counts, ticket data and
+     * the customer arrival model of the selected event, a ticket summary of every event, waiter wake-up
+     * metrics, retrieval timeouts, dropped pool events, and the retention and broadcast counters of the logs.
+     * The logs themselves are not included; they are read in pages from the log history.
      *
+     * @param eventId The ID of the event whose ticket data is reported at the top level.
      * @return A map containing the simulation status details.
+     * @throws IllegalStateException if the event does not exist.
      */
-    public Map<String, Object> getSimulationStatusDetails() {
-        Map<String, Object> response = new HashMap<>();
+    public Map<String, Object> getSimulationStatusDetails(String eventId) {
+        TicketPool ticketPool = ticketPoolRegistry.getPool(eventId);
+        Map<String, Object> response = new HashMap<>(getPoolSummary(ticketPool));
         response.put("isRunning", getSimulationStatus());
-        response.put("ticketCount", ticketPool.getTicketCount());
-        response.put("totalTicketsAdded", ticketPool.getTotalTicketsAdded());
-        response.put("totalTicketsRetrieved", ticketPool.getTotalTicketsRetrieved());
-        response.put("totalVIPRetrievals", ticketPool.getTotalVIPRetrievals());
-        response.put("totalNormalRetrievals", ticketPool.getTotalNormalRetrievals());
-        response.put("numberOfVendors", vendorThreads.size());
-        response.put("numberOfCustomers", customerThreads.size());
-        response.put("numberOfVIPCustomers", vipCustomerThreads.size());
-        response.put("logs", logService.getLogs());
+        response.put("threadMode", threadMode);
+        response.put("eventId", eventId);
+        response.put("arrivalModel", ticketPoolRegistry.getConfiguration(eventId).getArrivalModel());
+        response.put("wakeUps", ticketPool.getWakeUpCount());
+        response.put("spuriousWakeUps", ticketPool.getSpuriousWakeUpCount());
+        response.put("retrievalTimeouts", ticketPool.getRetrievalTimeoutCount());
+        response.put("droppedPoolEvents", eventPipeline.getDroppedEventCount());
+
+        Map<String, Object> events = new LinkedHashMap<>();
+        for (String id : ticketPoolRegistry.getEventIds()) {
+            events.put(id, getPoolSummary(ticketPoolRegistry.getPool(id)));
+        }
+        response.put("events", events);
+        response.put("numberOfVendors", vendors.size());
+        response.put("numberOfCustomers", customers.get(PriorityClass.GENERAL).size());
+        response.put("numberOfVIPCustomers", customers.get(PriorityClass.VIP).size());
+        response.put("customersByPriorityClass", customerCounts());
+        response.put("logRetention", logService.getLogRetention());
+        response.put("logBroadcast", logService.getLogBroadcast());
+        return response;
+    }
+
+    /**
+     * Captures the compact statistics published on the pool statistics topic: the running state, the
+     * participant counts and the ticket counters of every event.
+     *
+     * @return The current statistics.
+     */
+    public PoolStatsSnapshot getPoolStats() {
+        Map<String, PoolCounters> events = new LinkedHashMap<>();
+        for (String id : ticketPoolRegistry.getEventIds()) {
+            try {
+                events.put(id, ticketPoolRegistry.getPool(id).snapshot());
+            } catch (IllegalStateException e) {
+                // The event was removed after its ID was listed
+            }
+        }
+        return new PoolStatsSnapshot(isSimulationRunning, vendors.size(),
+                customers.get(PriorityClass.GENERAL).size(), customers.get(PriorityClass.VIP).size(), events);
+    }
+
+    /**
+     * Retrieves the ticket counters of an event's pool and the arrival model of its customers.
+     *
+     * @param eventId The ID of the event.
+     * @return A map containing the ticket counters of the event.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public Map<String, Object> getEventStatusDetails(String eventId) {
+        Map<String, Object> response = new HashMap<>(getPoolSummary(ticketPoolRegistry.getPool(eventId)));
+        response.put("eventId", eventId);
+        response.put("arrivalModel", ticketPoolRegistry.getConfiguration(eventId).getArrivalModel());
         return response;
     }
 
     /**
      * Adds a new vendor to the simulation.
+     *
+     * @param eventId The ID of the event the vendor releases tickets for.
      */
-    public void addVendor() {
-        participantManagementService.addVendor(vendorThreads, isSimulationRunning);
+    public void addVendor(String eventId) {
+        participantManagementService.addVendor(vendors, eventId, threadMode, isSimulationRunning);
         sendUserUpdateLog();
     }
 
     /**
      * Adds a new customer to the simulation.
      *
-     * @param isVIP Whether the customer is a VIP.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param eventId The ID of the event the customer retrieves tickets for.
      */
-    public void addCustomer(boolean isVIP) {
+    public void addCustomer(PriorityClass priorityClass, String eventId) {
         participantManagementService.addCustomer(
-                isVIP ? vipCustomerThreads : customerThreads, isVIP, isSimulationRunning);
+                customers.get(priorityClass), priorityClass, eventId, threadMode, isSimulationRunning);
         sendUserUpdateLog();
     }
 
@@ -188,7 +523,7 @@ public class SimulationService {
      * @param vendorId The ID of the vendor to remove.
      */
     public void removeVendor(String vendorId) {
-        participantManagementService.removeVendor(vendorThreads, vendorId, isSimulationRunning);
+        participantManagementService.removeVendor(vendors, vendorId, isSimulationRunning);
         sendUserUpdateLog();
     }
 
@@ -196,23 +531,166 @@ public class SimulationService {
      * Removes a customer from the simulation by ID.
      *
      * @param customerId The ID of the customer to remove.
-     * @param isVIP Whether the customer is a VIP.
+     * @param priorityClass The tier the customer retrieves tickets in.
      */
-    public void removeCustomer(String customerId, boolean isVIP) {
+    public void removeCustomer(String customerId, PriorityClass priorityClass) {
         participantManagementService.removeCustomer(
-                isVIP ? vipCustomerThreads : customerThreads, customerId, isSimulationRunning
+                customers.get(priorityClass), customerId, isSimulationRunning
         );
         sendUserUpdateLog();
     }
 
+    /**
+     * Adds a number of vendors to the simulation in one operation.
+     *
+     * @param eventId The ID of the event the vendors release tickets for.
+     * @param count The number of vendors to add.
+     * @return The IDs of the added vendors.
+     */
+    public List<String> addVendors(String eventId, int count) {
+        List<String> vendorIds = participantManagementService.addVendors(
+                vendors, eventId, threadMode, count, isSimulationRunning);
+        sendUserUpdateLog();
+        return vendorIds;
+    }
+
+    /**
+     * Adds a number of customers to the simulation in one operation.
+     *
+     * @param priorityClass The tier the customers retrieve tickets in.
+     * @param eventId The ID of the event the customers retrieve tickets for.
+     * @param count The number of customers to add.
+     * @return The IDs of the added customers.
+     */
+    public List<String> addCustomers(PriorityClass priorityClass, String eventId, int count) {
+        List<String> customerIds = participantManagementService.addCustomers(
+                customers.get(priorityClass), priorityClass, eventId, threadMode, count, isSimulationRunning);
+        sendUserUpdateLog();
+        return customerIds;
+    }
+
+    /**
+     * Removes a number of vendors from the simulation in one operation.
+     *
+     * @param count The number of vendors to remove.
+     * @return The IDs of the removed vendors.
+     */
+    public List<String> removeVendors(int count) {
+        List<String> vendorIds = participantManagementService.removeVendors(vendors, count, isSimulationRunning);
+        sendUserUpdateLog();
+        return vendorIds;
+    }
+
+    /**
+     * Removes a number of customers of a priority class from the simulation in one operation.
+     *
+     * @param priorityClass The tier the customers retrieve tickets in.
+     * @param count The number of customers to remove.
+     * @return The IDs of the removed customers.
+     */
+    public List<String> removeCustomers(PriorityClass priorityClass, int count) {
+        List<String> customerIds = participantManagementService.removeCustomers(
+                customers.get(priorityClass), priorityClass, count, isSimulationRunning);
+        sendUserUpdateLog();
+        return customerIds;
+    }
+
+    /**
+     * Captures a consistent snapshot of the ticket counters of a pool, together with the wait
+     * times of served requests of every priority class. Virtual-time runs report their pools the same way.
+     *
+     * @param pool The ticket pool.
+     * @return A map containing the ticket counters.
+     */
+    static Map<String, Object> getPoolSummary(TicketPool pool) {
+        PoolCounters counters = pool.snapshot();
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("poolMode", pool.getMode());
+        summary.put("maxTicketCapacity", pool.getCapacity());
+        summary.put("ticketCount", counters.availableTickets());
+        summary.put("totalTicketsAdded", counters.totalTicketsAdded());
+        summary.put("totalTicketsRetrieved", counters.totalTicketsRetrieved());
+        summary.put("totalVIPRetrievals", counters.totalVIPRetrievals());
+        summary.put("totalNormalRetrievals", counters.totalNormalRetrievals());
+        Map<PriorityClass, Object> waitTimes = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            waitTimes.put(priorityClass, pool.getWaitTimeStats(priorityClass));
+        }
+        summary.put("waitTimes", waitTimes);
+        return summary;
+    }
+
+    /**
+     * Counts the customers of every priority class.
+     *
+     * @return The number of customers per priority class.
+     */
+    private Map<PriorityClass, Integer> customerCounts() {
+        Map<PriorityClass, Integer> counts = new EnumMap<>(PriorityClass.class);
+        customers.forEach((priorityClass, registry) -> counts.put(priorityClass, registry.size()));
+        return counts;
+    }
+
     /**
      * Sends a log update with the current counts of vendors and customers.
      */
     private void sendUserUpdateLog() {
         logService.sendStructuredLog("USER_UPDATE", Map.of(
-                "numberOfCustomers", customerThreads.size(),
-                "numberOfVIPCustomers", vipCustomerThreads.size(),
-                "numberOfVendors", vendorThreads.size()
+                "numberOfCustomers", customers.get(PriorityClass.GENERAL).size(),
+                "numberOfVIPCustomers", customers.get(PriorityClass.VIP).size(),
+                "customersByPriorityClass", customerCounts(),
+                "numberOfVendors", vendors.size()
         ));
     }
+
+    /**
+     * The participant counts of a load stage.
+     *
+     * @param vendors The number of vendors.
+     * @param customers The number of general sale customers.
+     * @param vipCustomers The number of VIP customers.
+     */
+    private record ParticipantCounts(int vendors, int customers, int vipCustomers) {
+
+        /**
+         * Works out the participant counts of a stage, turning a customer arrival rate into a customer count.
+         *
+         * @param stage The stage.
+         * @param retrievalInterval The customer retrieval interval of the event, in milliseconds.
+         * @return The participant counts.
+         * @throws IllegalArgumentException if the arrival rate needs more customers than a bulk operation can add.
+         */
+        static ParticipantCounts of(LoadStage stage, int retrievalInterval) {
+            int customers = stage.getCustomers();
+            if (stage.getCustomerArrivalRate() > 0) {
+                double perCustomer = 1000.0 / retrievalInterval;
+                long needed = (long) Math.ceil(stage.getCustomerArrivalRate() / perCustomer);
+                if (needed > ParticipantManagementService.MAX_BULK_COUNT) {
+                    throw new IllegalArgumentException("Stage customer arrival rate needs more than "
+                            + ParticipantManagementService.MAX_BULK_COUNT + " customers");
+                }
+                customers = (int) needed;
+            }
+            return new ParticipantCounts(stage.getVendors(), customers, stage.getVipCustomers());
+        }
+
+        /**
+         * Interpolates linearly between these counts and the target counts.
+         *
+         * @param target The counts at the end of the ramp.
+         * @param step The current step of the ramp, from 1.
+         * @param steps The number of steps of the ramp.
+         * @return The counts of the step.
+         */
+        ParticipantCounts towards(ParticipantCounts target, int step, int steps) {
+            return new ParticipantCounts(
+                    interpolate(vendors, target.vendors, step, steps),
+                    interpolate(customers, target.customers, step, steps),
+                    interpolate(vipCustomers, target.vipCustomers, step, steps));
+        }
+
+        private static int interpolate(int from, int to, int step, int steps) {
+            return from + (int) ((long) (to - from) * step / steps);
+        }
+    }
 }
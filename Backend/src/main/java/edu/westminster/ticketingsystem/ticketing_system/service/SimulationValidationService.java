@@ -1,12 +1,14 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadProfile;
+import edu.westminster.ticketingsystem.ticketing_system.model.LoadStage;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * SimulationValidationService validates input parameters for starting the simulation.
  * This service ensures that the simulation starts with valid values for vendors, customers,
- * and VIP customers.
+ * and VIP customers, and that load profiles describe stages a simulation can run.
  */
 @Service
 @AllArgsConstructor
@@ -31,4 +33,33 @@ public class SimulationValidationService {
             throw new IllegalArgumentException("Number of VIP customers cannot be less than 0");
         }
     }
+
+    /**
+     * Validates a load profile.
+     *
+     * @param loadProfile The load profile to run.
+     * @throws IllegalArgumentException if the profile has no stages or a stage is invalid.
+     */
+    public void validateLoadProfile(LoadProfile loadProfile) {
+        if (loadProfile.getStages() == null || loadProfile.getStages().isEmpty()) {
+            throw new IllegalArgumentException("A load profile needs at least one stage");
+        }
+        for (LoadStage stage : loadProfile.getStages()) {
+            if (stage.getDurationMillis() <= 0) {
+                throw new IllegalArgumentException("Stage duration must be greater than 0");
+            }
+            if (!isParticipantCount(stage.getVendors()) || !isParticipantCount(stage.getCustomers())
+                    || !isParticipantCount(stage.getVipCustomers())) {
+                throw new IllegalArgumentException("Stage participant counts must be between 0 and "
+                        + ParticipantManagementService.MAX_BULK_COUNT);
+            }
+            if (stage.getCustomerArrivalRate() < 0) {
+                throw new IllegalArgumentException("Stage customer arrival rate cannot be less than 0");
+            }
+        }
+    }
+
+    private boolean isParticipantCount(int count) {
+        return count >= 0 && count <= ParticipantManagementService.MAX_BULK_COUNT;
+    }
 }
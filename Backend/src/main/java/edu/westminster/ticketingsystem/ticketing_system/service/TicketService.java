@@ -1,57 +1,155 @@
 package edu.westminster.ticketingsystem.ticketing_system.service;
 
-import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.SimulationClock;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketIdGenerator;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
 import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
 import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TicketService provides operations for ticket management in the simulation.
  * This service handles generating and adding tickets to the pool, as well as
- * retrieving tickets based on customer requests.
+ * retrieving tickets based on customer requests. Every operation targets the ticket pool of a
+ * single event. Requests are timestamped and timed out on the clock of the pool registry.
  */
 @Service
 @AllArgsConstructor
 public class TicketService {
 
-    private TicketPool ticketPool;
+    private TicketPoolRegistry ticketPoolRegistry;
+    private TicketIdGenerator ticketIdGenerator;
 
     /**
-     * Generates tickets and adds them to the ticket pool.
+     * Generates tickets and adds them to the ticket pool of an event.
      *
+     * @param eventId The ID of the event the tickets are for.
      * @param vendorId The ID of the vendor generating the tickets.
      * @param ticketsPerRelease The number of tickets to generate and add to the pool.
      * @return true if the tickets were successfully added, false otherwise.
      */
-    public boolean generateAndAddTickets(String vendorId, int ticketsPerRelease) {
-        // Generating the tickets
-        List<Ticket> ticketsToAdd = new ArrayList<>();
+    public boolean generateAndAddTickets(String eventId, String vendorId, int ticketsPerRelease) {
+        // Generating the ticket IDs; the pool only builds ticket objects for the customers that retrieve them
+        long[] ticketIds = ticketIdGenerator.generate(vendorId, ticketsPerRelease);
 
-        for (int i = 0; i < ticketsPerRelease; i++) {
-            String ticketId = vendorId + "-" + (i + 1);
-            ticketsToAdd.add(new Ticket(ticketId, vendorId));
-        }
+        return ticketPoolRegistry.getPool(eventId).addTickets(ticketIds);
+    }
+
+    /**
+     * Generates tickets and adds them to the ticket pool of an event, waiting for space if the pool is full.
+     * If the event configures a backpressure timeout, the vendor gives up once it passes.
+     *
+     * @param eventId The ID of the event the tickets are for.
+     * @param vendorId The ID of the vendor generating the tickets.
+     * @param ticketsPerRelease The number of tickets to generate and add to the pool.
+     * @return true if the tickets were successfully added, false if the timeout passed or the vendor was interrupted.
+     */
+    public boolean generateAndAddTicketsWhenSpace(String eventId, String vendorId, int ticketsPerRelease) {
+        long[] ticketIds = ticketIdGenerator.generate(vendorId, ticketsPerRelease);
 
-        return ticketPool.addTickets(ticketsToAdd);
+        int timeoutMillis = ticketPoolRegistry.getConfiguration(eventId).getVendorBackpressureTimeout();
+        try {
+            return ticketPoolRegistry.getPool(eventId).addTickets(ticketIds,
+                    timeoutMillis > 0 ? timeoutMillis : Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // Keep the interrupt so that the vendor thread stops
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     /**
-     * Retrieves tickets from the ticket pool based on a customer's request.
+     * Retrieves tickets from the ticket pool of an event based on a customer's request.
+     * If the event configures a retrieval timeout, the customer gives up once it passes.
      *
+     * @param eventId The ID of the event the tickets are for.
      * @param customerId The ID of the customer retrieving tickets.
      * @param ticketsPerRetrieval The number of tickets requested.
-     * @param isVIP Whether the customer is a VIP.
+     * @param priorityClass The tier the customer retrieves tickets in.
      */
-    public void retrieveTickets(String customerId, int ticketsPerRetrieval, boolean isVIP) {
+    public void retrieveTickets(String eventId, String customerId, int ticketsPerRetrieval, PriorityClass priorityClass) {
         try {
-            TicketRetrievalRequest request = new TicketRetrievalRequest(customerId, ticketsPerRetrieval, isVIP);
-            ticketPool.retrieveTickets(request);
+            TicketRetrievalRequest request = newRequest(customerId, ticketsPerRetrieval, priorityClass);
+            int timeoutMillis = ticketPoolRegistry.getConfiguration(eventId).getCustomerRetrievalTimeout();
+            if (timeoutMillis > 0) {
+                ticketPoolRegistry.getPool(eventId).retrieveTickets(request, timeoutMillis, TimeUnit.MILLISECONDS);
+            } else {
+                ticketPoolRegistry.getPool(eventId).retrieveTickets(request);
+            }
         } catch (Exception e) {
             // TODO: Add error logging for ticket retrieval failures (Can use error logging)
         }
     }
+
+    /**
+     * Leaves a customer's request with the ticket pool of an event without waiting for it.
+     * If the event configures a retrieval timeout, the request is withdrawn once it passes.
+     *
+     * @param eventId The ID of the event the tickets are for.
+     * @param customerId The ID of the customer retrieving tickets.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @return A future completed with the retrieved tickets.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public CompletableFuture<List<Ticket>> retrieveTicketsAsync(String eventId, String customerId,
+                                                                int ticketsPerRetrieval, PriorityClass priorityClass) {
+        return retrieveTicketsAsync(eventId, newRequest(customerId, ticketsPerRetrieval, priorityClass));
+    }
+
+    /**
+     * Leaves an open-loop customer's request with the ticket pool of an event without waiting for it.
+     * The pool measures the wait time of the request from when it was due rather than from now.
+     *
+     * @param eventId The ID of the event the tickets are for.
+     * @param customerId The ID of the customer retrieving tickets.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @param intendedStartNanos When the request was due, in nanoseconds of the pool registry's clock.
+     * @return A future completed with the retrieved tickets.
+     * @throws IllegalStateException if the event does not exist.
+     */
+    public CompletableFuture<List<Ticket>> retrieveTicketsAsync(String eventId, String customerId,
+                                                                int ticketsPerRetrieval, PriorityClass priorityClass,
+                                                                long intendedStartNanos) {
+        SimulationClock clock = ticketPoolRegistry.getClock();
+        return retrieveTicketsAsync(eventId, new TicketRetrievalRequest(customerId, ticketsPerRetrieval,
+                priorityClass, clock.currentTimeMillis(), intendedStartNanos));
+    }
+
+    /**
+     * Leaves a request with the ticket pool of an event and arranges for it to be withdrawn once the
+     * retrieval timeout of the event passes.
+     *
+     * @param eventId The ID of the event the tickets are for.
+     * @param request The retrieval request.
+     * @return A future completed with the retrieved tickets.
+     */
+    private CompletableFuture<List<Ticket>> retrieveTicketsAsync(String eventId, TicketRetrievalRequest request) {
+        CompletableFuture<List<Ticket>> future = ticketPoolRegistry.getPool(eventId).retrieveTicketsAsync(request);
+        int timeoutMillis = ticketPoolRegistry.getConfiguration(eventId).getCustomerRetrievalTimeout();
+        if (timeoutMillis > 0) {
+            ticketPoolRegistry.getClock().expireAfter(future, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * Builds a retrieval request timestamped with the current time of the pool registry's clock.
+     *
+     * @param customerId The ID of the customer retrieving tickets.
+     * @param ticketsPerRetrieval The number of tickets requested.
+     * @param priorityClass The tier the customer retrieves tickets in.
+     * @return The request.
+     */
+    private TicketRetrievalRequest newRequest(String customerId, int ticketsPerRetrieval, PriorityClass priorityClass) {
+        SimulationClock clock = ticketPoolRegistry.getClock();
+        return new TicketRetrievalRequest(customerId, ticketsPerRetrieval, priorityClass, clock.currentTimeMillis());
+    }
 }
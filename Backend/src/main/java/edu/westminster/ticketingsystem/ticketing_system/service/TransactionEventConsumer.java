@@ -0,0 +1,65 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventConsumer;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * TransactionEventConsumer persists ticket pool events as transactions in the database.
+ * It runs on the event pipeline threads, so database latency does not hold up the ticket pool.
+ */
+@Service
+@AllArgsConstructor
+public class TransactionEventConsumer implements PoolEventConsumer {
+
+    private final TransactionService transactionService;
+
+    /**
+     * Returns the name of the consumer.
+     *
+     * @return "transactions".
+     */
+    @Override
+    public String getName() {
+        return "transactions";
+    }
+
+    /**
+     * Logs the transaction matching the given pool event. Failed retrievals are not persisted.
+     *
+     * @param event The pool event to persist.
+     */
+    @Override
+    public void accept(PoolEvent event) {
+        switch (event) {
+            case PoolEvent.TicketsAdded added -> transactionService.logTransaction(
+                    "ADD",
+                    "VENDOR",
+                    "VENDOR",
+                    added.ticketsAdded(),
+                    "Added tickets to the pool."
+            );
+            case PoolEvent.TicketsRetrieved retrieved -> transactionService.logTransaction(
+                    "RETRIEVE",
+                    retrieved.customerId(),
+                    retrieved.priorityClass().isPriority() ? "VIP" : "NORMAL",
+                    retrieved.ticketsRetrieved(),
+                    "Retrieved tickets from the pool."
+            );
+            case PoolEvent.PoolCleared cleared -> transactionService.logTransaction(
+                    "CLEAR",
+                    "SYSTEM",
+                    "SYSTEM",
+                    cleared.counters().availableTickets(),
+                    "Cleared all tickets from the pool."
+            );
+            case PoolEvent.RetrievalFailed failed -> {
+                // Failed retrievals do not change the pool, so there is no transaction to record
+            }
+            case PoolEvent.RetrievalTimedOut timedOut -> {
+                // Timed out retrievals do not change the pool either
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.service.DiscreteEventSimulationService;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationValidationService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a one-hour on-sale scenario in virtual time with every pool engine. Vendors release and
+ * customers retrieve once a second, demand exceeds supply and retrievals time out after two seconds.
+ * Each scenario runs twice with the same seed; the benchmark reports how long a run took, how many
+ * times faster than real time that is, a few of the reported statistics, and whether the two runs
+ * reported the same statistics.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.DiscreteEventSimulationBenchmark
+ */
+public class DiscreteEventSimulationBenchmark {
+
+    private static final long DURATION_MILLIS = 3_600_000;
+    private static final int VENDORS = 50;
+    private static final int CUSTOMERS = 200;
+    private static final int VIP_CUSTOMERS = 50;
+    private static final long SEED = 42;
+    private static final TicketPoolMode[] MODES = {
+            TicketPoolMode.STRICT_FAIR, TicketPoolMode.HIGH_THROUGHPUT, TicketPoolMode.FLAT_COMBINING};
+
+    public static void main(String[] args) {
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+
+        System.out.printf("%d vendors, %d customers, %d VIP customers, %d s simulated%n",
+                VENDORS, CUSTOMERS, VIP_CUSTOMERS, DURATION_MILLIS / 1000);
+        System.out.printf("%16s %12s %12s %14s %14s %12s %14s%n", "pool mode", "elapsed ms", "x real time",
+                "tickets sold", "timeouts", "actions", "reproducible");
+        for (TicketPoolMode mode : MODES) {
+            ConfigurationData configurationData = new ConfigurationData();
+            configurationData.setPoolMode(mode);
+            configurationData.setMaxTicketCapacity(5_000);
+            configurationData.setTicketReleaseRate(4);
+            configurationData.setTicketReleaseInterval(1_000);
+            configurationData.setCustomerRetrievalRate(2);
+            configurationData.setCustomerRetrievalInterval(1_000);
+            configurationData.setCustomerRetrievalTimeout(2_000);
+            SystemConfiguration systemConfiguration = new SystemConfiguration(configurationData);
+            systemConfiguration.setSystemConfigured(true);
+            DiscreteEventSimulationService service = new DiscreteEventSimulationService(
+                    new TicketPoolRegistry(systemConfiguration, pipeline), new SimulationValidationService(),
+                    systemConfiguration);
+
+            service.runSimulation(VENDORS, CUSTOMERS, VIP_CUSTOMERS, List.of("default"), 60_000, SEED); // Warm-up
+            Map<String, Object> first = run(service);
+            Map<String, Object> second = run(service);
+            long elapsed = (long) second.get("elapsedMillis");
+            System.out.printf("%16s %12d %12.0f %14s %14s %12s %14s%n", mode, elapsed,
+                    (double) DURATION_MILLIS / Math.max(1, elapsed), second.get("totalTicketsRetrieved"),
+                    second.get("retrievalTimeouts"), second.get("processedActions"),
+                    withoutTiming(first).toString().equals(withoutTiming(second).toString()));
+        }
+    }
+
+    private static Map<String, Object> run(DiscreteEventSimulationService service) {
+        return service.runSimulation(VENDORS, CUSTOMERS, VIP_CUSTOMERS, List.of("default"), DURATION_MILLIS, SEED);
+    }
+
+    private static Map<String, Object> withoutTiming(Map<String, Object> statistics) {
+        Map<String, Object> copy = new HashMap<>(statistics);
+        copy.remove("elapsedMillis");
+        return copy;
+    }
+}
@@ -0,0 +1,204 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogBroadcaster;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogRingBuffer;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.SimulationLogEvent;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures the allocation rate of the logging path at a steady 100,000 ticket events per second, as
+ * the pool event pipeline produces them. The map-based path builds a map of boxed details, formats a
+ * LocalDateTime, wraps both in another map, and has the broadcaster serialize the maps of each batch
+ * reflectively, as logging used to. The typed path logs SimulationLogEvent records through the
+ * SimulationLogService, which serializes each event once with a pre-built writer and broadcasts the
+ * bytes. Events alternate between tickets added and tickets retrieved. The benchmark reports the bytes
+ * allocated by every thread per event and per second, the CPU time of the process per event, and the
+ * garbage collections during the run.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.LogAllocationBenchmark
+ */
+public class LogAllocationBenchmark {
+
+    private static final int EVENTS_PER_SECOND = 100_000;
+    private static final int EVENTS_PER_MILLI = EVENTS_PER_SECOND / 1000;
+    private static final int WARM_UP_SECONDS = 2;
+    private static final int SECONDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.OperatingSystemMXBean OPERATING_SYSTEM =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("%d events/s for %d s%n", EVENTS_PER_SECOND, SECONDS);
+        System.out.printf("%8s %14s %12s %16s %8s %10s%n",
+                "path", "bytes/event", "MB/s", "cpu ns/event", "GCs", "GC ms");
+
+        MapLogPath mapPath = new MapLogPath();
+        mapPath.start();
+        run("maps", mapPath::log);
+        mapPath.stop();
+        System.out.printf("map path broadcast: sentLogs=%d%n", mapPath.sentLogs);
+
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        LogBroadcaster broadcaster = new LogBroadcaster(template, 10_000, 50, 500);
+        SimulationLogService logService = new SimulationLogService(template, broadcaster);
+        broadcaster.start();
+        run("typed", i -> logService.sendLog(typedEvent(i)));
+        broadcaster.stop();
+        System.out.printf("typed path broadcast: %s%n", broadcaster.getStatistics());
+    }
+
+    /**
+     * Logs at the target rate, first to warm up and then measured.
+     */
+    private static void run(String name, IntConsumer log) {
+        pace(log, WARM_UP_SECONDS);
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = THREADS.getTotalThreadAllocatedBytes();
+        long cpu = OPERATING_SYSTEM.getProcessCpuTime();
+        int events = pace(log, SECONDS);
+        long cpuNanos = OPERATING_SYSTEM.getProcessCpuTime() - cpu;
+        long bytes = THREADS.getTotalThreadAllocatedBytes() - allocated;
+        System.out.printf("%8s %14.0f %12.1f %16.0f %8d %10d%n", name, (double) bytes / events,
+                bytes / 1e6 / SECONDS, (double) cpuNanos / events, gcCount() - gcCount, gcMillis() - gcMillis);
+    }
+
+    /**
+     * Logs a batch of events every millisecond for the given time.
+     *
+     * @return The number of events logged.
+     */
+    private static int pace(IntConsumer log, int seconds) {
+        long start = System.nanoTime();
+        long millis = TimeUnit.SECONDS.toMillis(seconds);
+        int event = 0;
+        for (long milli = 0; milli < millis; milli++) {
+            for (int i = 0; i < EVENTS_PER_MILLI; i++) {
+                log.accept(event++);
+            }
+            LockSupport.parkNanos(start + TimeUnit.MILLISECONDS.toNanos(milli + 1) - System.nanoTime());
+        }
+        return event;
+    }
+
+    private static SimulationLogEvent typedEvent(int i) {
+        PoolCounters counters = new PoolCounters(i % 100, i, i / 2, i / 4, i / 4);
+        return i % 2 == 0
+                ? new SimulationLogEvent.TicketAdded("default", 5, counters)
+                : new SimulationLogEvent.TicketRetrieved("default", String.valueOf(i % 50), PriorityClass.GENERAL,
+                        1, counters);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    /**
+     * The logging path as it was before typed events: maps of boxed details, a formatted timestamp, a
+     * history of maps, and a broadcaster thread that serializes each batch of maps.
+     */
+    private static final class MapLogPath {
+        private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        private final LogRingBuffer<Map<String, Object>> logsMemory =
+                new LogRingBuffer<>(SimulationLogService.DEFAULT_LOG_CAPACITY, 0);
+        private final BlockingQueue<Map<String, Object>> queue = new ArrayBlockingQueue<>(10_000);
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private Thread broadcaster;
+        private volatile long sentLogs; // Only written by the broadcaster thread
+
+        void start() {
+            broadcaster = Thread.ofPlatform().daemon().start(() -> {
+                List<Map<String, Object>> batch = new ArrayList<>();
+                while (!Thread.currentThread().isInterrupted()) {
+                    try {
+                        // Collects batches the way the LogBroadcaster does
+                        batch.add(queue.take());
+                        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+                        while (batch.size() < 500) {
+                            queue.drainTo(batch, 500 - batch.size());
+                            long remaining = deadline - System.nanoTime();
+                            if (batch.size() >= 500 || remaining <= 0) {
+                                break;
+                            }
+                            Map<String, Object> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                            if (next == null) {
+                                break;
+                            }
+                            batch.add(next);
+                        }
+                        objectMapper.writeValueAsBytes(List.copyOf(batch));
+                        sentLogs += batch.size();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        batch.clear();
+                    }
+                }
+            });
+        }
+
+        void stop() {
+            broadcaster.interrupt();
+        }
+
+        void log(int i) {
+            Map<String, Object> details = new HashMap<>();
+            details.put("eventId", "default");
+            details.put("availableTickets", i % 100);
+            details.put("totalTicketsAdded", i);
+            details.put("totalTicketsRetrieved", i / 2);
+            details.put("totalVIPRetrievals", i / 4);
+            details.put("totalNormalRetrievals", i / 4);
+            String action;
+            if (i % 2 == 0) {
+                details.put("ticketsAdded", 5);
+                action = "TICKET_ADD";
+            } else {
+                details.put("customerId", String.valueOf(i % 50));
+                details.put("customerType", "Normal");
+                details.put("priorityClass", PriorityClass.GENERAL);
+                details.put("retrievedTickets", 1);
+                action = "TICKET_RETRIEVAL";
+            }
+            String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
+            Map<String, Object> log = logsMemory.append(sequence -> Map.of(
+                    "sequence", sequence,
+                    "timestamp", timestamp,
+                    "action", action,
+                    "details", details
+            ));
+            queue.offer(log);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogBroadcaster;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.SimulationLogEvent;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Compares broadcasting every log as its own STOMP frame on the logging thread, as before, with the
+ * batched LogBroadcaster behind the SimulationLogService. The broker is a channel that serializes each
+ * frame to JSON unless it already is, and then spends a fixed time per frame, standing in for writing it
+ * to one subscriber. Several participant threads log at once; the benchmark reports how long they spent
+ * logging, the frames sent and the time until every log had been sent.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.LogBroadcastBenchmark
+ */
+public class LogBroadcastBenchmark {
+
+    private static final int THREADS = 4;
+    private static final int LOGS_PER_THREAD = 25_000;
+    private static final long FRAME_COST_NANOS = 20_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int totalLogs = THREADS * LOGS_PER_THREAD;
+        System.out.printf("%d threads logging %d logs each, %d us per frame%n", THREADS, LOGS_PER_THREAD,
+                FRAME_COST_NANOS / 1000);
+        System.out.printf("%10s %16s %10s %16s %10s%n", "broadcast", "logging ms", "frames", "all sent ms", "dropped");
+
+        CountingChannel direct = new CountingChannel();
+        SimpMessagingTemplate directTemplate = new SimpMessagingTemplate(direct);
+        long[] directTimes = run((customerId, i) -> directTemplate.convertAndSend(LogBroadcaster.DESTINATION,
+                        Map.of("timestamp", "2024-01-01 00:00:00", "action", "TICKET_RETRIEVAL",
+                                "details", Map.of("customerId", customerId, "retrievedTickets", i))),
+                () -> direct.frames.get() >= totalLogs);
+        System.out.printf("%10s %16.0f %10d %16.0f %10d%n", "per log", directTimes[0] / 1e6, direct.frames.get(),
+                directTimes[1] / 1e6, 0);
+
+        CountingChannel batched = new CountingChannel();
+        SimpMessagingTemplate batchedTemplate = new SimpMessagingTemplate(batched);
+        LogBroadcaster broadcaster = new LogBroadcaster(batchedTemplate, totalLogs, 50, 500);
+        SimulationLogService logService = new SimulationLogService(batchedTemplate, broadcaster);
+        PoolCounters counters = new PoolCounters(0, 0, 0, 0, 0);
+        broadcaster.start();
+        long[] batchedTimes = run((customerId, i) -> logService.sendLog(new SimulationLogEvent.TicketRetrieved(
+                        "default", customerId, PriorityClass.GENERAL, i, counters)),
+                () -> (long) broadcaster.getStatistics().get("sentLogs")
+                        + (long) broadcaster.getStatistics().get("droppedLogs") >= totalLogs);
+        broadcaster.stop();
+        System.out.printf("%10s %16.0f %10d %16.0f %10s%n", "batched", batchedTimes[0] / 1e6, batched.frames.get(),
+                batchedTimes[1] / 1e6, broadcaster.getStatistics().get("droppedLogs"));
+    }
+
+    /**
+     * Logs from the participant threads and waits until every log has been sent.
+     *
+     * @return The nanoseconds spent logging and the nanoseconds until every log was sent.
+     */
+    private static long[] run(ObjIntConsumer<String> broadcast, BooleanSupplier allSent)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < LOGS_PER_THREAD; i++) {
+                    broadcast.accept(String.valueOf(thread), i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long logging = System.nanoTime() - start;
+        while (!allSent.getAsBoolean()) {
+            Thread.sleep(1);
+        }
+        return new long[] {logging, System.nanoTime() - start};
+    }
+
+    /**
+     * A broker that serializes each frame that is not serialized yet and spends a fixed time on it.
+     */
+    private static final class CountingChannel implements MessageChannel {
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final AtomicLong frames = new AtomicLong();
+
+        @Override
+        public synchronized boolean send(Message<?> message, long timeout) {
+            try {
+                if (!(message.getPayload() instanceof byte[])) {
+                    objectMapper.writeValueAsBytes(message.getPayload());
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            long end = System.nanoTime() + FRAME_COST_NANOS;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            frames.incrementAndGet();
+            return true;
+        }
+    }
+}
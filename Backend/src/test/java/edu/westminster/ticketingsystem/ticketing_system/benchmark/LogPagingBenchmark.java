@@ -0,0 +1,163 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.westminster.ticketingsystem.ticketing_system.component.LogBroadcaster;
+import edu.westminster.ticketingsystem.ticketing_system.model.SerializedLog;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationLogService;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compares a client polling the status endpoint, which used to embed the whole log history, with a
+ * client that follows the log cursor and fetches only the logs made since its last poll. Between polls
+ * the simulation makes a fixed number of new logs on top of a full history; the benchmark reports the
+ * bytes serialized and the time spent per poll. It then has several threads log while a reader follows
+ * the cursor, and checks that the reader saw every log exactly once, apart from those reported as missed.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.LogPagingBenchmark
+ */
+public class LogPagingBenchmark {
+
+    private static final int HISTORY = SimulationLogService.DEFAULT_LOG_CAPACITY;
+    private static final int POLLS = 200;
+    private static final int LOGS_PER_POLL = 100;
+    private static final int WRITERS = 4;
+    private static final int LOGS_PER_WRITER = 250_000;
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        System.out.printf("%d logs retained, %d new logs between polls, %d polls%n", HISTORY, LOGS_PER_POLL, POLLS);
+        System.out.printf("%12s %16s %14s%n", "poll", "bytes per poll", "us per poll");
+
+        SimulationLogService full = newLogService(HISTORY);
+        log(full, HISTORY);
+        pollFullHistory(full, objectMapper, POLLS / 4); // Warm up
+        long[] fullResult = pollFullHistory(full, objectMapper, POLLS);
+        System.out.printf("%12s %16d %14.0f%n", "full", fullResult[0] / POLLS, fullResult[1] / 1e3 / POLLS);
+
+        SimulationLogService paged = newLogService(HISTORY);
+        log(paged, HISTORY);
+        pollPaged(paged, objectMapper, POLLS / 4); // Warm up
+        long[] pagedResult = pollPaged(paged, objectMapper, POLLS);
+        System.out.printf("%12s %16d %14.0f%n", "cursor", pagedResult[0] / POLLS, pagedResult[1] / 1e3 / POLLS);
+
+        followWhileLogging();
+    }
+
+    /**
+     * Polls the whole history after each round of new logs, as the status endpoint used to return it.
+     *
+     * @return The bytes serialized and the nanoseconds spent polling.
+     */
+    private static long[] pollFullHistory(SimulationLogService logService, ObjectMapper objectMapper, int polls)
+            throws JsonProcessingException {
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < polls; i++) {
+            log(logService, LOGS_PER_POLL);
+            long start = System.nanoTime();
+            bytes += objectMapper.writeValueAsBytes(Map.of("logs", logService.getLogs())).length;
+            nanos += System.nanoTime() - start;
+        }
+        return new long[] {bytes, nanos};
+    }
+
+    /**
+     * Polls the logs made since the previous poll after each round of new logs.
+     *
+     * @return The bytes serialized and the nanoseconds spent polling.
+     */
+    private static long[] pollPaged(SimulationLogService logService, ObjectMapper objectMapper, int polls)
+            throws JsonProcessingException {
+        long after = (long) logService.getLogPage(-1, 1, List.of(), null).get("latestSequence");
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < polls; i++) {
+            log(logService, LOGS_PER_POLL);
+            long start = System.nanoTime();
+            Map<String, Object> page = logService.getLogPage(after, SimulationLogService.MAX_LOG_PAGE_SIZE, List.of(), null);
+            bytes += objectMapper.writeValueAsBytes(page).length;
+            nanos += System.nanoTime() - start;
+            after = (long) page.get("nextAfter");
+        }
+        return new long[] {bytes, nanos};
+    }
+
+    /**
+     * Follows the cursor while several threads log, and checks every log was seen once or reported missed.
+     */
+    @SuppressWarnings("unchecked")
+    private static void followWhileLogging() throws InterruptedException {
+        SimulationLogService logService = newLogService(HISTORY);
+        long total = (long) WRITERS * LOGS_PER_WRITER;
+        List<Thread> writers = new ArrayList<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        for (int w = 0; w < WRITERS; w++) {
+            writers.add(Thread.ofPlatform().start(() -> log(logService, LOGS_PER_WRITER)));
+        }
+        Thread.ofPlatform().start(() -> {
+            for (Thread writer : writers) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            writing.set(false);
+        });
+
+        BitSet seen = new BitSet();
+        long duplicates = 0;
+        long outOfOrder = 0;
+        long missed = 0;
+        long after = -1;
+        long polls = 0;
+        boolean lastPoll = false;
+        while (!lastPoll) {
+            lastPoll = !writing.get(); // One more poll after the writers finish collects the rest
+            Map<String, Object> page;
+            do {
+                page = logService.getLogPage(after, SimulationLogService.MAX_LOG_PAGE_SIZE, List.of(), null);
+                polls++;
+                missed += (long) page.get("missed");
+                for (SerializedLog log : (List<SerializedLog>) page.get("logs")) {
+                    long sequence = log.sequence();
+                    if (sequence <= after) {
+                        outOfOrder++;
+                    }
+                    if (seen.get((int) sequence)) {
+                        duplicates++;
+                    }
+                    seen.set((int) sequence);
+                }
+                after = (long) page.get("nextAfter");
+            } while ((boolean) page.get("hasMore"));
+        }
+        System.out.printf("%d threads logging %d logs each: read %d in %d polls, missed %d, accounted %d of %d, "
+                        + "duplicates %d, out of order %d%n", WRITERS, LOGS_PER_WRITER, seen.cardinality(), polls,
+                missed, seen.cardinality() + missed, total, duplicates, outOfOrder);
+    }
+
+    private static void log(SimulationLogService logService, int count) {
+        for (int i = 0; i < count; i++) {
+            logService.sendStructuredLog("TICKET_RETRIEVAL", Map.of("eventId", "default", "customerId",
+                    String.valueOf(i % 50), "customerType", "Normal", "retrievedTickets", 1, "availableTickets", i));
+        }
+    }
+
+    /**
+     * Creates a log service whose broadcaster is never started, so logs are only stored.
+     */
+    private static SimulationLogService newLogService(int capacity) {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        return new SimulationLogService(template, new LogBroadcaster(template, 1, 50, 1), new ObjectMapper(),
+                capacity, 0);
+    }
+}
@@ -0,0 +1,115 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.LogRingBuffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compares the log history kept as the previous unsynchronized ArrayList, as a synchronized list and
+ * as a LogRingBuffer. Several writer threads append logs while a reader repeatedly copies the whole
+ * history, as the status endpoint does. The benchmark reports the append throughput, how many logs
+ * each history holds at the end, how many logs were lost and how many reads failed. For the ring buffer
+ * it also checks that every snapshot is in order, that appended logs are either retained or counted as
+ * evicted, and that logs older than the maximum age are retired.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.LogRingBufferBenchmark
+ */
+public class LogRingBufferBenchmark {
+
+    private static final int WRITERS = 4;
+    private static final int LOGS_PER_WRITER = 500_000;
+    private static final int CAPACITY = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("%d writers appending %d logs each while a reader copies the history%n",
+                WRITERS, LOGS_PER_WRITER);
+        System.out.printf("%16s %14s %12s %12s %14s%n", "history", "appends/s", "retained", "lost", "failed reads");
+
+        List<Map<String, Object>> unsynchronized = new ArrayList<>();
+        run("ArrayList", unsynchronized::add, () -> new ArrayList<>(unsynchronized), unsynchronized::size,
+                () -> (long) unsynchronized.size());
+
+        List<Map<String, Object>> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+        run("synchronized", synchronizedList::add, () -> {
+            synchronized (synchronizedList) {
+                return new ArrayList<>(synchronizedList);
+            }
+        }, synchronizedList::size, () -> (long) synchronizedList.size());
+
+        LogRingBuffer<Map<String, Object>> ring = new LogRingBuffer<>(CAPACITY, 0);
+        AtomicBoolean ordered = new AtomicBoolean(true);
+        run("ring buffer", ring::add, () -> {
+            List<LogRingBuffer.Entry<Map<String, Object>>> entries = ring.read(0, Integer.MAX_VALUE);
+            for (int i = 1; i < entries.size(); i++) {
+                if (entries.get(i).sequence() <= entries.get(i - 1).sequence()) {
+                    ordered.set(false);
+                }
+            }
+            return entries;
+        }, ring::size, () -> ring.size() + ring.getEvictedByCapacity());
+        System.out.printf("ring buffer: snapshots ordered %b, appended %d = retained %d + evicted %d%n",
+                ordered.get(), ring.getAppendedCount(), ring.size(), ring.getEvictedByCapacity());
+
+        LogRingBuffer<Integer> aged = new LogRingBuffer<>(CAPACITY, 50);
+        for (int i = 0; i < 1_000; i++) {
+            aged.add(i);
+        }
+        Thread.sleep(100);
+        aged.add(1_000);
+        System.out.printf("age retention: retained %d, evicted by age %d, evicted by capacity %d%n",
+                aged.size(), aged.getEvictedByAge(), aged.getEvictedByCapacity());
+    }
+
+    /**
+     * Appends logs from the writer threads while the reader copies the history. The accounted supplier
+     * returns the number of logs either retained or counted as evicted; the rest were lost.
+     */
+    private static void run(String name, Consumer<Map<String, Object>> append, Supplier<List<?>> read,
+                            Supplier<Integer> size, Supplier<Long> accounted) throws InterruptedException {
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong failedReads = new AtomicLong();
+        Thread reader = Thread.ofPlatform().start(() -> {
+            while (writing.get()) {
+                try {
+                    read.get();
+                } catch (ConcurrentModificationException | ArrayIndexOutOfBoundsException e) {
+                    failedReads.incrementAndGet();
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < LOGS_PER_WRITER; i++) {
+                    try {
+                        append.accept(Map.of("action", "TICKET_ADD", "details", Map.of("id", writer, "n", i)));
+                    } catch (ArrayIndexOutOfBoundsException e) {
+                        // The unsynchronized list can fail an append while growing
+                    }
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        writing.set(false);
+        reader.join();
+
+        long total = (long) WRITERS * LOGS_PER_WRITER;
+        System.out.printf("%16s %14.0f %12d %12d %14d%n", name, total * 1e9 / elapsed, size.get(),
+                total - accounted.get(), failedReads.get());
+    }
+}
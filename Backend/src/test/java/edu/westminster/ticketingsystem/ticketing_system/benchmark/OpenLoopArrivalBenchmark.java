@@ -0,0 +1,66 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.ArrivalModel;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.WaitTimeStats;
+import edu.westminster.ticketingsystem.ticketing_system.service.DiscreteEventSimulationService;
+import edu.westminster.ticketingsystem.ticketing_system.service.SimulationValidationService;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs an overloaded on-sale scenario in virtual time with every arrival model. Customers ask for
+ * five times as many tickets as vendors release, and retrievals never time out. Closed-loop customers
+ * make a new request only once their previous one has been served, so a slow pool sees fewer requests
+ * and the wait times it reports stay flat. Open-loop customers keep arriving at their configured rate,
+ * and wait times are measured from when each request was due, so the reported wait times show the
+ * backlog building up. Reports the number of served requests and their wait times for each model.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.OpenLoopArrivalBenchmark
+ */
+public class OpenLoopArrivalBenchmark {
+
+    private static final long DURATION_MILLIS = 600_000;
+    private static final int VENDORS = 10;
+    private static final int CUSTOMERS = 100;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+
+        System.out.printf("%d vendors releasing 2 tickets/s, %d customers retrieving 1 ticket/s, %d s simulated%n",
+                VENDORS, CUSTOMERS, DURATION_MILLIS / 1000);
+        System.out.printf("%14s %12s %12s %12s %12s %12s%n", "arrival model", "served", "p50 ms", "p99 ms",
+                "max ms", "elapsed ms");
+        for (ArrivalModel arrivalModel : ArrivalModel.values()) {
+            ConfigurationData configurationData = new ConfigurationData();
+            configurationData.setMaxTicketCapacity(1_000);
+            configurationData.setTicketReleaseRate(2);
+            configurationData.setTicketReleaseInterval(1_000);
+            configurationData.setCustomerRetrievalRate(1);
+            configurationData.setCustomerRetrievalInterval(1_000);
+            configurationData.setArrivalModel(arrivalModel);
+            SystemConfiguration systemConfiguration = new SystemConfiguration(configurationData);
+            systemConfiguration.setSystemConfigured(true);
+            DiscreteEventSimulationService service = new DiscreteEventSimulationService(
+                    new TicketPoolRegistry(systemConfiguration, pipeline), new SimulationValidationService(),
+                    systemConfiguration);
+
+            Map<String, Object> statistics = service.runSimulation(VENDORS, CUSTOMERS, 0, List.of("default"),
+                    DURATION_MILLIS, SEED);
+            @SuppressWarnings("unchecked")
+            Map<PriorityClass, WaitTimeStats> waitTimes =
+                    (Map<PriorityClass, WaitTimeStats>) statistics.get("waitTimes");
+            WaitTimeStats general = waitTimes.get(PriorityClass.GENERAL);
+            System.out.printf("%14s %12d %12.0f %12.0f %12.0f %12s%n", arrivalModel, general.count(),
+                    general.p50Millis(), general.p99Millis(), general.maxMillis(), statistics.get("elapsedMillis"));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.ParticipantRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantHandle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compares ramping participants up and back down with the previous participant lists, which
+ * found the next ID by scanning every participant and removed a participant by a linear search,
+ * and with a ParticipantRegistry. Participants are added one at a time and then removed by ID in
+ * the order they were added. Also checks that concurrent additions from several threads receive
+ * distinct IDs and are all registered.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.ParticipantRegistryBenchmark
+ */
+public class ParticipantRegistryBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {1_000, 10_000, 50_000};
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        // Warm up both implementations before measuring
+        rampList(2_000);
+        rampRegistry(2_000);
+
+        System.out.printf("%14s %18s %18s%n", "participants", "list ramp ms", "registry ramp ms");
+        for (int participants : PARTICIPANT_COUNTS) {
+            System.out.printf("%14d %18.1f %18.1f%n", participants, rampList(participants), rampRegistry(participants));
+        }
+
+        ParticipantRegistry registry = new ParticipantRegistry();
+        registry.open();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    String id = registry.nextId();
+                    ids.add(id);
+                    registry.add(new StubParticipant(id));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.printf("%d concurrent adds: %d distinct IDs, %d registered%n",
+                THREADS * ADDS_PER_THREAD, ids.size(), registry.size());
+    }
+
+    private static double rampList(int participants) {
+        long start = System.nanoTime();
+        List<ParticipantHandle> list = new ArrayList<>();
+        for (int i = 0; i < participants; i++) {
+            int nextId = list.stream()
+                    .mapToInt(participant -> Integer.parseInt(participant.getId()))
+                    .max()
+                    .orElse(0) + 1;
+            list.add(new StubParticipant(String.valueOf(nextId)));
+        }
+        for (int i = 1; i <= participants; i++) {
+            String id = String.valueOf(i);
+            ParticipantHandle target = list.stream()
+                    .filter(participant -> participant.getId().equals(id))
+                    .findFirst()
+                    .orElseThrow();
+            target.stop();
+            list.remove(target);
+        }
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static double rampRegistry(int participants) {
+        long start = System.nanoTime();
+        ParticipantRegistry registry = new ParticipantRegistry();
+        registry.open();
+        for (int i = 0; i < participants; i++) {
+            registry.add(new StubParticipant(registry.nextId()));
+        }
+        Set<String> missing = new HashSet<>();
+        for (int i = 1; i <= participants; i++) {
+            if (!registry.stop(String.valueOf(i))) {
+                missing.add(String.valueOf(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Participants not found: " + missing);
+        }
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    /**
+     * A participant handle with nothing to stop.
+     */
+    private record StubParticipant(String id) implements ParticipantHandle {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
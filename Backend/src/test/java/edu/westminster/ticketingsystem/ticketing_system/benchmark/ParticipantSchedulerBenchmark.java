@@ -0,0 +1,138 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.ParticipantScheduler;
+import edu.westminster.ticketingsystem.ticketing_system.model.Participant;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantHandle;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how closely the participant scheduler keeps a large number of participants to their
+ * intervals. Every participant performs a trivial operation once a second for the measured period.
+ * For each participant count the benchmark reports the operations per second against the expected
+ * rate, how late operations ran relative to each participant's fixed-rate schedule, the number of
+ * live threads in the JVM and the heap retained per scheduled participant.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.ParticipantSchedulerBenchmark
+ */
+public class ParticipantSchedulerBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {1_000, 10_000, 100_000};
+    private static final int INTERVAL_MILLIS = 1_000;
+    private static final long DURATION_MILLIS = 10_000;
+    private static final int LATENESS_BUCKETS = 10_000; // One per millisecond
+
+    public static void main(String[] args) throws InterruptedException {
+        ParticipantScheduler scheduler = new ParticipantScheduler(0);
+        System.out.printf("%d scheduler threads, %d ms interval, %d ms per run%n",
+                scheduler.getThreadCount(), INTERVAL_MILLIS, DURATION_MILLIS);
+        System.out.printf("%14s %12s %12s %12s %12s %12s %10s %16s%n", "participants", "ops/s", "expected",
+                "mean late ms", "p99 late ms", "max late ms", "threads", "heap B/part.");
+        for (int participants : PARTICIPANT_COUNTS) {
+            run(scheduler, participants);
+        }
+        scheduler.shutdown();
+    }
+
+    private static void run(ParticipantScheduler scheduler, int participants) throws InterruptedException {
+        AtomicLongArray lateness = new AtomicLongArray(LATENESS_BUCKETS);
+        LongAdder operations = new LongAdder();
+
+        long heapBefore = usedHeap();
+        List<ParticipantHandle> handles = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            String id = String.valueOf(i + 1);
+            handles.add(scheduler.schedule(new TimedParticipant(id, lateness, operations), id));
+        }
+        long heap = usedHeap() - heapBefore;
+
+        Thread.sleep(INTERVAL_MILLIS); // Let every participant perform its first operation
+        long operationsBefore = operations.sum();
+        for (int i = 0; i < LATENESS_BUCKETS; i++) {
+            lateness.set(i, 0);
+        }
+        long start = System.nanoTime();
+        Thread.sleep(DURATION_MILLIS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long measured = operations.sum() - operationsBefore;
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        handles.forEach(ParticipantHandle::stop);
+        System.out.printf("%14d %12.0f %12.0f %12.2f %12d %12d %10d %16.0f%n", participants, measured / seconds,
+                participants * 1000.0 / INTERVAL_MILLIS, meanLateness(lateness), percentileLateness(lateness, 0.99),
+                percentileLateness(lateness, 1.0), threads, (double) heap / participants);
+    }
+
+    private static double meanLateness(AtomicLongArray lateness) {
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < lateness.length(); i++) {
+            count += lateness.get(i);
+            sum += i * lateness.get(i);
+        }
+        return (double) sum / Math.max(1, count);
+    }
+
+    private static int percentileLateness(AtomicLongArray lateness, double percentile) {
+        long count = 0;
+        for (int i = 0; i < lateness.length(); i++) {
+            count += lateness.get(i);
+        }
+        long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < lateness.length(); i++) {
+            seen += lateness.get(i);
+            if (seen >= target && lateness.get(i) > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * A participant that records how late each operation ran relative to the fixed-rate schedule
+     * set by its first operation.
+     */
+    private static class TimedParticipant extends Participant {
+        private final AtomicLongArray lateness;
+        private final LongAdder operations;
+        private long firstOperationNanos;
+        private long operationCount;
+
+        TimedParticipant(String id, AtomicLongArray lateness, LongAdder operations) {
+            super(id, "benchmark", INTERVAL_MILLIS, null, null);
+            this.lateness = lateness;
+            this.operations = operations;
+        }
+
+        @Override
+        protected void performOperation() {
+            long now = System.nanoTime();
+            if (operationCount == 0) {
+                firstOperationNanos = now;
+            }
+            long scheduled = firstOperationNanos + operationCount * INTERVAL_MILLIS * 1_000_000L;
+            long lateMillis = Math.max(0, (now - scheduled) / 1_000_000);
+            lateness.incrementAndGet((int) Math.min(lateMillis, LATENESS_BUCKETS - 1));
+            operationCount++;
+            operations.increment();
+        }
+
+        @Override
+        protected String getType() {
+            return "Benchmark participant";
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.FairTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.ParticipantThreadMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures how many simulation participants can run at once on platform threads and on virtual
+ * threads, and what each participant costs. Every participant is a customer blocked in an empty
+ * ticket pool, the state most participants of a sold-out simulation are in. For each participant
+ * count the benchmark reports the time taken to start them all and the growth of the resident set
+ * and of the heap per participant; virtual thread stacks live on the heap, platform thread stacks
+ * outside it. A mode stops at the first count whose threads cannot all be started. Virtual threads
+ * are measured first, since the heap they grow stays committed and would hide their resident set
+ * growth if platform threads had already enlarged it; pass PLATFORM or VIRTUAL to measure one mode only.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.ParticipantThreadBenchmark [mode]
+ * Adding -Djdk.tracePinnedThreads=short prints any virtual thread that blocks while pinned to its carrier.
+ */
+public class ParticipantThreadBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {1_000, 10_000, 20_000, 50_000, 100_000};
+
+    public static void main(String[] args) throws InterruptedException {
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+
+        System.out.printf("%10s %14s %10s %12s %16s %16s%n",
+                "threads", "participants", "started", "start ms", "RSS KB/part.", "heap KB/part.");
+        List<ParticipantThreadMode> modes = args.length > 0
+                ? List.of(ParticipantThreadMode.valueOf(args[0]))
+                : List.of(ParticipantThreadMode.VIRTUAL, ParticipantThreadMode.PLATFORM);
+        for (ParticipantThreadMode mode : modes) {
+            for (int participants : PARTICIPANT_COUNTS) {
+                if (!run(mode, participants, pipeline)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean run(ParticipantThreadMode mode, int participants, PoolEventPipeline pipeline)
+            throws InterruptedException {
+        ConfigurationData configurationData = new ConfigurationData();
+        configurationData.setMaxTicketCapacity(1_000);
+        TicketPool pool = new FairTicketPool(configurationData, pipeline.openStream("benchmark"));
+
+        long rssBefore = residentSetKilobytes();
+        long heapBefore = usedHeap();
+        CountDownLatch waiting = new CountDownLatch(participants);
+        List<Thread> threads = new ArrayList<>(participants);
+        long start = System.nanoTime();
+        boolean started = true;
+        try {
+            for (int i = 0; i < participants; i++) {
+                TicketRetrievalRequest request = new TicketRetrievalRequest(String.valueOf(i + 1), 1, i % 4 == 0);
+                Thread.Builder builder = mode == ParticipantThreadMode.VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+                threads.add(builder.name(String.valueOf(i + 1)).start(() -> {
+                    waiting.countDown();
+                    try {
+                        pool.retrieveTickets(request);
+                    } catch (InterruptedException e) {
+                        // The participant was stopped
+                    }
+                }));
+            }
+        } catch (OutOfMemoryError e) {
+            // The operating system refused to create another thread
+            started = false;
+        }
+        if (started) {
+            waiting.await();
+        }
+        long startMillis = (System.nanoTime() - start) / 1_000_000;
+        Thread.sleep(500); // Let the last participants park in the pool
+
+        long rss = residentSetKilobytes() - rssBefore;
+        long heap = usedHeap() - heapBefore;
+        System.out.printf("%10s %14d %10d %12s %16.1f %16.1f%n", mode, participants, threads.size(),
+                started ? String.valueOf(startMillis) : "failed",
+                (double) rss / threads.size(), heap / 1024.0 / threads.size());
+
+        // Clearing the pool fails every waiting request at once; the interrupt stops any that had not yet joined it
+        pool.clearPoolData();
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return started;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long residentSetKilobytes() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException e) {
+            // Not running on Linux
+        }
+        return 0;
+    }
+}
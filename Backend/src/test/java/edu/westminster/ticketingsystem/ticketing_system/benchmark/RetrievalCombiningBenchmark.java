@@ -0,0 +1,100 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.CombiningTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.FairTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares retrieval throughput of the per-request locking pool (STRICT_FAIR) and the
+ * flat-combining pool (FLAT_COMBINING) as the number of concurrent customers grows.
+ * Two vendors keep the pool topped up so that customers measure lock handling rather than
+ * waiting for inventory. Pool events go to a pipeline without consumers.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.RetrievalCombiningBenchmark
+ */
+public class RetrievalCombiningBenchmark {
+
+    private static final int CAPACITY = 200_000;
+    private static final int VENDORS = 2;
+    private static final int TICKETS_PER_RELEASE = 100;
+    private static final long DURATION_MILLIS = 2_000;
+    private static final int[] CUSTOMER_COUNTS = {4, 16, 64, 256};
+
+    public static void main(String[] args) throws InterruptedException {
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+
+        // Warm up both pools before measuring
+        run(TicketPoolMode.STRICT_FAIR, 16, pipeline);
+        run(TicketPoolMode.FLAT_COMBINING, 16, pipeline);
+
+        System.out.printf("%10s %24s %24s%n", "customers", "STRICT_FAIR retrievals/s", "FLAT_COMBINING retrievals/s");
+        for (int customers : CUSTOMER_COUNTS) {
+            double fair = run(TicketPoolMode.STRICT_FAIR, customers, pipeline);
+            double combining = run(TicketPoolMode.FLAT_COMBINING, customers, pipeline);
+            System.out.printf("%10d %24.0f %24.0f%n", customers, fair, combining);
+        }
+    }
+
+    private static double run(TicketPoolMode mode, int customers, PoolEventPipeline pipeline) throws InterruptedException {
+        ConfigurationData configurationData = new ConfigurationData();
+        configurationData.setMaxTicketCapacity(CAPACITY);
+        configurationData.setPoolMode(mode);
+        TicketPool pool = mode == TicketPoolMode.FLAT_COMBINING
+                ? new CombiningTicketPool(configurationData, pipeline.openStream("benchmark"))
+                : new FairTicketPool(configurationData, pipeline.openStream("benchmark"));
+
+        long[] batch = new long[TICKETS_PER_RELEASE];
+        for (int i = 0; i < TICKETS_PER_RELEASE; i++) {
+            batch[i] = TicketId.of(1, 1, i);
+        }
+        while (pool.addTickets(batch)) {
+            // Fill the pool to capacity
+        }
+
+        LongAdder retrievals = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < VENDORS; i++) {
+            threads.add(new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    if (!pool.addTickets(batch)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        for (int i = 0; i < customers; i++) {
+            String customerId = String.valueOf(i + 1);
+            boolean isVIP = i % 4 == 0;
+            threads.add(new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        pool.retrieveTickets(new TicketRetrievalRequest(customerId, 1, isVIP));
+                        retrievals.increment();
+                    }
+                } catch (InterruptedException e) {
+                    // Measurement finished
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        Thread.sleep(DURATION_MILLIS);
+        long completed = retrievals.sum();
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return completed * 1000.0 / DURATION_MILLIS;
+    }
+}
@@ -0,0 +1,84 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.RetrievalQueue;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Compares the cost of queueing and serving a retrieval request with a binary-heap
+ * PriorityQueue ordered by tier and arrival order, and with the per-tier buckets of a
+ * RetrievalQueue, as the number of pending requests grows. Requests are spread evenly over
+ * the five priority classes, and every operation adds one request and serves another.
+ * The bucket queue cost should stay flat as the backlog grows.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.RetrievalQueueBenchmark
+ */
+public class RetrievalQueueBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+    private static final int[] PENDING = {1_000, 10_000, 100_000, 1_000_000};
+    private static final PriorityClass[] CLASSES = PriorityClass.values();
+    private static final Comparator<Arrival> TIER_THEN_ARRIVAL = (first, second) -> {
+        PriorityClass firstClass = first.request().getPriorityClass();
+        PriorityClass secondClass = second.request().getPriorityClass();
+        return firstClass != secondClass ? firstClass.compareTo(secondClass) : Long.compare(first.order(), second.order());
+    };
+
+    public static void main(String[] args) {
+        TicketRetrievalRequest[] requests = new TicketRetrievalRequest[OPERATIONS + PENDING[PENDING.length - 1]];
+        Arrival[] arrivals = new Arrival[requests.length];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new TicketRetrievalRequest(String.valueOf(i), 1, CLASSES[i % CLASSES.length]);
+            arrivals[i] = new Arrival(requests[i], i);
+        }
+
+        // Warm up both queues before measuring
+        runHeap(arrivals, 10_000);
+        runBuckets(requests, 10_000);
+
+        System.out.printf("%10s %22s %22s%n", "pending", "PriorityQueue ns/op", "RetrievalQueue ns/op");
+        for (int pending : PENDING) {
+            double heap = runHeap(arrivals, pending);
+            double buckets = runBuckets(requests, pending);
+            System.out.printf("%10d %22.1f %22.1f%n", pending, heap, buckets);
+        }
+    }
+
+    private static double runHeap(Arrival[] requests, int pending) {
+        PriorityQueue<Arrival> queue = new PriorityQueue<>(TIER_THEN_ARRIVAL);
+        for (int i = 0; i < pending; i++) {
+            queue.add(requests[i]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            queue.add(requests[pending + i]);
+            queue.poll();
+        }
+        return (System.nanoTime() - start) / (double) OPERATIONS;
+    }
+
+    private static double runBuckets(TicketRetrievalRequest[] requests, int pending) {
+        RetrievalQueue<TicketRetrievalRequest> queue = new RetrievalQueue<>(new ConfigurationData(), Function.identity());
+        for (int i = 0; i < pending; i++) {
+            queue.add(requests[i]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            queue.add(requests[pending + i]);
+            queue.poll();
+        }
+        return (System.nanoTime() - start) / (double) OPERATIONS;
+    }
+
+    /**
+     * A request and its position in the order requests arrived, which the heap breaks ties on.
+     */
+    private record Arrival(TicketRetrievalRequest request, long order) {
+    }
+}
@@ -0,0 +1,113 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.SeatMap;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Measures how long the {@link SeatMap} takes to find and sell blocks of adjacent seats in a
+ * stadium-sized venue, compared with a first-fit scan of a plain bitset from the first seat.
+ * Seats are put on sale in batches as vendors would, and customers request blocks of 1 to 8
+ * seats until the venue is sold out. Both allocators see the same seeded sequence of requests.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.SeatMapBenchmark
+ */
+public class SeatMapBenchmark {
+
+    private static final int SEATS = 100_000;
+    private static final int SECTIONS = 20;
+    private static final int SEATS_PER_ROW = 50;
+    private static final int SEATS_PER_RELEASE = 500;
+    private static final int MAX_BLOCK = 8;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        long[] release = new long[SEATS_PER_RELEASE];
+        for (int i = 0; i < SEATS_PER_RELEASE; i++) {
+            release[i] = TicketId.of(1, 1, i);
+        }
+
+        // Warm up both allocators before measuring
+        for (int i = 0; i < ROUNDS; i++) {
+            runSeatMap(release);
+            runLinearScan();
+        }
+
+        System.out.printf("%d seats, %d sections, %d seats per row, blocks of 1-%d seats%n",
+                SEATS, SECTIONS, SEATS_PER_ROW, MAX_BLOCK);
+        System.out.printf("%14s %14s %16s%n", "allocator", "blocks sold", "ns per block");
+        for (int i = 0; i < ROUNDS; i++) {
+            long[] seatMap = runSeatMap(release);
+            long[] linear = runLinearScan();
+            System.out.printf("%14s %14d %16.0f%n", "SeatMap", seatMap[0], (double) seatMap[1] / seatMap[0]);
+            System.out.printf("%14s %14d %16.0f%n", "linear scan", linear[0], (double) linear[1] / linear[0]);
+        }
+    }
+
+    /**
+     * Sells out the venue through a SeatMap.
+     *
+     * @param release The IDs of the tickets put on sale by each vendor release.
+     * @return The number of blocks sold and the nanoseconds spent allocating them.
+     */
+    private static long[] runSeatMap(long[] release) {
+        SeatMap seatMap = new SeatMap(SEATS, SECTIONS, SEATS_PER_ROW);
+        Random random = new Random(42);
+        long blocks = 0;
+        long nanos = 0;
+        while (seatMap.addAll(release)) {
+            int block = 1 + random.nextInt(MAX_BLOCK);
+            long start = System.nanoTime();
+            while (seatMap.canTake(block)) {
+                seatMap.take(block);
+                blocks++;
+                block = 1 + random.nextInt(MAX_BLOCK);
+            }
+            nanos += System.nanoTime() - start;
+        }
+        return new long[] {blocks, nanos};
+    }
+
+    /**
+     * Sells out the venue by scanning a bitset of free seats from the first seat for every block.
+     *
+     * @return The number of blocks sold and the nanoseconds spent allocating them.
+     */
+    private static long[] runLinearScan() {
+        BitSet free = new BitSet(SEATS);
+        int seatsPerSection = SEATS / SECTIONS;
+        Random random = new Random(42);
+        long blocks = 0;
+        long nanos = 0;
+        for (int released = 0; released < SEATS; released += SEATS_PER_RELEASE) {
+            free.set(released, released + SEATS_PER_RELEASE);
+            int block = 1 + random.nextInt(MAX_BLOCK);
+            long start = System.nanoTime();
+            int seat;
+            while ((seat = firstFit(free, block, seatsPerSection)) >= 0) {
+                free.clear(seat, seat + block);
+                blocks++;
+                block = 1 + random.nextInt(MAX_BLOCK);
+            }
+            nanos += System.nanoTime() - start;
+        }
+        return new long[] {blocks, nanos};
+    }
+
+    private static int firstFit(BitSet free, int block, int seatsPerSection) {
+        int start = free.nextSetBit(0);
+        while (start >= 0) {
+            int offset = start % seatsPerSection;
+            int rowEnd = start - offset % SEATS_PER_ROW + SEATS_PER_ROW;
+            int end = Math.min(free.nextClearBit(start), rowEnd);
+            if (end - start >= block) {
+                return start;
+            }
+            start = free.nextSetBit(end);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,76 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketIdGenerator;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketRingBuffer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the heap a full pool of a million tickets retains in the previous representation,
+ * an array of ticket objects holding string ticket and vendor IDs, and in a TicketRingBuffer
+ * of 64-bit ticket IDs. Both pools are filled by vendor releases of the same size, and the
+ * retained heap is read after a full collection.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.TicketHeapBenchmark
+ */
+public class TicketHeapBenchmark {
+
+    private static final int CAPACITY = 1_000_000;
+    private static final int TICKETS_PER_RELEASE = 100;
+    private static final int VENDORS = 10;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        System.out.printf("%d tickets, releases of %d tickets from %d vendors%n", CAPACITY, TICKETS_PER_RELEASE, VENDORS);
+        System.out.printf("%18s %16s %18s%n", "representation", "retained MB", "bytes per ticket");
+        for (int i = 0; i < ROUNDS; i++) {
+            report("String tickets", TicketHeapBenchmark::fillStringTickets);
+            report("long[] ring", TicketHeapBenchmark::fillRingBuffer);
+        }
+    }
+
+    private static void report(String name, IntFunction<Object> fill) {
+        long before = retainedHeap();
+        Object pool = fill.apply(CAPACITY);
+        long retained = retainedHeap() - before;
+        System.out.printf("%18s %16.1f %18.1f%n", name, retained / 1e6, (double) retained / CAPACITY);
+        if (pool.hashCode() == 42) {
+            System.out.println(); // Keeps the pool reachable until it has been measured
+        }
+    }
+
+    private static Object fillStringTickets(int capacity) {
+        LegacyTicket[] tickets = new LegacyTicket[capacity];
+        for (int i = 0; i < capacity; i++) {
+            String vendorId = String.valueOf(i / TICKETS_PER_RELEASE % VENDORS + 1);
+            tickets[i] = new LegacyTicket(vendorId + "-" + (i % TICKETS_PER_RELEASE + 1), vendorId);
+        }
+        return tickets;
+    }
+
+    private static Object fillRingBuffer(int capacity) {
+        TicketIdGenerator generator = new TicketIdGenerator();
+        TicketRingBuffer tickets = new TicketRingBuffer(capacity);
+        for (int i = 0; i < capacity / TICKETS_PER_RELEASE; i++) {
+            tickets.addAll(generator.generate(String.valueOf(i % VENDORS + 1), TICKETS_PER_RELEASE));
+        }
+        return tickets;
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * The ticket as it was stored before ticket IDs were packed into a long.
+     */
+    private record LegacyTicket(String ticketId, String vendorId) {
+    }
+}
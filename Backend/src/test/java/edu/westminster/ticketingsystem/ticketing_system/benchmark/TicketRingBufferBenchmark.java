@@ -0,0 +1,69 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketRingBuffer;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the cost of retrieving tickets from a nearly full pool backed by an
+ * ArrayList (removing from the front with subList(0, n).clear()) and by a TicketRingBuffer,
+ * across growing pool capacities. The ring buffer cost should stay flat as capacity grows.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.TicketRingBufferBenchmark
+ */
+public class TicketRingBufferBenchmark {
+
+    private static final int TICKETS_PER_OPERATION = 5;
+    private static final int OPERATIONS = 20_000;
+    private static final int[] CAPACITIES = {1_000, 10_000, 100_000, 500_000};
+
+    public static void main(String[] args) {
+        long[] batchIds = new long[TICKETS_PER_OPERATION];
+        List<Ticket> batch = new ArrayList<>();
+        for (int i = 0; i < TICKETS_PER_OPERATION; i++) {
+            batchIds[i] = TicketId.of(1, 1, i);
+            batch.add(new Ticket(batchIds[i]));
+        }
+
+        // Warm up both implementations before measuring
+        runArrayList(10_000, batch);
+        runRingBuffer(10_000, batchIds);
+
+        System.out.printf("%12s %22s %22s%n", "capacity", "ArrayList ns/retrieval", "RingBuffer ns/retrieval");
+        for (int capacity : CAPACITIES) {
+            double arrayList = runArrayList(capacity, batch);
+            double ringBuffer = runRingBuffer(capacity, batchIds);
+            System.out.printf("%12d %22.1f %22.1f%n", capacity, arrayList, ringBuffer);
+        }
+    }
+
+    private static double runArrayList(int capacity, List<Ticket> batch) {
+        List<Ticket> tickets = new ArrayList<>(capacity);
+        while (tickets.size() + batch.size() <= capacity) {
+            tickets.addAll(batch);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            tickets.subList(0, TICKETS_PER_OPERATION).clear();
+            tickets.addAll(batch);
+        }
+        return (System.nanoTime() - start) / (double) OPERATIONS;
+    }
+
+    private static double runRingBuffer(int capacity, long[] batch) {
+        TicketRingBuffer tickets = new TicketRingBuffer(capacity);
+        while (tickets.addAll(batch)) {
+            // Fill the buffer to capacity
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            tickets.take(TICKETS_PER_OPERATION);
+            tickets.addAll(batch);
+        }
+        return (System.nanoTime() - start) / (double) OPERATIONS;
+    }
+}
@@ -0,0 +1,116 @@
+package edu.westminster.ticketingsystem.ticketing_system.benchmark;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.CombiningTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.FairTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.StripedTicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPool;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketId;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+import edu.westminster.ticketingsystem.ticketing_system.model.VendorReleaseMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares vendors that retry after their release interval when the pool is full with vendors
+ * that wait for space in the pool. Vendors supply more tickets than a single customer buys,
+ * so the pool is usually full; the customer repeatedly leaves the pool full for a while, buys half
+ * of it in one retrieval and waits for the pool to fill up again.
+ * Reports the number of failed releases and how long the pool took to refill after each retrieval.
+ *
+ * Run with: java -cp target/classes:target/test-classes
+ *     edu.westminster.ticketingsystem.ticketing_system.benchmark.VendorBackpressureBenchmark
+ */
+public class VendorBackpressureBenchmark {
+
+    private static final int CAPACITY = 1_000;
+    private static final int VENDORS = 20;
+    private static final int TICKETS_PER_RELEASE = 50;
+    private static final long RELEASE_INTERVAL_MILLIS = 100;
+    private static final int TICKETS_PER_RETRIEVAL = CAPACITY / 2;
+    private static final long FULL_POOL_MILLIS = 250;
+    private static final long DURATION_MILLIS = 3_000;
+    private static final TicketPoolMode[] MODES = {
+            TicketPoolMode.STRICT_FAIR, TicketPoolMode.HIGH_THROUGHPUT, TicketPoolMode.FLAT_COMBINING};
+
+    public static void main(String[] args) throws InterruptedException {
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+
+        System.out.printf("%16s %14s %14s %16s %18s%n",
+                "pool mode", "vendor mode", "failed adds", "retrievals", "mean refill ms");
+        for (TicketPoolMode mode : MODES) {
+            for (VendorReleaseMode releaseMode : VendorReleaseMode.values()) {
+                run(mode, releaseMode, pipeline);
+            }
+        }
+    }
+
+    private static void run(TicketPoolMode mode, VendorReleaseMode releaseMode, PoolEventPipeline pipeline)
+            throws InterruptedException {
+        ConfigurationData configurationData = new ConfigurationData();
+        configurationData.setMaxTicketCapacity(CAPACITY);
+        configurationData.setPoolMode(mode);
+        TicketPool pool = switch (mode) {
+            case HIGH_THROUGHPUT -> new StripedTicketPool(configurationData, pipeline.openStream("benchmark"));
+            case FLAT_COMBINING -> new CombiningTicketPool(configurationData, pipeline.openStream("benchmark"));
+            default -> new FairTicketPool(configurationData, pipeline.openStream("benchmark"));
+        };
+
+        LongAdder failedAdds = new LongAdder();
+        List<Thread> vendors = new ArrayList<>();
+        for (int v = 0; v < VENDORS; v++) {
+            long[] batch = new long[TICKETS_PER_RELEASE];
+            for (int i = 0; i < TICKETS_PER_RELEASE; i++) {
+                batch[i] = TicketId.of(1, v + 1, i);
+            }
+            vendors.add(new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        boolean added = releaseMode == VendorReleaseMode.BACKPRESSURE
+                                ? pool.addTickets(batch, DURATION_MILLIS, TimeUnit.MILLISECONDS)
+                                : pool.addTickets(batch);
+                        if (!added) {
+                            failedAdds.increment();
+                        }
+                        Thread.sleep(RELEASE_INTERVAL_MILLIS);
+                    }
+                } catch (InterruptedException e) {
+                    // Stop the vendor
+                }
+            }));
+        }
+        vendors.forEach(Thread::start);
+
+        long retrievals = 0;
+        long refillNanos = 0;
+        awaitFull(pool);
+        long end = System.currentTimeMillis() + DURATION_MILLIS;
+        while (System.currentTimeMillis() < end) {
+            Thread.sleep(FULL_POOL_MILLIS);
+            pool.retrieveTickets(new TicketRetrievalRequest("1", TICKETS_PER_RETRIEVAL, false));
+            long retrievedAt = System.nanoTime();
+            awaitFull(pool);
+            refillNanos += System.nanoTime() - retrievedAt;
+            retrievals++;
+        }
+
+        vendors.forEach(Thread::interrupt);
+        for (Thread vendor : vendors) {
+            vendor.join();
+        }
+        System.out.printf("%16s %14s %14d %16d %18.2f%n", mode, releaseMode, failedAdds.sum(), retrievals,
+                refillNanos / 1e6 / Math.max(1, retrievals));
+    }
+
+    private static void awaitFull(TicketPool pool) throws InterruptedException {
+        while (pool.snapshot().availableTickets() < CAPACITY) {
+            Thread.sleep(0, 100_000);
+        }
+    }
+}
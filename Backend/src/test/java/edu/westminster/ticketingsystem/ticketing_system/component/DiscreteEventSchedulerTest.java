@@ -0,0 +1,67 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering, action budget and expiries of the virtual-time scheduler.
+ */
+class DiscreteEventSchedulerTest {
+
+    @Test
+    void actionsDueAtTheSameTimeRunInScheduleOrder() {
+        DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        List<String> order = new ArrayList<>();
+        scheduler.schedule(20, () -> order.add("c"));
+        scheduler.schedule(10, () -> order.add("a"));
+        scheduler.schedule(10, () -> order.add("b"));
+
+        assertTrue(scheduler.runUntil(100, Long.MAX_VALUE));
+        assertEquals(List.of("a", "b", "c"), order);
+        assertEquals(100, scheduler.nanoTime());
+    }
+
+    @Test
+    void runStopsAtTheActionBudget() {
+        DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        List<Long> runs = new ArrayList<>();
+        scheduler.scheduleAtFixedRate(0, 10, () -> runs.add(scheduler.nanoTime()));
+
+        assertFalse(scheduler.runUntil(1_000, 5));
+        assertEquals(List.of(0L, 10L, 20L, 30L, 40L), runs);
+        assertEquals(5, scheduler.getProcessedActions());
+        assertEquals(40, scheduler.nanoTime(), "The clock stays at the last action run");
+
+        assertTrue(scheduler.runUntil(1_000, 200));
+        assertEquals(101, runs.size());
+        assertEquals(1_000, scheduler.nanoTime());
+    }
+
+    @Test
+    void expiryOfACompletedFutureIsDroppedWithoutCounting() throws Exception {
+        DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        CompletableFuture<String> completed = new CompletableFuture<>();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        scheduler.expireAfter(completed, 10, TimeUnit.NANOSECONDS);
+        scheduler.expireAfter(pending, 20, TimeUnit.NANOSECONDS);
+        scheduler.schedule(5, () -> completed.complete("served"));
+
+        // Budget for the completion and one expiry: the dropped expiry must not use it up
+        assertTrue(scheduler.runUntil(100, 2));
+        assertEquals("served", completed.get());
+        ExecutionException failure = assertThrows(ExecutionException.class, pending::get);
+        assertTrue(failure.getCause() instanceof TimeoutException);
+        assertEquals(2, scheduler.getProcessedActions());
+    }
+}
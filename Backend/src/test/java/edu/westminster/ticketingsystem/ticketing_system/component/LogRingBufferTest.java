@@ -0,0 +1,167 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogRingBufferTest {
+
+    @Test
+    void pagingVisitsEveryEntryOnce() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1_000, 0);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        long missed = 0;
+        long from = 0;
+        LogRingBuffer.Page<Integer> page;
+        do {
+            page = buffer.read(from, 7, value -> true);
+            page.entries().forEach(entry -> seen.add(entry.value()));
+            missed += page.missed();
+            from = page.nextSequence();
+        } while (page.hasMore());
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, seen);
+        assertEquals(0, missed);
+    }
+
+    @Test
+    void filteredPagingContinuesAfterTheExaminedEntries() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1_000, 0);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        long from = 0;
+        LogRingBuffer.Page<Integer> page;
+        do {
+            page = buffer.read(from, 3, value -> value % 10 == 0);
+            page.entries().forEach(entry -> seen.add(entry.value()));
+            from = page.nextSequence();
+        } while (page.hasMore());
+
+        assertEquals(List.of(0, 10, 20, 30, 40, 50, 60, 70, 80, 90), seen);
+    }
+
+    @Test
+    void entriesOverwrittenBeforeTheReadAreCountedAsMissed() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(10, 0);
+        for (int i = 0; i < 25; i++) {
+            buffer.add(i);
+        }
+
+        LogRingBuffer.Page<Integer> page = buffer.read(0, 100, value -> true);
+
+        assertEquals(15, page.entries().get(0).value());
+        assertEquals(10, page.entries().size());
+        assertEquals(15, page.missed());
+        assertEquals(25, page.nextSequence());
+        assertFalse(page.hasMore());
+        assertEquals(15, buffer.getEvictedByCapacity());
+    }
+
+    @Test
+    void lateWriterDoesNotOverwriteANewerEntry() throws InterruptedException {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(4, 0);
+        LateWriter late = LateWriter.claim(buffer, "late"); // Sequence 0
+        for (String value : List.of("b", "c", "d", "e")) {
+            buffer.add(value); // Sequence 4 maps to the late writer's slot
+        }
+        late.publish();
+
+        LogRingBuffer.Page<String> page = buffer.read(0, 10, value -> true);
+
+        assertEquals(List.of("b", "c", "d", "e"), page.entries().stream().map(LogRingBuffer.Entry::value).toList());
+        assertEquals(5, page.nextSequence());
+        assertFalse(page.hasMore());
+        assertEquals(1, page.missed());
+        assertEquals(1, buffer.getEvictedByCapacity());
+    }
+
+    @Test
+    void readSkipsASlotWhoseWriterFellACapacityBehind() throws InterruptedException {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(4, 0);
+        buffer.add("a");
+        LateWriter first = LateWriter.claim(buffer, "first late"); // Sequence 1
+        List<LateWriter> second = new ArrayList<>();
+
+        // While the read runs, the log moves more than a capacity past the first late writer
+        LogRingBuffer.Page<String> page = buffer.read(0, 10, value -> {
+            if (second.isEmpty()) {
+                buffer.add("c");
+                buffer.add("d");
+                buffer.add("e");
+                second.add(LateWriter.claim(buffer, "second late")); // Sequence 5, the same slot
+            }
+            return true;
+        });
+
+        assertEquals(List.of("a"), page.entries().stream().map(LogRingBuffer.Entry::value).toList());
+        assertEquals(1, page.missed());
+        assertEquals(2, page.nextSequence());
+
+        page = buffer.read(page.nextSequence(), 10, value -> true);
+        assertEquals(List.of("c", "d", "e"), page.entries().stream().map(LogRingBuffer.Entry::value).toList());
+        assertEquals(5, page.nextSequence());
+        assertTrue(page.hasMore()); // Sequence 5 is claimed but not published
+
+        first.publish();
+        second.get(0).publish();
+        page = buffer.read(page.nextSequence(), 10, value -> true);
+        assertEquals(List.of("second late"), page.entries().stream().map(LogRingBuffer.Entry::value).toList());
+        assertFalse(page.hasMore());
+    }
+
+    /**
+     * A writer that claims its sequence number and then waits before publishing its entry.
+     */
+    private static final class LateWriter {
+        private final CountDownLatch claimed = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Thread thread;
+
+        private LateWriter(LogRingBuffer<String> buffer, String value) {
+            thread = new Thread(() -> buffer.append(sequence -> {
+                claimed.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return value;
+            }));
+        }
+
+        static LateWriter claim(LogRingBuffer<String> buffer, String value) {
+            LateWriter writer = new LateWriter(buffer, value);
+            writer.thread.start();
+            try {
+                assertTrue(writer.claimed.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return writer;
+        }
+
+        void publish() throws InterruptedException {
+            release.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(thread.isAlive());
+        }
+    }
+}
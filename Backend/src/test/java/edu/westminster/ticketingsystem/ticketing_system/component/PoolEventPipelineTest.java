@@ -0,0 +1,76 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Backpressure of the pool event pipeline under the blocking overflow policy.
+ */
+class PoolEventPipelineTest {
+    private static final long WAIT_SECONDS = 10;
+
+    @Test
+    void fullBacklogOnlyHoldsBackItsOwnStream() throws Exception {
+        int capacity = 4;
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch otherDelivered = new CountDownLatch(capacity * 20);
+        // The consumer hangs on events of stream "a" until released; "a" and "b" are fed by different lanes
+        PoolEventConsumer consumer = new PoolEventConsumer() {
+            @Override
+            public String getName() {
+                return "test";
+            }
+
+            @Override
+            public void accept(PoolEvent event) {
+                if (event.streamKey().equals("a")) {
+                    try {
+                        stalled.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    otherDelivered.countDown();
+                }
+            }
+        };
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(consumer), capacity, 2, EventOverflowPolicy.BLOCK);
+        pipeline.start();
+        try {
+            Thread stalledPublisher = publish(pipeline.openStream("a"), capacity * 20);
+            Thread otherPublisher = publish(pipeline.openStream("b"), capacity * 20);
+
+            otherPublisher.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            assertTrue(otherDelivered.await(WAIT_SECONDS, TimeUnit.SECONDS), "The other stream was delivered");
+            assertTrue(stalledPublisher.isAlive(), "The stalled stream's publisher waits for its backlog");
+
+            stalled.countDown();
+            stalledPublisher.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            assertFalse(stalledPublisher.isAlive(), "The stalled stream's publisher resumed");
+        } finally {
+            stalled.countDown();
+            pipeline.stop();
+        }
+    }
+
+    private Thread publish(PoolEventStream stream, int events) {
+        Thread publisher = new Thread(() -> {
+            for (int i = 0; i < events; i++) {
+                stream.append(sequence -> new PoolEvent.RetrievalFailed(stream.getKey(), sequence, "customer",
+                        PriorityClass.GENERAL, "test"));
+                stream.awaitBacklog();
+            }
+        });
+        publisher.start();
+        return publisher;
+    }
+}
@@ -0,0 +1,133 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.SeatLocation;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Block allocation of the seat map: the first row whose longest run of free seats holds a block serves it.
+ */
+class SeatMapTest {
+
+    @Test
+    void blockThatOnlyFitsInALaterRowIsTakenThere() {
+        SeatMap seatMap = new SeatMap(12, 1, 4);
+        assertTrue(seatMap.addAll(ticketIds(1, 12)));
+
+        assertEquals(List.of(seat(1, 1, 1), seat(1, 1, 2), seat(1, 1, 3)), seats(seatMap.take(3)));
+        // One seat is left in the first row, so a pair goes to the second
+        List<Ticket> pair = seatMap.take(2);
+        assertEquals(List.of(seat(1, 2, 1), seat(1, 2, 2)), seats(pair));
+        assertEquals(List.of(5L, 6L), ids(pair));
+        assertEquals(List.of(seat(1, 3, 1), seat(1, 3, 2), seat(1, 3, 3), seat(1, 3, 4)), seats(seatMap.take(4)));
+        assertEquals(List.of(seat(1, 1, 4)), seats(seatMap.take(1)));
+        assertEquals(2, seatMap.size());
+    }
+
+    @Test
+    void fragmentedRowsCannotServeABlockLargerThanTheirLongestRun() {
+        SeatMap seatMap = new SeatMap(12, 1, 4);
+        assertTrue(seatMap.addAll(ticketIds(1, 12)));
+        for (int row = 1; row <= 3; row++) {
+            assertEquals(seat(1, row, 1), seats(seatMap.take(3)).get(0));
+        }
+
+        // Three seats are left, one in each row
+        assertEquals(3, seatMap.size());
+        assertFalse(seatMap.canTake(2));
+        assertTrue(seatMap.take(2).isEmpty());
+        assertEquals(3, seatMap.size());
+        assertTrue(seatMap.canTake(1));
+        assertEquals(List.of(seat(1, 1, 4)), seats(seatMap.take(1)));
+        assertEquals(List.of(seat(1, 2, 4)), seats(seatMap.take(1)));
+        assertEquals(List.of(seat(1, 3, 4)), seats(seatMap.take(1)));
+        assertFalse(seatMap.canTake(1));
+    }
+
+    @Test
+    void shortLastRowOfASectionOnlyServesBlocksThatFit() {
+        // Two sections of five seats: rows of four and one seat each
+        SeatMap seatMap = new SeatMap(10, 2, 4);
+        assertTrue(seatMap.addAll(ticketIds(1, 10)));
+
+        assertEquals(seat(1, 1, 1), seats(seatMap.take(4)).get(0));
+        assertEquals(seat(2, 1, 1), seats(seatMap.take(4)).get(0));
+        assertFalse(seatMap.canTake(2));
+        assertTrue(seatMap.take(2).isEmpty());
+        List<Ticket> single = seatMap.take(1);
+        assertEquals(List.of(seat(1, 2, 1)), seats(single));
+        assertEquals(List.of(5L), ids(single));
+        assertEquals(List.of(seat(2, 2, 1)), seats(seatMap.take(1)));
+        assertEquals(0, seatMap.size());
+    }
+
+    @Test
+    void shortLastRowOfTheVenueIsUsedOnceReleased() {
+        SeatMap seatMap = new SeatMap(10, 1, 4);
+        assertTrue(seatMap.addAll(ticketIds(1, 8)));
+        assertFalse(seatMap.canTake(5));
+        seatMap.take(4);
+        seatMap.take(4);
+        assertFalse(seatMap.canTake(1));
+
+        assertTrue(seatMap.addAll(ticketIds(9, 2)));
+        assertFalse(seatMap.canTake(3));
+        assertEquals(List.of(seat(1, 3, 1), seat(1, 3, 2)), seats(seatMap.take(2)));
+        assertFalse(seatMap.addAll(ticketIds(11, 1)));
+    }
+
+    @Test
+    void capacityBelowSectionCountGivesEverySeatItsOwnSection() {
+        SeatMap seatMap = new SeatMap(2, 4, 3);
+        assertTrue(seatMap.addAll(ticketIds(1, 2)));
+
+        assertFalse(seatMap.canTake(2));
+        assertEquals(List.of(seat(1, 1, 1)), seats(seatMap.take(1)));
+        assertEquals(List.of(seat(2, 1, 1)), seats(seatMap.take(1)));
+        assertTrue(seatMap.take(1).isEmpty());
+        assertFalse(seatMap.addAll(ticketIds(3, 1)));
+    }
+
+    @Test
+    void clearedSeatMapSellsTheWholeVenueAgain() {
+        SeatMap seatMap = new SeatMap(8, 1, 4);
+        assertTrue(seatMap.addAll(ticketIds(1, 8)));
+        seatMap.take(4);
+        seatMap.take(3);
+
+        seatMap.clear();
+        assertEquals(0, seatMap.size());
+        assertFalse(seatMap.canTake(1));
+        assertTrue(seatMap.take(1).isEmpty());
+
+        assertTrue(seatMap.addAll(ticketIds(101, 8)));
+        assertFalse(seatMap.addAll(ticketIds(109, 1)));
+        List<Ticket> row = seatMap.take(4);
+        assertEquals(List.of(seat(1, 1, 1), seat(1, 1, 2), seat(1, 1, 3), seat(1, 1, 4)), seats(row));
+        assertEquals(List.of(101L, 102L, 103L, 104L), ids(row));
+        assertEquals(List.of(seat(1, 2, 1), seat(1, 2, 2), seat(1, 2, 3), seat(1, 2, 4)), seats(seatMap.take(4)));
+    }
+
+    private static long[] ticketIds(long first, int count) {
+        return LongStream.range(first, first + count).toArray();
+    }
+
+    private static SeatLocation seat(int section, int row, int seat) {
+        return new SeatLocation(section, row, seat);
+    }
+
+    private static List<SeatLocation> seats(List<Ticket> tickets) {
+        return tickets.stream().map(Ticket::getSeat).toList();
+    }
+
+    private static List<Long> ids(List<Ticket> tickets) {
+        return tickets.stream().map(Ticket::getId).toList();
+    }
+}
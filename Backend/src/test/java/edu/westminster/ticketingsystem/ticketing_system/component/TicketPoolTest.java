@@ -0,0 +1,333 @@
+package edu.westminster.ticketingsystem.ticketing_system.component;
+
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolCounters;
+import edu.westminster.ticketingsystem.ticketing_system.model.PoolEvent;
+import edu.westminster.ticketingsystem.ticketing_system.model.PriorityClass;
+import edu.westminster.ticketingsystem.ticketing_system.model.Ticket;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketRetrievalRequest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Behaviour every general admission pool engine shares. The seat map engine is left out because its
+ * capacity follows from a seat layout.
+ */
+class TicketPoolTest {
+    private static final long WAIT_SECONDS = 10;
+
+    private final TicketIdGenerator ticketIdGenerator = new TicketIdGenerator();
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void ticketsAreConservedUnderConcurrentAddAndRetrieve(TicketPoolMode mode) throws Exception {
+        TicketPool pool = createPool(mode, 50);
+        int vendors = 4;
+        int releasesPerVendor = 200;
+        int ticketsPerRelease = 2;
+        int customers = 4;
+        int retrievalsPerCustomer = releasesPerVendor * ticketsPerRelease;
+        Set<Long> released = ConcurrentHashMap.newKeySet();
+        Set<Long> retrieved = ConcurrentHashMap.newKeySet();
+        List<Long> duplicates = new ArrayList<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int v = 0; v < vendors; v++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < releasesPerVendor; i++) {
+                    long[] ticketIds = ticketIdGenerator.generate("1", ticketsPerRelease);
+                    for (long ticketId : ticketIds) {
+                        released.add(ticketId);
+                    }
+                    assertTrue(addTickets(pool, ticketIds));
+                }
+            }));
+        }
+        for (int c = 0; c < customers; c++) {
+            PriorityClass priorityClass = c % 2 == 0 ? PriorityClass.VIP : PriorityClass.GENERAL;
+            String customerId = String.valueOf(c + 1);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < retrievalsPerCustomer; i++) {
+                    for (Ticket ticket : await(pool.retrieveTicketsAsync(
+                            new TicketRetrievalRequest(customerId, 1, priorityClass)))) {
+                        if (!retrieved.add(ticket.getId())) {
+                            synchronized (duplicates) {
+                                duplicates.add(ticket.getId());
+                            }
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        joinAll(threads);
+
+        int total = vendors * releasesPerVendor * ticketsPerRelease;
+        PoolCounters counters = pool.snapshot();
+        assertEquals(List.of(), duplicates);
+        assertEquals(released, retrieved);
+        assertEquals(total, counters.totalTicketsAdded());
+        assertEquals(total, counters.totalTicketsRetrieved());
+        assertEquals(0, counters.availableTickets());
+        assertEquals(total, counters.totalVIPRetrievals() + counters.totalNormalRetrievals());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void vipRequestsAreServedBeforeGeneralOnesAndInArrivalOrderWithinAClass(TicketPoolMode mode) {
+        TicketPool pool = createPool(mode, 10);
+        List<String> order = List.of("general 1", "vip 1", "general 2", "vip 2", "general 3");
+        List<CompletableFuture<List<Ticket>>> futures = new ArrayList<>();
+        for (String customerId : order) {
+            PriorityClass priorityClass = customerId.startsWith("vip") ? PriorityClass.VIP : PriorityClass.GENERAL;
+            futures.add(pool.retrieveTicketsAsync(new TicketRetrievalRequest(customerId, 1, priorityClass)));
+        }
+
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            assertTrue(pool.addTickets(ticketIdGenerator.generate("1", 1)));
+            for (int j = 0; j < order.size(); j++) {
+                if (futures.get(j).isDone() && !served.contains(order.get(j))) {
+                    served.add(order.get(j));
+                }
+            }
+            assertEquals(i + 1, served.size(), "Each ticket serves exactly one waiting request");
+        }
+        assertEquals(List.of("vip 1", "vip 2", "general 1", "general 2", "general 3"), served);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void timedOutRequestLeavesTheQueue(TicketPoolMode mode) throws Exception {
+        TicketPool pool = createPool(mode, 10);
+
+        assertFalse(pool.retrieveTickets(new TicketRetrievalRequest("vip", 5, PriorityClass.VIP),
+                50, TimeUnit.MILLISECONDS));
+        CompletableFuture<List<Ticket>> general =
+                pool.retrieveTicketsAsync(new TicketRetrievalRequest("general", 1, PriorityClass.GENERAL));
+        assertTrue(pool.addTickets(ticketIdGenerator.generate("1", 1)));
+
+        assertEquals(1, general.get(WAIT_SECONDS, TimeUnit.SECONDS).size());
+        assertEquals(1, pool.getRetrievalTimeoutCount());
+        assertEquals(0, pool.snapshot().availableTickets());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void abandonedAsynchronousRequestLeavesTheQueue(TicketPoolMode mode) throws Exception {
+        TicketPool pool = createPool(mode, 10);
+
+        CompletableFuture<List<Ticket>> vip =
+                pool.retrieveTicketsAsync(new TicketRetrievalRequest("vip", 5, PriorityClass.VIP));
+        vip.completeExceptionally(new TimeoutException());
+        CompletableFuture<List<Ticket>> general =
+                pool.retrieveTicketsAsync(new TicketRetrievalRequest("general", 1, PriorityClass.GENERAL));
+        assertTrue(pool.addTickets(ticketIdGenerator.generate("1", 1)));
+
+        assertEquals(1, general.get(WAIT_SECONDS, TimeUnit.SECONDS).size());
+        assertEquals(0, pool.snapshot().availableTickets());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void retrievalRacingItsTimeoutIsEitherServedOrTimedOut(TicketPoolMode mode) throws Exception {
+        int requests = 2000;
+        // A slow consumer keeps the backlog full, so completions wait for it after the pool lock is released
+        PoolEventConsumer slowConsumer = new PoolEventConsumer() {
+            @Override
+            public String getName() {
+                return "slow";
+            }
+
+            @Override
+            public void accept(PoolEvent event) {
+                LockSupport.parkNanos(50_000);
+            }
+        };
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(slowConsumer), 1, 1, EventOverflowPolicy.BLOCK);
+        pipeline.start();
+        TicketPool pool = createPool(mode, requests, pipeline.openStream("test"));
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread vendor = new Thread(() -> {
+            while (running.get()) {
+                addTickets(pool, ticketIdGenerator.generate("1", 1), 5);
+                LockSupport.parkNanos(20_000);
+            }
+        });
+        vendor.start();
+        List<CompletableFuture<List<Ticket>>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(pool.retrieveTicketsAsync(new TicketRetrievalRequest("customer", 1, PriorityClass.GENERAL))
+                    .orTimeout(ThreadLocalRandom.current().nextLong(10_000, 100_000), TimeUnit.NANOSECONDS));
+            LockSupport.parkNanos(10_000);
+        }
+        running.set(false);
+        joinAll(List.of(vendor));
+        pipeline.stop();
+
+        int served = 0;
+        int timedOut = 0;
+        for (CompletableFuture<List<Ticket>> future : futures) {
+            try {
+                served += future.get(WAIT_SECONDS, TimeUnit.SECONDS).size();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof TimeoutException);
+                timedOut++;
+            }
+        }
+        PoolCounters counters = pool.snapshot();
+        assertEquals(served, counters.totalTicketsRetrieved(), "Every ticket taken reached its customer");
+        assertEquals(counters.totalTicketsAdded() - served, counters.availableTickets());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (pool.getRetrievalTimeoutCount() < timedOut && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(timedOut, pool.getRetrievalTimeoutCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void clearingFailsBlockedSynchronousRequest(TicketPoolMode mode) throws Exception {
+        TicketPool pool = createPool(mode, 10);
+        CompletableFuture<Boolean> retrieved = new CompletableFuture<>();
+        Thread customer = new Thread(() -> retrieved.complete(retrieveTickets(pool,
+                new TicketRetrievalRequest("customer", 1, PriorityClass.GENERAL),
+                TimeUnit.SECONDS.toMillis(WAIT_SECONDS * 6))));
+        customer.start();
+        while (customer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+
+        pool.clearPoolData();
+
+        assertFalse(retrieved.get(WAIT_SECONDS, TimeUnit.SECONDS), "The request fails instead of waiting across the clear");
+        joinAll(List.of(customer));
+        assertEquals(0, pool.getSpuriousWakeUpCount());
+        assertEquals(0, pool.getRetrievalTimeoutCount());
+        assertTrue(pool.addTickets(ticketIdGenerator.generate("1", 1)));
+        assertEquals(1, pool.snapshot().availableTickets());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void clearingWhileVendorsAndCustomersAreActiveKeepsTheCountersConsistent(TicketPoolMode mode)
+            throws Exception {
+        int capacity = 20;
+        TicketPool pool = createPool(mode, capacity);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> {
+                while (running.get()) {
+                    addTickets(pool, ticketIdGenerator.generate("1", 3), 5);
+                }
+            }));
+            PriorityClass priorityClass = i == 0 ? PriorityClass.VIP : PriorityClass.GENERAL;
+            threads.add(new Thread(() -> {
+                while (running.get()) {
+                    retrieveTickets(pool, new TicketRetrievalRequest("customer", 2, priorityClass), 5);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (int i = 0; i < 20; i++) {
+            Thread.sleep(10);
+            pool.clearPoolData();
+        }
+        running.set(false);
+        joinAll(threads);
+
+        PoolCounters counters = pool.snapshot();
+        int available = counters.availableTickets();
+        assertEquals(counters.totalTicketsAdded() - counters.totalTicketsRetrieved(), available);
+        assertTrue(available >= 0 && available <= capacity);
+
+        // The inventory holds exactly the tickets the counters account for
+        if (available > 0) {
+            assertEquals(available, pool.retrieveTicketsAsync(
+                    new TicketRetrievalRequest("drain", available, PriorityClass.GENERAL))
+                    .get(WAIT_SECONDS, TimeUnit.SECONDS).size());
+        }
+        assertFalse(pool.retrieveTicketsAsync(new TicketRetrievalRequest("empty", 1, PriorityClass.GENERAL))
+                .isDone());
+        pool.clearPoolData();
+        assertTrue(pool.addTickets(ticketIdGenerator.generate("1", capacity)));
+        assertFalse(pool.addTickets(ticketIdGenerator.generate("1", 1)));
+    }
+
+    private static TicketPool createPool(TicketPoolMode mode, int capacity) {
+        return createPool(mode, capacity,
+                new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST).openStream("test"));
+    }
+
+    private static TicketPool createPool(TicketPoolMode mode, int capacity, PoolEventStream eventStream) {
+        ConfigurationData configurationData = new ConfigurationData();
+        configurationData.setMaxTicketCapacity(capacity);
+        configurationData.setPoolMode(mode);
+        return switch (mode) {
+            case STRICT_FAIR -> new FairTicketPool(configurationData, eventStream);
+            case HIGH_THROUGHPUT -> new StripedTicketPool(configurationData, eventStream);
+            case FLAT_COMBINING -> new CombiningTicketPool(configurationData, eventStream);
+            case SEAT_MAP -> throw new IllegalArgumentException("Seat map pools need a seat layout");
+        };
+    }
+
+    private static boolean addTickets(TicketPool pool, long[] ticketIds) {
+        return addTickets(pool, ticketIds, TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+    }
+
+    private static boolean addTickets(TicketPool pool, long[] ticketIds, long timeoutMillis) {
+        try {
+            return pool.addTickets(ticketIds, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean retrieveTickets(TicketPool pool, TicketRetrievalRequest request, long timeoutMillis) {
+        try {
+            return pool.retrieveTickets(request, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Ticket> await(CompletableFuture<List<Ticket>> future) {
+        try {
+            return future.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        Set<Thread> alive = new HashSet<>();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS * 3));
+            if (thread.isAlive()) {
+                alive.add(thread);
+            }
+        }
+        assertEquals(Set.of(), alive, "Threads did not finish");
+    }
+}
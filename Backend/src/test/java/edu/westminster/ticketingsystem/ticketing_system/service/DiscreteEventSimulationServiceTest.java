@@ -0,0 +1,59 @@
+package edu.westminster.ticketingsystem.ticketing_system.service;
+
+import edu.westminster.ticketingsystem.ticketing_system.component.PoolEventPipeline;
+import edu.westminster.ticketingsystem.ticketing_system.component.TicketPoolRegistry;
+import edu.westminster.ticketingsystem.ticketing_system.config.SystemConfiguration;
+import edu.westminster.ticketingsystem.ticketing_system.model.ConfigurationData;
+import edu.westminster.ticketingsystem.ticketing_system.model.EventOverflowPolicy;
+import edu.westminster.ticketingsystem.ticketing_system.model.TicketPoolMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reproducibility of virtual-time runs.
+ */
+class DiscreteEventSimulationServiceTest {
+    private static final long SEED = 42;
+
+    @ParameterizedTest
+    @EnumSource(value = TicketPoolMode.class, names = "SEAT_MAP", mode = EnumSource.Mode.EXCLUDE)
+    void sameSeedGivesTheSameResults(TicketPoolMode mode) {
+        DiscreteEventSimulationService service = createService(mode);
+
+        Map<String, Object> first = service.runSimulation(5, 20, 5, List.of("default"), 60_000, SEED);
+        Map<String, Object> second = service.runSimulation(5, 20, 5, List.of("default"), 60_000, SEED);
+
+        assertEquals(true, first.get("completed"));
+        assertTrue((long) first.get("retrievalTimeouts") > 0, "Demand exceeds supply, so retrievals time out");
+        assertEquals(withoutTiming(first), withoutTiming(second));
+    }
+
+    private static DiscreteEventSimulationService createService(TicketPoolMode mode) {
+        ConfigurationData configurationData = new ConfigurationData();
+        configurationData.setPoolMode(mode);
+        configurationData.setMaxTicketCapacity(100);
+        configurationData.setTicketReleaseRate(2);
+        configurationData.setTicketReleaseInterval(1_000);
+        configurationData.setCustomerRetrievalRate(1);
+        configurationData.setCustomerRetrievalInterval(500);
+        configurationData.setCustomerRetrievalTimeout(1_000);
+        SystemConfiguration systemConfiguration = new SystemConfiguration(configurationData);
+        systemConfiguration.setSystemConfigured(true);
+        PoolEventPipeline pipeline = new PoolEventPipeline(List.of(), 1, 1, EventOverflowPolicy.DROP_NEWEST);
+        return new DiscreteEventSimulationService(new TicketPoolRegistry(systemConfiguration, pipeline),
+                new SimulationValidationService(), systemConfiguration);
+    }
+
+    private static Map<String, Object> withoutTiming(Map<String, Object> statistics) {
+        Map<String, Object> copy = new HashMap<>(statistics);
+        copy.remove("elapsedMillis");
+        return copy;
+    }
+}
@@ -26,8 +26,17 @@ export const getSimulationStatus = async () => {
   return response.data;
 };
 
+// Fetch a page of simulation logs made after the given log sequence number
+export const fetchLogs = async (after = -1, limit = 1000, action, participantId) => {
+  const response = await axios.get(`${API_URL}/simulation/logs`, {
+    params: { after, limit, action, participantId },
+    paramsSerializer: { indexes: null }, // Repeats "action" for each filtered action
+  });
+  return response.data;
+};
+
 // Start simulation
-export const startSimulation = async (numberOfCustomers, numberOfVendors, numberOfVIPCustomers) => {
+export const startSimulation = async (numberOfCustomers, numberOfVendors, numberOfVIPCustomers, threadMode) => {
   const response = await axios.post(
     `${API_URL}/simulation/start`,
     null, // No request body
@@ -36,12 +45,46 @@ export const startSimulation = async (numberOfCustomers, numberOfVendors, number
         numberOfCustomers,
         numberOfVendors,
         numberOfVIPCustomers,
+        threadMode,
+      },
+    }
+  );
+  return response.data;
+};
+
+// Run a simulation scenario in virtual time (returns its statistics once finished)
+export const runDiscreteEventSimulation = async (numberOfCustomers, numberOfVendors, numberOfVIPCustomers,
+                                                 durationMillis, seed) => {
+  const response = await axios.post(
+    `${API_URL}/simulation/discrete-event`,
+    null, // No request body
+    {
+      params: {
+        numberOfCustomers,
+        numberOfVendors,
+        numberOfVIPCustomers,
+        durationMillis,
+        seed: seed === "" ? undefined : seed,
       },
     }
   );
   return response.data;
 };
 
+// Start a simulation that runs through the stages of a load profile
+export const startLoadProfile = async (loadProfile, threadMode = "PLATFORM") => {
+  const response = await axios.post(`${API_URL}/simulation/load-profile`, loadProfile, {
+    params: { threadMode },
+  });
+  return response.data;
+};
+
+// Fetch the per-stage report of the current or last load profile
+export const fetchLoadProfileReport = async () => {
+  const response = await axios.get(`${API_URL}/simulation/load-profile/report`);
+  return response.data;
+};
+
 // Stop simulation
 export const stopSimulation = async () => {
   const response = await axios.post(`${API_URL}/simulation/stop`);
@@ -72,18 +115,50 @@ export const removeVendor = async (vendorId) => {
   return response.data;
 };
 
-// Add a customer (Normal or VIP)
-export const addCustomer = async (isVIP) => {
+// Add a customer (Normal or VIP, or of another priority class when one is given)
+export const addCustomer = async (isVIP, priorityClass) => {
   const response = await axios.post(`${API_URL}/participants/customer/add`, null, {
-    params: { isVIP },
+    params: { isVIP, priorityClass },
   });
   return response.data;
 };
 
-// Remove a customer (Normal or VIP)
-export const removeCustomer = async (customerId, isVIP) => {
+// Remove a customer (Normal or VIP, or of another priority class when one is given)
+export const removeCustomer = async (customerId, isVIP, priorityClass) => {
   const response = await axios.delete(`${API_URL}/participants/customer/remove/${customerId}`, {
-    params: { isVIP },
+    params: { isVIP, priorityClass },
+  });
+  return response.data;
+};
+
+// Add a number of vendors in one call
+export const addVendors = async (count) => {
+  const response = await axios.post(`${API_URL}/participants/vendor/bulk-add`, null, {
+    params: { count },
+  });
+  return response.data;
+};
+
+// Remove a number of vendors in one call
+export const removeVendors = async (count) => {
+  const response = await axios.delete(`${API_URL}/participants/vendor/bulk-remove`, {
+    params: { count },
+  });
+  return response.data;
+};
+
+// Add a number of customers of one type in one call
+export const addCustomers = async (count, isVIP, priorityClass) => {
+  const response = await axios.post(`${API_URL}/participants/customer/bulk-add`, null, {
+    params: { count, isVIP, priorityClass },
+  });
+  return response.data;
+};
+
+// Remove a number of customers of one type in one call
+export const removeCustomers = async (count, isVIP, priorityClass) => {
+  const response = await axios.delete(`${API_URL}/participants/customer/bulk-remove`, {
+    params: { count, isVIP, priorityClass },
   });
   return response.data;
 };
\ No newline at end of file
@@ -1,6 +1,6 @@
-import React, { createContext, useState, useEffect } from "react";
+import React, { createContext, useState, useEffect, useRef } from "react";
 import { Client } from "@stomp/stompjs";
-import { getSimulationStatus, resetSimulation } from "../api";
+import { fetchLogs, getSimulationStatus, resetSimulation } from "../api";
 import { createStateMapper, updateStateFromResponse } from "../utils/stateMapper";
 
 // Context for managing WebSocket-related state and functionality
@@ -20,6 +20,8 @@ export const WebSocketProvider = ({ children }) => {
   const [numberOfVIPCustomers, setNumberOfVIPCustomers] = useState(null);
   const [isLoading, setIsLoading] = useState(true);
   const [connectionStatus, setConnectionStatus] = useState("connecting");
+  const [salesByMinute, setSalesByMinute] = useState([]);
+  const lastPoolCounters = useRef(null);
 
   // Dynamically map state setters for updating state based on responses
   const stateMapper = createStateMapper({
@@ -39,7 +41,18 @@ export const WebSocketProvider = ({ children }) => {
     const fetchInitialData = async () => {
       try {
         const statusResponse = await getSimulationStatus();
-        updateStateFromResponse(statusResponse, stateMapper, setLogs);
+        updateStateFromResponse(statusResponse, stateMapper);
+
+        // Page through the log history made before connecting; later logs arrive live
+        let page = await fetchLogs(-1);
+        const latestSequence = page.latestSequence;
+        const history = [...page.logs];
+        while (page.hasMore && page.nextAfter < latestSequence) {
+          page = await fetchLogs(page.nextAfter);
+          history.push(...page.logs);
+        }
+        const after = page.nextAfter;
+        setLogs((liveLogs) => [...history, ...liveLogs.filter((log) => log.sequence > after)]);
       } catch (error) {
         console.error("Failed to fetch initial simulation data:", error);
       } finally {
@@ -61,27 +74,21 @@ export const WebSocketProvider = ({ children }) => {
           setSimulationStatus(isRunning);
         });
 
-        // Subscribe to real-time logs
-        client.subscribe("/topic/realtime-logs", (message) => {
-          const log = JSON.parse(message.body);
-          const { action, details } = log;
-
-          // Update state based on actions
-          if (
-            action === "TICKET_ADD" ||
-            action === "TICKET_RETRIEVAL" ||
-            action === "POOL_CLEARED"
-          ) {
-            updateStateFromResponse(details, stateMapper);
-          }
-
-          if (action === "SIMULATION_STARTED" || action === "USER_UPDATE") {
-            setNumberOfCustomers(details.numberOfCustomers || 0);
-            setNumberOfVIPCustomers(details.numberOfVIPCustomers || 0);
-            setNumberOfVendors(details.numberOfVendors || 0);
-          }
+        // Subscribe to pool statistics; the current snapshot arrives as soon as the subscription is made,
+        // and a new one whenever the counters or participant counts change
+        client.subscribe("/topic/pool-stats", (message) => {
+          const stats = JSON.parse(message.body);
+          // The dashboard tracks the default event's pool
+          const counters = stats.events.default || {};
+          updateStateFromResponse({ ...stats, ...counters }, stateMapper);
+          recordSales(counters);
+        });
 
-          setLogs((prevLogs) => [...prevLogs, log]);
+        // Subscribe to real-time logs, which arrive in batches of logs in the order they were made
+        client.subscribe("/topic/realtime-logs", (message) => {
+          const body = JSON.parse(message.body);
+          const batch = Array.isArray(body) ? body : [body];
+          setLogs((prevLogs) => [...prevLogs, ...batch]);
         });
       },
       onStompError: (error) => {
@@ -109,6 +116,29 @@ export const WebSocketProvider = ({ children }) => {
     };
   }, []);
 
+  // Adds the tickets retrieved since the previous snapshot to the sales of the current minute
+  const recordSales = (counters) => {
+    const previous = lastPoolCounters.current;
+    lastPoolCounters.current = counters;
+    if (!previous) {
+      return; // The first snapshot only sets the baseline
+    }
+    const vip = counters.totalVIPRetrievals - previous.totalVIPRetrievals;
+    const normal = counters.totalNormalRetrievals - previous.totalNormalRetrievals;
+    if (vip < 0 || normal < 0 || vip + normal === 0) {
+      return; // The pool was cleared, or nothing was sold
+    }
+    const now = new Date();
+    const time = `${now.getHours()}:${now.getMinutes()}`;
+    setSalesByMinute((prevSales) => {
+      const last = prevSales[prevSales.length - 1];
+      if (last && last.time === time) {
+        return [...prevSales.slice(0, -1), { time, vip: last.vip + vip, normal: last.normal + normal }];
+      }
+      return [...prevSales, { time, vip, normal }];
+    });
+  };
+
   // Reset simulation data to initial state
   const resetSimulationData = async () => {
     setIsLoading(true);
@@ -143,6 +173,7 @@ export const WebSocketProvider = ({ children }) => {
         setNumberOfVendors,
         isLoading,
         connectionStatus,
+        salesByMinute,
         resetSimulationData,
       }}
     >
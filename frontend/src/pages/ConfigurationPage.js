@@ -1,7 +1,19 @@
 import React, { useEffect, useState } from "react";
 import { fetchConfiguration, updateConfiguration } from "../api";
 import { validateField } from "../utils/validation";
-import { TextField, Button, Box, Alert, Typography } from "@mui/material";
+import { TextField, Button, Box, Alert, Typography, MenuItem } from "@mui/material";
+
+// Configuration fields that take one of a fixed set of values instead of a number
+const OPTION_FIELDS = {
+  poolMode: ["STRICT_FAIR", "HIGH_THROUGHPUT", "FLAT_COMBINING", "SEAT_MAP"],
+  schedulingPolicy: ["STRICT_PRIORITY", "AGING", "WEIGHTED"],
+  customerRetrievalMode: ["BLOCKING", "ASYNC"],
+  vendorReleaseMode: ["RETRY", "BACKPRESSURE"],
+  arrivalModel: ["CLOSED_LOOP", "CONSTANT_RATE", "POISSON", "BURSTY"],
+};
+
+// Configuration fields that hold an ordered list of values, edited as comma-separated text
+const LIST_FIELDS = ["priorityClasses"];
 
 const ConfigurationPage = () => {
   const [formData, setFormData] = useState({
@@ -11,6 +23,19 @@ const ConfigurationPage = () => {
     customerRetrievalRate: "",
     customerRetrievalInterval: "",
     maxTicketCapacity: "",
+    poolMode: "STRICT_FAIR",
+    schedulingPolicy: "STRICT_PRIORITY",
+    priorityClasses: ["PLATINUM", "VIP", "MEMBER", "PRESALE", "GENERAL"],
+    vipServiceRatio: 4,
+    priorityAgingInterval: 2000,
+    customerRetrievalTimeout: 0,
+    customerRetrievalMode: "BLOCKING",
+    arrivalModel: "CLOSED_LOOP",
+    arrivalBurstSize: 10,
+    vendorReleaseMode: "RETRY",
+    vendorBackpressureTimeout: 0,
+    seatSections: 1,
+    seatsPerRow: 20,
   });
 
   const [systemConfigured, setSystemConfigured] = useState(false);
@@ -44,6 +69,15 @@ const ConfigurationPage = () => {
   // Handle form input changes with validation
   const handleChange = (e) => {
     const { name, value } = e.target;
+    if (OPTION_FIELDS[name]) {
+      setFormData((prevData) => ({ ...prevData, [name]: value }));
+      return;
+    }
+    if (LIST_FIELDS.includes(name)) {
+      const values = value.split(",").map((item) => item.trim().toUpperCase());
+      setFormData((prevData) => ({ ...prevData, [name]: values }));
+      return;
+    }
     const parsedValue = value === "" ? "" : parseInt(value, 10);
     const error = validateField(name, parsedValue);
 
@@ -61,6 +95,7 @@ const ConfigurationPage = () => {
     // Validate all fields
     const formErrors = {};
     Object.keys(formData).forEach((key) => {
+      if (OPTION_FIELDS[key] || LIST_FIELDS.includes(key)) return;
       const error = validateField(key, formData[key]);
       if (error) formErrors[key] = error;
     });
@@ -126,14 +161,21 @@ const ConfigurationPage = () => {
               .replace(/([A-Z])/g, " $1")
               .replace(/^./, (str) => str.toUpperCase())}
             name={key}
-            value={formData[key]}
+            value={LIST_FIELDS.includes(key) ? formData[key].join(", ") : formData[key]}
             onChange={handleChange}
             fullWidth
             required
             sx={{ marginBottom: 2 }}
             error={!!errors[key]}
             helperText={errors[key]}
-          />
+            select={!!OPTION_FIELDS[key]}
+          >
+            {OPTION_FIELDS[key]?.map((option) => (
+              <MenuItem key={option} value={option}>
+                {option}
+              </MenuItem>
+            ))}
+          </TextField>
         ))}
         <Button
           type="submit"
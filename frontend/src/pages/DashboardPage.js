@@ -1,4 +1,4 @@
-import React, { useContext, useState, useEffect } from "react";
+import React, { useContext } from "react";
 import { WebSocketContext } from "../context/WebSocketContext";
 import { Box, Typography, Card, CardContent } from "@mui/material";
 import { Bar, Pie, Line } from "react-chartjs-2";
@@ -19,7 +19,7 @@ ChartJS.register(CategoryScale, LinearScale, BarElement, ArcElement, PointElemen
 
 const AnalyticsDashboard = () => {
   const {
-    logs,
+    salesByMinute,
     simulationStatus,
     availableTickets,
     totalTicketsAdded,
@@ -28,45 +28,12 @@ const AnalyticsDashboard = () => {
     totalNormalRetrievals,
   } = useContext(WebSocketContext);
 
-  const [groupedSales, setGroupedSales] = useState([]);
-
-  // Process logs to extract VIP and Normal sales for line chart
-  useEffect(() => {
-    const salesData = {};
-
-    logs.forEach((log) => {
-      const { timestamp, action, details } = log;
-      if (action === "TICKET_RETRIEVAL") {
-        const time = new Date(timestamp);
-        const minuteKey = `${time.getHours()}:${time.getMinutes()}`;
-
-        if (!salesData[minuteKey]) {
-          salesData[minuteKey] = { normal: 0, vip: 0 };
-        }
-
-        if (details.customerType === "VIP") {
-          salesData[minuteKey].vip += details.retrievedTickets;
-        } else {
-          salesData[minuteKey].normal += details.retrievedTickets;
-        }
-      }
-    });
-
-    const grouped = Object.entries(salesData).map(([time, sales]) => ({
-      time,
-      vip: sales.vip,
-      normal: sales.normal,
-    }));
-
-    setGroupedSales(grouped);
-  }, [logs]);
-
   const lineChartData = {
-    labels: groupedSales.map((point) => point.time),
+    labels: salesByMinute.map((point) => point.time),
     datasets: [
       {
         label: "VIP Sales",
-        data: groupedSales.map((point) => point.vip),
+        data: salesByMinute.map((point) => point.vip),
         borderColor: "#FFC107",
         backgroundColor: "rgba(255, 193, 7, 0.1)",
         tension: 0.3,
@@ -74,7 +41,7 @@ const AnalyticsDashboard = () => {
       },
       {
         label: "Normal Sales",
-        data: groupedSales.map((point) => point.normal),
+        data: salesByMinute.map((point) => point.normal),
         borderColor: "#4CAF50",
         backgroundColor: "rgba(76, 175, 80, 0.1)",
         tension: 0.3,
@@ -1,13 +1,32 @@
 import React, { useContext, useState } from "react";
 import { Button, TextField, Typography, Box, Select, MenuItem, Paper } from "@mui/material";
 import { WebSocketContext } from "../context/WebSocketContext";
-import { addVendor, removeVendor, addCustomer, removeCustomer } from "../api";
+import {
+  addVendor,
+  removeVendor,
+  addCustomer,
+  removeCustomer,
+  addVendors,
+  removeVendors,
+  addCustomers,
+  removeCustomers,
+} from "../api";
+
+// Customer participant types and the priority class each one retrieves tickets in
+const CUSTOMER_TYPES = {
+  platinumCustomer: { label: "Platinum Customer", priorityClass: "PLATINUM" },
+  vipCustomer: { label: "VIP Customer", priorityClass: "VIP" },
+  memberCustomer: { label: "Member Customer", priorityClass: "MEMBER" },
+  presaleCustomer: { label: "Presale Customer", priorityClass: "PRESALE" },
+  customer: { label: "Customer", priorityClass: "GENERAL" },
+};
 
 const UserManagementPage = () => {
   const { numberOfCustomers, numberOfVIPCustomers, numberOfVendors } = useContext(WebSocketContext);
 
   const [userType, setUserType] = useState("vendor");
   const [userId, setUserId] = useState("");
+  const [count, setCount] = useState("1");
   const [error, setError] = useState(null);
   const [message, setMessage] = useState(null);
 
@@ -15,15 +34,24 @@ const UserManagementPage = () => {
   const isValidId = (id) => /^[1-9][0-9]*$/.test(id);
 
   const handleAddParticipant = async () => {
+    if (!isValidId(count)) {
+      setError("Count must be a positive number and cannot be blank.");
+      return;
+    }
+    if (Number(count) > 1) {
+      await handleBulk("add");
+      return;
+    }
+
     try {
       setError(null); // Clear previous errors
       if (userType === "vendor") {
         await addVendor();
         setMessage("Vendor added successfully.");
       } else {
-        const isVIP = userType === "vipCustomer";
-        await addCustomer(isVIP);
-        setMessage(`${isVIP ? "VIP Customer" : "Customer"} added successfully.`);
+        const { label, priorityClass } = CUSTOMER_TYPES[userType];
+        await addCustomer(priorityClass === "VIP", priorityClass);
+        setMessage(`${label} added successfully.`);
       }
     } catch (err) {
       setError(err.response?.data || "Failed to add participant. Please try again.");
@@ -43,9 +71,9 @@ const UserManagementPage = () => {
         await removeVendor(userId);
         setMessage("Vendor removed successfully.");
       } else {
-        const isVIP = userType === "vipCustomer";
-        await removeCustomer(userId, isVIP);
-        setMessage(`${isVIP ? "VIP Customer" : "Customer"} removed successfully.`);
+        const { label, priorityClass } = CUSTOMER_TYPES[userType];
+        await removeCustomer(userId, priorityClass === "VIP", priorityClass);
+        setMessage(`${label} removed successfully.`);
       }
     } catch (err) {
       setError(err.response?.data || "Failed to remove participant. Please check the ID and try again.");
@@ -53,6 +81,34 @@ const UserManagementPage = () => {
     }
   };
 
+  // Adds or removes `count` participants of the selected type in one request
+  const handleBulk = async (operation) => {
+    if (!isValidId(count)) {
+      setError("Count must be a positive number and cannot be blank.");
+      return;
+    }
+
+    try {
+      setError(null); // Clear previous errors
+      let result;
+      let label = "Vendors";
+      if (userType === "vendor") {
+        result = operation === "add" ? await addVendors(count) : await removeVendors(count);
+      } else {
+        const customerType = CUSTOMER_TYPES[userType];
+        const isVIP = customerType.priorityClass === "VIP";
+        label = `${customerType.label}s`;
+        result = operation === "add"
+          ? await addCustomers(count, isVIP, customerType.priorityClass)
+          : await removeCustomers(count, isVIP, customerType.priorityClass);
+      }
+      setMessage(`${result.count} ${label} ${operation === "add" ? "added" : "removed"} successfully.`);
+    } catch (err) {
+      setError(err.response?.data || `Failed to ${operation} participants. Please try again.`);
+      setMessage(null);
+    }
+  };
+
   return (
     <Box sx={{ maxWidth: 600, margin: "auto", mt: 4, p: 3 }}>
       <Typography variant="h4" align="center" gutterBottom>
@@ -83,11 +139,22 @@ const UserManagementPage = () => {
         <Typography variant="h6">Add Participant</Typography>
         <Select value={userType} onChange={(e) => setUserType(e.target.value)} fullWidth>
           <MenuItem value="vendor">Vendor</MenuItem>
-          <MenuItem value="customer">Customer</MenuItem>
-          <MenuItem value="vipCustomer">VIP Customer</MenuItem>
+          {Object.entries(CUSTOMER_TYPES).map(([type, { label }]) => (
+            <MenuItem key={type} value={type}>
+              {label}
+            </MenuItem>
+          ))}
         </Select>
+        <TextField
+          label="Count"
+          value={count}
+          onChange={(e) => setCount(e.target.value)}
+          fullWidth
+          error={!isValidId(count) && count !== ""}
+          helperText="Adding more than one participant uses a single request."
+        />
         <Button variant="contained" onClick={handleAddParticipant}>
-          Add Participant
+          Add Participant{Number(count) > 1 ? "s" : ""}
         </Button>
 
         <Typography variant="h6" sx={{ mt: 4 }}>
@@ -103,12 +170,18 @@ const UserManagementPage = () => {
         />
         <Select value={userType} onChange={(e) => setUserType(e.target.value)} fullWidth>
           <MenuItem value="vendor">Vendor</MenuItem>
-          <MenuItem value="customer">Customer</MenuItem>
-          <MenuItem value="vipCustomer">VIP Customer</MenuItem>
+          {Object.entries(CUSTOMER_TYPES).map(([type, { label }]) => (
+            <MenuItem key={type} value={type}>
+              {label}
+            </MenuItem>
+          ))}
         </Select>
         <Button variant="contained" color="error" onClick={handleRemoveParticipant}>
           Remove Participant
         </Button>
+        <Button variant="outlined" color="error" onClick={() => handleBulk("remove")}>
+          Remove {isValidId(count) ? count : ""} of This Type
+        </Button>
       </Box>
     </Box>
   );
@@ -1,9 +1,26 @@
 import React, { useContext, useRef, useEffect } from "react";
 import { WebSocketContext } from "../context/WebSocketContext";
-import { startSimulation, stopSimulation } from "../api";
+import {
+  startSimulation,
+  stopSimulation,
+  runDiscreteEventSimulation,
+  startLoadProfile,
+  fetchLoadProfileReport,
+} from "../api";
 import { validateField } from "../utils/validation";
 import { formatLogMessage } from "../utils/logFormatter";
-import { TextField, Button, Box, Alert, Typography, Paper, Card, CardContent } from "@mui/material";
+import { TextField, Button, Box, Alert, Typography, Paper, Card, CardContent, MenuItem } from "@mui/material";
+
+// A flash sale: ten times the usual demand for the first 30 seconds, then decaying back down
+const DEFAULT_LOAD_PROFILE = {
+  name: "flash-sale",
+  stages: [
+    { name: "warm-up", durationMillis: 10000, vendors: 5, customers: 10, vipCustomers: 2, ramp: true },
+    { name: "spike", durationMillis: 30000, vendors: 5, customers: 100, vipCustomers: 20 },
+    { name: "decay", durationMillis: 30000, vendors: 5, customers: 20, vipCustomers: 4, ramp: true },
+    { name: "steady", durationMillis: 20000, vendors: 5, customers: 10, vipCustomers: 2 },
+  ],
+};
 
 const SimulationPage = () => {
   const {
@@ -28,6 +45,12 @@ const SimulationPage = () => {
   const [message, setMessage] = React.useState(null);
   const [errors, setErrors] = React.useState({});
   const [isSubmitting, setIsSubmitting] = React.useState(false);
+  const [threadMode, setThreadMode] = React.useState("PLATFORM");
+  const [virtualMinutes, setVirtualMinutes] = React.useState(60);
+  const [seed, setSeed] = React.useState("");
+  const [virtualRun, setVirtualRun] = React.useState(null);
+  const [loadProfileText, setLoadProfileText] = React.useState(JSON.stringify(DEFAULT_LOAD_PROFILE, null, 2));
+  const [loadProfileReport, setLoadProfileReport] = React.useState(null);
 
   const logContainerRef = useRef(null);
   const [isScrolled, setIsScrolled] = React.useState(false);
@@ -38,6 +61,19 @@ const SimulationPage = () => {
     }
   }, [logs, isScrolled]);
 
+  // Refresh the load profile report while a profile is running
+  useEffect(() => {
+    if (!loadProfileReport?.isRunning) return undefined;
+    const timer = setInterval(async () => {
+      try {
+        setLoadProfileReport(await fetchLoadProfileReport());
+      } catch (error) {
+        console.error("Failed to fetch load profile report:", error);
+      }
+    }, 2000);
+    return () => clearInterval(timer);
+  }, [loadProfileReport?.isRunning]);
+
   const handleScroll = () => {
     if (logContainerRef.current) {
       const { scrollTop, scrollHeight, clientHeight } = logContainerRef.current;
@@ -78,7 +114,8 @@ const SimulationPage = () => {
       await startSimulation(
         Number(numberOfCustomers),
         Number(numberOfVendors),
-        Number(numberOfVIPCustomers)
+        Number(numberOfVIPCustomers),
+        threadMode
       );
       setMessage({ type: "success", text: "Simulation started successfully." });
     } catch (error) {
@@ -92,6 +129,70 @@ const SimulationPage = () => {
     }
   };
 
+  const handleVirtualRun = async () => {
+    const customerError = validateField("numberOfCustomers", numberOfCustomers);
+    const vipCustomerError = validateField("numberOfVIPCustomers", numberOfVIPCustomers);
+    const vendorError = validateField("numberOfVendors", numberOfVendors);
+
+    if (customerError || vipCustomerError || vendorError) {
+      setErrors({
+        numberOfCustomers: customerError,
+        numberOfVIPCustomers: vipCustomerError,
+        numberOfVendors: vendorError,
+      });
+      return;
+    }
+
+    setIsSubmitting(true);
+
+    try {
+      const result = await runDiscreteEventSimulation(
+        Number(numberOfCustomers),
+        Number(numberOfVendors),
+        Number(numberOfVIPCustomers),
+        Number(virtualMinutes) * 60000,
+        seed
+      );
+      setVirtualRun(result);
+      setMessage({ type: "success", text: "Virtual-time run finished." });
+    } catch (error) {
+      console.error("Failed to run simulation in virtual time:", error);
+      setMessage({
+        type: "error",
+        text: error.response?.data || "Failed to run simulation in virtual time.",
+      });
+    } finally {
+      setIsSubmitting(false);
+    }
+  };
+
+  const handleLoadProfile = async () => {
+    let loadProfile;
+    try {
+      loadProfile = JSON.parse(loadProfileText);
+    } catch (error) {
+      setMessage({ type: "error", text: "Load profile is not valid JSON." });
+      return;
+    }
+
+    setIsSubmitting(true);
+    setLogs([]);
+
+    try {
+      await startLoadProfile(loadProfile, threadMode);
+      setLoadProfileReport(await fetchLoadProfileReport());
+      setMessage({ type: "success", text: "Load profile started successfully." });
+    } catch (error) {
+      console.error("Failed to start load profile:", error);
+      setMessage({
+        type: "error",
+        text: error.response?.data || "Failed to start load profile.",
+      });
+    } finally {
+      setIsSubmitting(false);
+    }
+  };
+
   const handleStop = async () => {
     setIsSubmitting(true);
 
@@ -233,6 +334,20 @@ const SimulationPage = () => {
             error={!!errors.numberOfVendors}
             helperText={errors.numberOfVendors}
           />
+          <TextField
+            label="Participant Threads"
+            name="threadMode"
+            value={threadMode}
+            onChange={(e) => setThreadMode(e.target.value)}
+            fullWidth
+            select
+            sx={{ mb: 2 }}
+            disabled={simulationStatus || isSubmitting}
+          >
+            <MenuItem value="PLATFORM">Platform threads</MenuItem>
+            <MenuItem value="VIRTUAL">Virtual threads</MenuItem>
+            <MenuItem value="SCHEDULED">Shared scheduler</MenuItem>
+          </TextField>
         </Box>
 
         <Box sx={{ display: "flex", flexWrap: "wrap", gap: 2, justifyContent: "center" }}>
@@ -268,6 +383,113 @@ const SimulationPage = () => {
             Reset
           </Button>
         </Box>
+
+        <Card sx={{ width: "100%" }}>
+          <CardContent>
+            <Typography variant="h5" gutterBottom align="center">
+              Virtual-Time Run
+            </Typography>
+            <Box sx={{ display: "flex", flexWrap: "wrap", gap: 2, justifyContent: "center", alignItems: "center" }}>
+              <TextField
+                label="Simulated Minutes"
+                type="number"
+                value={virtualMinutes}
+                onChange={(e) => setVirtualMinutes(e.target.value)}
+                disabled={isSubmitting}
+              />
+              <TextField
+                label="Seed (optional)"
+                type="number"
+                value={seed}
+                onChange={(e) => setSeed(e.target.value)}
+                disabled={isSubmitting}
+              />
+              <Button
+                variant="contained"
+                color="primary"
+                onClick={handleVirtualRun}
+                disabled={isSubmitting || !(virtualMinutes > 0)}
+              >
+                Run in Virtual Time
+              </Button>
+            </Box>
+            {virtualRun && (
+              <Box
+                sx={{
+                  display: "grid",
+                  gridTemplateColumns: "1fr 1fr",
+                  gap: 2,
+                  justifyItems: "center",
+                  marginTop: 2,
+                }}
+              >
+                <Typography variant="body1">
+                  Tickets Added: <strong>{virtualRun.totalTicketsAdded}</strong>
+                </Typography>
+                <Typography variant="body1">
+                  Tickets Retrieved: <strong>{virtualRun.totalTicketsRetrieved}</strong>
+                </Typography>
+                <Typography variant="body1">
+                  VIP Retrievals: <strong>{virtualRun.totalVIPRetrievals}</strong>
+                </Typography>
+                <Typography variant="body1">
+                  Normal Retrievals: <strong>{virtualRun.totalNormalRetrievals}</strong>
+                </Typography>
+                <Typography variant="body1">
+                  Retrieval Timeouts: <strong>{virtualRun.retrievalTimeouts}</strong>
+                </Typography>
+                <Typography variant="body1">
+                  Run Time: <strong>{virtualRun.elapsedMillis} ms</strong> (seed {virtualRun.seed})
+                </Typography>
+              </Box>
+            )}
+          </CardContent>
+        </Card>
+
+        <Card sx={{ width: "100%" }}>
+          <CardContent>
+            <Typography variant="h5" gutterBottom align="center">
+              Load Profile
+            </Typography>
+            <TextField
+              label="Stages (JSON)"
+              value={loadProfileText}
+              onChange={(e) => setLoadProfileText(e.target.value)}
+              fullWidth
+              multiline
+              minRows={6}
+              maxRows={16}
+              sx={{ mb: 2, fontFamily: "monospace" }}
+              disabled={simulationStatus || isSubmitting}
+            />
+            <Box sx={{ display: "flex", justifyContent: "center" }}>
+              <Button
+                variant="contained"
+                color="primary"
+                onClick={handleLoadProfile}
+                disabled={simulationStatus || isSubmitting}
+              >
+                Run Load Profile
+              </Button>
+            </Box>
+            {loadProfileReport && (
+              <Box sx={{ marginTop: 2 }}>
+                <Typography variant="body1" align="center" sx={{ mb: 1 }}>
+                  {loadProfileReport.name}: {loadProfileReport.stages.length} of {loadProfileReport.totalStages} stages
+                  completed{loadProfileReport.isRunning ? " (running)" : ""}
+                </Typography>
+                {loadProfileReport.stages.map((stage) => (
+                  <Typography key={stage.name} variant="body2" align="center">
+                    <strong>{stage.name}</strong>: {stage.vendors} vendors, {stage.customers} customers,{" "}
+                    {stage.vipCustomers} VIP customers — {stage.ticketsRetrievedPerSecond.toFixed(1)} tickets/s,{" "}
+                    {stage.retrievalTimeouts} timeouts, p50 {stage.waitTimes.GENERAL.p50Millis.toFixed(0)} ms,
+                    p99 {stage.waitTimes.GENERAL.p99Millis.toFixed(0)} ms
+                  </Typography>
+                ))}
+              </Box>
+            )}
+          </CardContent>
+        </Card>
       </Box>
 
       <Paper
@@ -1,5 +1,13 @@
+// Formats an epoch-millisecond log timestamp as local "YYYY-MM-DD HH:mm:ss"
+const formatTimestamp = (millis) => {
+    const time = new Date(millis);
+    const pad = (value) => String(value).padStart(2, "0");
+    return `${time.getFullYear()}-${pad(time.getMonth() + 1)}-${pad(time.getDate())} `
+        + `${pad(time.getHours())}:${pad(time.getMinutes())}:${pad(time.getSeconds())}`;
+};
+
 export const formatLogMessage = (log) => {
-    const { timestamp, action, details } = log;
+    const { action, details } = log;
   
     let message = "";
     let color = "black";
@@ -8,6 +16,8 @@ export const formatLogMessage = (log) => {
     if (action === "TICKET_ADD" || action === "USER_UPDATE") {
         return null; 
     }
+
+    const timestamp = formatTimestamp(log.timestamp);
   
     switch (action) {
         case "TICKET_ADD_VENDOR":
@@ -30,6 +40,26 @@ export const formatLogMessage = (log) => {
             color = "green";
             break;
 
+        case "VENDORS_ADDED":
+            message = `${timestamp} - ${details.count} Vendors added.`;
+            color = "green";
+            break;
+
+        case "VENDORS_REMOVED":
+            message = `${timestamp} - ${details.count} Vendors removed.`;
+            color = "red";
+            break;
+
+        case "CUSTOMERS_ADDED":
+            message = `${timestamp} - ${details.count} ${details.type}s added.`;
+            color = details.type === "VIP Customer" ? "#B8860B" : "green";
+            break;
+
+        case "CUSTOMERS_REMOVED":
+            message = `${timestamp} - ${details.count} ${details.type}s removed.`;
+            color = "red";
+            break;
+
         case "VENDOR_REMOVED":
             message = `${timestamp} - Vendor (${details.id}) removed.`;
             color = "red";
@@ -51,9 +81,31 @@ export const formatLogMessage = (log) => {
             break;
     
         case "SIMULATION_STARTED":
-            message = `${timestamp} - Simulation started with ${details.numberOfCustomers} customers, ${details.numberOfVIPCustomers} VIP customers, and ${details.numberOfVendors} vendors.`;
+            message = details.loadProfile
+                ? `${timestamp} - Simulation started with load profile ${details.loadProfile} (${details.stages} stages).`
+                : `${timestamp} - Simulation started with ${details.numberOfCustomers} customers, ${details.numberOfVIPCustomers} VIP customers, and ${details.numberOfVendors} vendors.`;
+            color = "blue";
+            break;
+
+        case "LOAD_STAGE_STARTED":
+            message = `${timestamp} - Load stage ${details.index} (${details.stage}) started.`;
+            color = "blue";
+            break;
+
+        case "LOAD_STAGE_COMPLETED":
+            message = `${timestamp} - Load stage ${details.stage} completed: ${details.ticketsRetrievedPerSecond.toFixed(1)} tickets/s, ${details.retrievalTimeouts} timeouts, p99 wait ${details.p99Millis.toFixed(0)} ms.`;
             color = "blue";
             break;
+
+        case "LOAD_PROFILE_COMPLETED":
+            message = `${timestamp} - Load profile ${details.loadProfile} completed after ${details.stages} stages.`;
+            color = "blue";
+            break;
+
+        case "LOAD_PROFILE_FAILED":
+            message = `${timestamp} - Load profile ${details.loadProfile} failed after ${details.stages} stages. Reason: ${details.errorMessage}.`;
+            color = "red";
+            break;
     
         case "SIMULATION_STOPPED":
             message = `${timestamp} - Simulation stopped.`;
@@ -7,7 +7,7 @@ export const validateField = (name, value) => {
     return "Value cannot be negative";
   }
 
-  if (name === "numberOfVIPCustomers") {
+  if (name === "numberOfVIPCustomers" || name === "customerRetrievalTimeout" || name === "vendorBackpressureTimeout") {
     return null;
   }
 